@@ -0,0 +1,7 @@
+package com.example.authclient;
+
+import java.util.List;
+
+// /auths/claims 응답과 같은 내용
+public record AuthClaims(String userId, List<String> roles) {
+}
@@ -0,0 +1,85 @@
+package com.example.authclient;
+
+/**
+ * auth-service 토큰 검증 클라이언트 (다른 서비스에 넣는 라이브러리).
+ * <p>
+ * auth-service가 ES256 + kid로 서명한 토큰은 /auths/jwks 공개키로 로컬에서 검증한다 (LocalTokenVerifier, claims-cache).
+ * validToken은 user:events 스트림으로 받은 폐기(모든 기기 로그아웃 세대, 탈퇴)도 확인하며,
+ * 스트림을 설정하지 않았거나 따라잡지 못한 동안은 원격으로 검증한다.
+ * 소셜 토큰, kid 없는 HS512 토큰(전환 전 발급), JWKS에 없는 kid는 /auths/validToken, /auths/claims를 호출한다.
+ * 스레드 안전하며 서비스당 하나를 만들어 공유하고, 종료 시 close한다.
+ */
+public class AuthClient implements AutoCloseable {
+
+    private final RemoteAuthApi remote;
+    // local-verification=false면 null
+    private final LocalTokenVerifier verifier;
+    // events-redis-uri가 없으면 null
+    private final Revocations revocations;
+    private final UserEventStream events;
+
+    public AuthClient(AuthClientProperties properties) {
+        this.remote = new RemoteAuthApi(properties);
+        if (!properties.isLocalVerification()) {
+            this.verifier = null;
+            this.revocations = null;
+            this.events = null;
+            return;
+        }
+        this.verifier = new LocalTokenVerifier(new JwksKeys(remote, properties.getJwksRefreshInterval()), properties);
+        if (properties.getEventsRedisUri() != null && !properties.getEventsRedisUri().isBlank()) {
+            this.revocations = new Revocations(properties.getEventsReplay());
+            this.events = new UserEventStream(properties, revocations);
+        } else {
+            this.revocations = null;
+            this.events = null;
+        }
+    }
+
+    // /auths/validToken(accessToken) 상태 코드: 1 유효, 2 만료/폐기된 세대, 3 잘못된 토큰
+    public int validToken(String token) {
+        if (verifier != null && events != null && events.isCurrent()) {
+            try {
+                VerifiedToken verified = verifier.verify(token);
+                if (verified != null) {
+                    long now = System.currentTimeMillis();
+                    if (verified.premature(now)) {
+                        return 3;
+                    }
+                    return verified.expired(now) || revocations.revoked(verified) ? 2 : 1;
+                }
+            } catch (LocalTokenVerifier.InvalidTokenException e) {
+                return 3;
+            }
+        }
+        return remote.validToken(token);
+    }
+
+    // /auths/claims 응답, /auths/claims처럼 서명/만료만 확인 (폐기 확인은 validToken)
+    public AuthClaims claims(String token) {
+        if (verifier != null) {
+            VerifiedToken verified;
+            try {
+                verified = verifier.verify(token);
+            } catch (LocalTokenVerifier.InvalidTokenException e) {
+                throw new AuthClientException("잘못된 토큰");
+            }
+            if (verified != null) {
+                long now = System.currentTimeMillis();
+                if (verified.expired(now) || verified.premature(now)) {
+                    throw new AuthClientException("만료되었거나 아직 유효하지 않은 토큰");
+                }
+                return verified.claims();
+            }
+        }
+        return remote.claims(token);
+    }
+
+    @Override
+    public void close() {
+        if (events != null) {
+            events.close();
+        }
+        remote.close();
+    }
+}
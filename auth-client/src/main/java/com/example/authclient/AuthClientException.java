@@ -0,0 +1,13 @@
+package com.example.authclient;
+
+// auth-service 원격 호출 실패 (연결, 타임아웃, 200이 아닌 응답)
+public class AuthClientException extends RuntimeException {
+
+    public AuthClientException(String message) {
+        super(message);
+    }
+
+    public AuthClientException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,41 @@
+package com.example.authclient;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.Duration;
+
+// AuthClient 설정, 스프링 서비스에서는 @ConfigurationProperties("auth-client") 빈으로 바인딩해서 넘기면 됨
+@Getter
+@Setter
+public class AuthClientProperties {
+
+    // auth-service 주소 (예: http://auth-service)
+    private String baseUrl;
+
+    // 원격 엔드포인트 호출 타임아웃
+    private Duration remoteTimeout = Duration.ofSeconds(2);
+
+    // ES256 토큰 로컬 검증, false면 모든 토큰을 원격 검증
+    private boolean localVerification = true;
+
+    // 모르는 kid를 만났을 때 /auths/jwks를 다시 받는 최소 간격 (그 사이 모르는 kid는 원격 검증)
+    private Duration jwksRefreshInterval = Duration.ofSeconds(30);
+
+    // 서명을 확인한 토큰의 클레임 캐시, 만료/폐기는 꺼낼 때마다 다시 확인
+    private long claimsCacheMaxSize = 10_000;
+    private Duration claimsCacheTtl = Duration.ofMinutes(10);
+
+    // auth-service와 같은 Redis의 user:events 스트림 (redis://[user:password@]host:port, redis-sentinel://...)
+    // 비어 있으면 폐기(모든 기기 로그아웃, 탈퇴)를 알 수 없으므로 validToken은 원격 검증
+    private String eventsRedisUri;
+
+    // 시작 시 이만큼 이전 이벤트부터 읽음, 폐기 기록 유지 시간 (accessToken 수명 2시간)
+    private Duration eventsReplay = Duration.ofHours(2);
+
+    // XREAD BLOCK
+    private Duration eventsPollTimeout = Duration.ofSeconds(1);
+
+    // 마지막 스트림 읽기 뒤 이 시간이 지나면(Redis 장애) 놓친 폐기가 있을 수 있으므로 validToken은 원격 검증
+    private Duration eventsStaleAfter = Duration.ofSeconds(10);
+}
@@ -0,0 +1,98 @@
+package com.example.authclient;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.math.BigInteger;
+import java.security.AlgorithmParameters;
+import java.security.GeneralSecurityException;
+import java.security.KeyFactory;
+import java.security.PublicKey;
+import java.security.spec.ECGenParameterSpec;
+import java.security.spec.ECParameterSpec;
+import java.security.spec.ECPoint;
+import java.security.spec.ECPublicKeySpec;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * /auths/jwks의 ES256 공개키 (kid별).
+ * <p>
+ * 처음 필요할 때 받고, 모르는 kid를 만나면 다시 받는다 (auth-service 키 교체).
+ * 다시 받기는 jwks-refresh-interval에 한 번만 하므로 모르는 kid 토큰이 몰려도 /auths/jwks 호출은 늘지 않고,
+ * 그동안 그 토큰은 원격 검증으로 넘어간다. 받기에 실패하면 이전 키를 그대로 쓴다.
+ */
+final class JwksKeys {
+
+    private static final System.Logger log = System.getLogger(JwksKeys.class.getName());
+    private static final ECParameterSpec P256 = p256();
+
+    private final RemoteAuthApi remote;
+    private final long refreshIntervalNanos;
+    private volatile Map<String, PublicKey> keys = Map.of();
+    private volatile long fetchedAt;
+    private volatile boolean fetched;
+
+    JwksKeys(RemoteAuthApi remote, Duration refreshInterval) {
+        this.remote = remote;
+        this.refreshIntervalNanos = refreshInterval.toNanos();
+    }
+
+    // 다시 받아도 없으면 null
+    PublicKey get(String kid) {
+        PublicKey key = keys.get(kid);
+        if (key != null) {
+            return key;
+        }
+        refresh();
+        return keys.get(kid);
+    }
+
+    private synchronized void refresh() {
+        long now = System.nanoTime();
+        if (fetched && now - fetchedAt < refreshIntervalNanos) {
+            return;
+        }
+        fetched = true;
+        fetchedAt = now;
+        try {
+            keys = parse(remote.jwks());
+        } catch (AuthClientException e) {
+            log.log(System.Logger.Level.WARNING, "JWKS 갱신 실패, 이전 키 사용: " + e.getMessage());
+        }
+    }
+
+    // EC P-256 서명 키만 (모르는 종류는 건너뜀)
+    private static Map<String, PublicKey> parse(JsonNode jwks) {
+        Map<String, PublicKey> parsed = new HashMap<>();
+        for (JsonNode jwk : jwks.path("keys")) {
+            String kid = jwk.path("kid").asText(null);
+            if (kid == null || !"EC".equals(jwk.path("kty").asText()) || !"P-256".equals(jwk.path("crv").asText())
+                    || !"ES256".equals(jwk.path("alg").asText("ES256"))) {
+                continue;
+            }
+            try {
+                ECPoint point = new ECPoint(coordinate(jwk.path("x").asText()), coordinate(jwk.path("y").asText()));
+                parsed.put(kid, KeyFactory.getInstance("EC").generatePublic(new ECPublicKeySpec(point, P256)));
+            } catch (GeneralSecurityException | IllegalArgumentException e) {
+                log.log(System.Logger.Level.WARNING, "JWKS 키를 읽을 수 없음: kid=" + kid + ", " + e.getMessage());
+            }
+        }
+        return Map.copyOf(parsed);
+    }
+
+    private static BigInteger coordinate(String value) {
+        return new BigInteger(1, Base64.getUrlDecoder().decode(value));
+    }
+
+    private static ECParameterSpec p256() {
+        try {
+            AlgorithmParameters parameters = AlgorithmParameters.getInstance("EC");
+            parameters.init(new ECGenParameterSpec("secp256r1"));
+            return parameters.getParameterSpec(ECParameterSpec.class);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("P-256 곡선을 쓸 수 없음", e);
+        }
+    }
+}
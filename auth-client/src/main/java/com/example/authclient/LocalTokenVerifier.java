@@ -0,0 +1,115 @@
+package com.example.authclient;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.PublicKey;
+import java.security.Signature;
+import java.util.Base64;
+
+/**
+ * auth-service가 ES256 + kid로 서명한 토큰의 로컬 검증 (서명, 형식).
+ * <p>
+ * 서명을 확인한 토큰은 claims-cache에 두고 다시 검증하지 않는다 (만료/폐기는 호출자가 매번 확인).
+ * 서명이 틀린 토큰은 캐시하지 않는다.
+ */
+final class LocalTokenVerifier {
+
+    private static final String SIGNATURE_ALGORITHM = "SHA256withECDSAinP1363Format";
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final JwksKeys keys;
+    private final Cache<String, VerifiedToken> verified;
+
+    LocalTokenVerifier(JwksKeys keys, AuthClientProperties properties) {
+        this.keys = keys;
+        this.verified = Caffeine.newBuilder()
+                .maximumSize(properties.getClaimsCacheMaxSize())
+                .expireAfterWrite(properties.getClaimsCacheTtl())
+                .build();
+    }
+
+    // 원격 검증 대상(소셜 토큰, kid 없는 HS512 토큰, JWKS에 없는 kid)이면 null, 형식/서명이 틀리면 InvalidTokenException
+    VerifiedToken verify(String token) {
+        VerifiedToken cached = verified.getIfPresent(token);
+        if (cached != null) {
+            return cached;
+        }
+        // 소셜 토큰은 {provider}:{아이디}:... 형식, JWT에는 ':'가 없음
+        if (token.indexOf(':') >= 0) {
+            return null;
+        }
+        int first = token.indexOf('.');
+        int second = token.indexOf('.', first + 1);
+        if (first <= 0 || second < 0 || token.indexOf('.', second + 1) >= 0) {
+            throw InvalidTokenException.INSTANCE;
+        }
+        JsonNode header = json(token, 0, first);
+        String kid = header.path("kid").asText(null);
+        String alg = header.path("alg").asText();
+        if (kid == null) {
+            if ("HS512".equals(alg)) {
+                return null;
+            }
+            throw InvalidTokenException.INSTANCE;
+        }
+        if (!"ES256".equals(alg)) {
+            throw InvalidTokenException.INSTANCE;
+        }
+        PublicKey key = keys.get(kid);
+        if (key == null) {
+            return null;
+        }
+        if (!verifySignature(key, token, second)) {
+            throw InvalidTokenException.INSTANCE;
+        }
+        JsonNode payload = json(token, first + 1, second);
+        String subject = payload.path("sub").asText(null);
+        if (subject == null) {
+            throw InvalidTokenException.INSTANCE;
+        }
+        VerifiedToken result = new VerifiedToken(subject, payload.path("role").asText(null),
+                payload.path("gen").asLong(0), payload.path("iat").asLong(0),
+                payload.path("exp").asLong(0), payload.path("nbf").asLong(0));
+        verified.put(token, result);
+        return result;
+    }
+
+    private static boolean verifySignature(PublicKey key, String token, int dot) {
+        try {
+            byte[] signature = Base64.getUrlDecoder().decode(token.substring(dot + 1));
+            Signature verifier = Signature.getInstance(SIGNATURE_ALGORITHM);
+            verifier.initVerify(key);
+            verifier.update(token.substring(0, dot).getBytes(StandardCharsets.US_ASCII));
+            return verifier.verify(signature);
+        } catch (GeneralSecurityException | IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    private JsonNode json(String token, int from, int to) {
+        try {
+            JsonNode node = objectMapper.readTree(Base64.getUrlDecoder().decode(token.substring(from, to)));
+            if (node == null || !node.isObject()) {
+                throw InvalidTokenException.INSTANCE;
+            }
+            return node;
+        } catch (IOException | IllegalArgumentException e) {
+            throw InvalidTokenException.INSTANCE;
+        }
+    }
+
+    // 형식/서명이 틀린 토큰 (validToken 3), 스택 없이 하나만 씀
+    static final class InvalidTokenException extends RuntimeException {
+        static final InvalidTokenException INSTANCE = new InvalidTokenException();
+
+        private InvalidTokenException() {
+            super("잘못된 토큰", null, false, false);
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package com.example.authclient;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+// auth-service HTTP 엔드포인트 (/auths/validToken, /auths/claims, /auths/jwks)
+final class RemoteAuthApi {
+
+    private final HttpClient httpClient;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final String baseUrl;
+    private final Duration timeout;
+
+    RemoteAuthApi(AuthClientProperties properties) {
+        this.baseUrl = properties.getBaseUrl().endsWith("/")
+                ? properties.getBaseUrl().substring(0, properties.getBaseUrl().length() - 1)
+                : properties.getBaseUrl();
+        this.timeout = properties.getRemoteTimeout();
+        this.httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(timeout)
+                .build();
+    }
+
+    int validToken(String token) {
+        return post("/auths/validToken", token).path("statusNum").asInt(3);
+    }
+
+    AuthClaims claims(String token) {
+        JsonNode body = post("/auths/claims", token);
+        List<String> roles = new ArrayList<>();
+        body.path("roles").forEach(role -> roles.add(role.asText()));
+        return new AuthClaims(body.path("userId").asText(null), List.copyOf(roles));
+    }
+
+    // JWK Set ({"keys":[...]})
+    JsonNode jwks() {
+        return send(HttpRequest.newBuilder(URI.create(baseUrl + "/auths/jwks")).GET());
+    }
+
+    private JsonNode post(String path, String token) {
+        try {
+            String body = objectMapper.writeValueAsString(Map.of("token", token));
+            return send(HttpRequest.newBuilder(URI.create(baseUrl + path))
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(body)));
+        } catch (IOException e) {
+            throw new AuthClientException(path + " 요청 생성 실패", e);
+        }
+    }
+
+    private JsonNode send(HttpRequest.Builder request) {
+        HttpRequest built = request.timeout(timeout).build();
+        try {
+            HttpResponse<String> response = httpClient.send(built, HttpResponse.BodyHandlers.ofString());
+            if (response.statusCode() != 200) {
+                throw new AuthClientException(built.uri().getPath() + " 응답 " + response.statusCode());
+            }
+            return objectMapper.readTree(response.body());
+        } catch (IOException e) {
+            throw new AuthClientException(built.uri().getPath() + " 호출 실패", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new AuthClientException(built.uri().getPath() + " 호출 중단", e);
+        }
+    }
+
+    void close() {
+        httpClient.close();
+    }
+}
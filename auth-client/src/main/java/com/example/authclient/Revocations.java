@@ -0,0 +1,59 @@
+package com.example.authclient;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * user:events 스트림으로 받은 토큰 폐기 (UserEventStream).
+ * <ul>
+ *     <li>LOGOUT_ALL(g): 그 사용자의 세대 g 미만 토큰 폐기 (auth-service의 세대 확인과 같음)</li>
+ *     <li>DELETE: 탈퇴 시각(레코드 id) 이전에 발급된 토큰 폐기</li>
+ * </ul>
+ * 폐기된 accessToken은 events-replay(accessToken 수명) 안에 만료되므로 기록도 그만큼만 유지한다.
+ */
+final class Revocations {
+
+    private final Cache<String, Long> generations;
+    private final Cache<String, Long> deletedAt;
+
+    Revocations(Duration retention) {
+        this.generations = Caffeine.newBuilder().expireAfterWrite(retention).build();
+        this.deletedAt = Caffeine.newBuilder().expireAfterWrite(retention).build();
+    }
+
+    // 필드: t=종류, o=owner, g=세대 (auth-service UserEvent), 모르는 종류는 건너뜀
+    void apply(Map<String, String> fields, long atMillis) {
+        String owner = fields.get("o");
+        if (owner == null) {
+            return;
+        }
+        switch (String.valueOf(fields.get("t"))) {
+            case "LOGOUT_ALL" -> {
+                String generation = fields.get("g");
+                if (generation != null) {
+                    try {
+                        generations.asMap().merge(owner, Long.parseLong(generation), Math::max);
+                    } catch (NumberFormatException ignored) {
+                        // 형식이 다른 이벤트는 건너뜀
+                    }
+                }
+            }
+            case "DELETE" -> deletedAt.asMap().merge(owner, atMillis, Math::max);
+            default -> {
+            }
+        }
+    }
+
+    boolean revoked(VerifiedToken token) {
+        String owner = token.owner();
+        Long generation = generations.getIfPresent(owner);
+        if (generation != null && token.generation() < generation) {
+            return true;
+        }
+        Long deleted = deletedAt.getIfPresent(owner);
+        return deleted != null && token.issuedAt() * 1000 <= deleted;
+    }
+}
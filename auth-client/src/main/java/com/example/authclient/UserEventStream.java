@@ -0,0 +1,122 @@
+package com.example.authclient;
+
+import io.lettuce.core.RedisClient;
+import io.lettuce.core.RedisException;
+import io.lettuce.core.RedisURI;
+import io.lettuce.core.StreamMessage;
+import io.lettuce.core.XReadArgs;
+import io.lettuce.core.api.StatefulRedisConnection;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * auth-service의 user:events 스트림을 읽어 {@link Revocations}에 반영한다.
+ * <p>
+ * 인스턴스마다 모든 이벤트가 필요하고 ack할 필요가 없으므로 컨슈머 그룹 없이 XREAD로 읽는다 (Redis에 남는 상태 없음).
+ * 시작 시 events-replay 이전 위치(레코드 id = 밀리초)부터 읽어, 시작 전에 폐기된 토큰도 로컬 검증에서 거절한다.
+ * 끝까지 따라잡기 전이나 마지막 읽기 뒤 events-stale-after가 지나면 {@link #isCurrent()}가 false이고,
+ * 그동안 AuthClient는 validToken을 원격으로 검증한다.
+ */
+final class UserEventStream implements AutoCloseable {
+
+    static final String STREAM = "user:events";
+
+    private static final System.Logger log = System.getLogger(UserEventStream.class.getName());
+    private static final int BATCH_SIZE = 500;
+    private static final Duration RETRY_DELAY = Duration.ofSeconds(1);
+
+    private final Revocations revocations;
+    private final RedisClient client;
+    private final Duration pollTimeout;
+    private final long staleAfterNanos;
+    private final Thread reader;
+    private volatile boolean closed;
+    private volatile boolean caughtUp;
+    private volatile long lastReadAt;
+    private String lastId;
+
+    UserEventStream(AuthClientProperties properties, Revocations revocations) {
+        this.revocations = revocations;
+        this.pollTimeout = properties.getEventsPollTimeout();
+        this.staleAfterNanos = properties.getEventsStaleAfter().toNanos();
+        RedisURI uri = RedisURI.create(properties.getEventsRedisUri());
+        // XREAD BLOCK 동안 명령 타임아웃이 먼저 나지 않도록
+        uri.setTimeout(pollTimeout.plus(properties.getRemoteTimeout()));
+        this.client = RedisClient.create(uri);
+        this.lastId = (System.currentTimeMillis() - properties.getEventsReplay().toMillis()) + "-0";
+        this.reader = Thread.ofPlatform().name("auth-client-user-events").daemon().unstarted(this::run);
+        reader.start();
+    }
+
+    boolean isCurrent() {
+        return caughtUp && System.nanoTime() - lastReadAt < staleAfterNanos;
+    }
+
+    @SuppressWarnings("unchecked") // xread(args, StreamOffset...) 가변 인자
+    private void run() {
+        StatefulRedisConnection<String, String> connection = null;
+        while (!closed) {
+            try {
+                if (connection == null) {
+                    connection = client.connect();
+                }
+                // 따라잡는 동안은 기다리지 않고 바로 다음 묶음을 읽음
+                XReadArgs args = XReadArgs.Builder.count(BATCH_SIZE);
+                if (caughtUp) {
+                    args.block(pollTimeout);
+                }
+                List<StreamMessage<String, String>> messages =
+                        connection.sync().xread(args, XReadArgs.StreamOffset.from(STREAM, lastId));
+                for (StreamMessage<String, String> message : messages) {
+                    revocations.apply(message.getBody(), millis(message.getId()));
+                    lastId = message.getId();
+                }
+                lastReadAt = System.nanoTime();
+                if (messages.size() < BATCH_SIZE) {
+                    caughtUp = true;
+                }
+            } catch (RedisException e) {
+                if (closed) {
+                    break;
+                }
+                log.log(System.Logger.Level.DEBUG, "user:events 읽기 실패: " + e.getMessage());
+                if (connection != null) {
+                    connection.closeAsync();
+                    connection = null;
+                }
+                sleep();
+            }
+        }
+        if (connection != null) {
+            // close()의 interrupt를 지우고, client.shutdown 전에 닫음
+            Thread.interrupted();
+            connection.close();
+        }
+    }
+
+    // 스트림 id (밀리초-순번)
+    private static long millis(String id) {
+        return Long.parseLong(id.substring(0, id.indexOf('-')));
+    }
+
+    private static void sleep() {
+        try {
+            Thread.sleep(RETRY_DELAY);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        reader.interrupt();
+        try {
+            reader.join(pollTimeout.plus(RETRY_DELAY).toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        client.shutdown();
+    }
+}
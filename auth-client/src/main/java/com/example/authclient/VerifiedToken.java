@@ -0,0 +1,23 @@
+package com.example.authclient;
+
+import java.util.List;
+
+// 서명을 확인한 ES256 토큰의 클레임 (시각은 epoch 초, 0이면 클레임 없음), owner는 USER:아이디
+record VerifiedToken(String userId, String role, long generation, long issuedAt, long expiresAt, long notBefore) {
+
+    String owner() {
+        return "USER:" + userId;
+    }
+
+    boolean expired(long nowMillis) {
+        return expiresAt != 0 && nowMillis > expiresAt * 1000;
+    }
+
+    boolean premature(long nowMillis) {
+        return notBefore != 0 && nowMillis < notBefore * 1000;
+    }
+
+    AuthClaims claims() {
+        return new AuthClaims(userId, role != null ? List.of(role) : List.of());
+    }
+}
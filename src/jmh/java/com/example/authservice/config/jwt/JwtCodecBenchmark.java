@@ -0,0 +1,105 @@
+package com.example.authservice.config.jwt;
+
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.security.SignatureException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+// 토큰 서명/검증 비용 (jwt.codec별), 할당량은 gc 프로파일러의 gc.alloc.rate.norm
+// setUp에서 두 구현의 출력이 같고 서로의 토큰을 같은 결과로 검증하는지 먼저 확인
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class JwtCodecBenchmark {
+
+    // 64바이트 HS512 테스트 키 (운영 키 아님, BenchmarkFixtures와 같음)
+    private static final String SECRET_KEY = "AAECAwQFBgcICQoLDA0ODxAREhMUFRYXGBkaGxwdHh8gISIjJCUmJygpKissLS4vMDEyMzQ1Njc4OTo7PD0+Pw==";
+
+    @Param({"jjwt", "fast"})
+    public String codec;
+
+    private JwtCodec jwtCodec;
+    private TokenClaims claims;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        jwtCodec = new JwtCodec(jwtProperties(JwtCodecType.valueOf(codec.toUpperCase())));
+        claims = claims("benchuser01", "벤치사용자", Duration.ofHours(2));
+        token = jwtCodec.encode(claims);
+        verifyCompatibility();
+    }
+
+    @Benchmark
+    public String encode() {
+        return jwtCodec.encode(claims);
+    }
+
+    @Benchmark
+    public TokenClaims decode() {
+        return jwtCodec.decode(token);
+    }
+
+    private static void verifyCompatibility() {
+        JwtCodec jjwt = new JwtCodec(jwtProperties(JwtCodecType.JJWT));
+        JwtCodec fast = new JwtCodec(jwtProperties(JwtCodecType.FAST));
+        List<TokenClaims> samples = List.of(
+                claims("benchuser01", "벤치사용자", Duration.ofHours(2)),
+                claims("quote\"back\\slash", "tab\tnew\nline\u0001 😀 \uD800", Duration.ofDays(2)),
+                new TokenClaims("auth-service-bench", 0, 0, "legacy", null, "ROLE_ADMIN", null, null, null, null));
+        for (TokenClaims sample : samples) {
+            String expected = jjwt.encode(sample);
+            check(expected.equals(fast.encode(sample)), "fast 출력이 jjwt와 다름: " + sample);
+            check(sample.equals(fast.decode(expected)), "fast가 jjwt 토큰을 다르게 읽음: " + sample);
+            check(sample.equals(jjwt.decode(fast.encode(sample))), "jjwt가 fast 토큰을 다르게 읽음: " + sample);
+        }
+
+        String expired = jjwt.encode(claims("benchuser01", "벤치사용자", Duration.ofSeconds(-10)));
+        check(throwsType(() -> fast.decode(expired), ExpiredJwtException.class), "만료 토큰 예외가 다름");
+        String valid = jjwt.encode(samples.get(0));
+        String tampered = valid.substring(0, valid.length() - 2) + (valid.endsWith("AA") ? "BA" : "AA");
+        check(throwsType(() -> fast.decode(tampered), SignatureException.class), "서명 불일치 예외가 다름");
+        check(throwsType(() -> jjwt.decode(tampered), SignatureException.class), "서명 불일치 예외가 다름");
+    }
+
+    private static TokenClaims claims(String subject, String userName, Duration expiration) {
+        long now = Instant.now().getEpochSecond();
+        return new TokenClaims("auth-service-bench", now, now + expiration.toSeconds(), subject, 42,
+                "ROLE_USER", userName, "c2Vzc2lvbi1pZC0x", 3L, "dG9rZW4taWQtMQ");
+    }
+
+    private static JwtProperties jwtProperties(JwtCodecType codec) {
+        JwtProperties properties = new JwtProperties();
+        properties.setIssuer("auth-service-bench");
+        properties.setSecretKey(SECRET_KEY);
+        properties.setCodec(codec);
+        return properties;
+    }
+
+    private static boolean throwsType(Supplier<?> call, Class<? extends Exception> type) {
+        try {
+            call.get();
+            return false;
+        } catch (Exception e) {
+            return type.isInstance(e);
+        }
+    }
+
+    private static void check(boolean condition, String message) {
+        if (!condition) {
+            throw new IllegalStateException(message);
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package com.example.authservice.config.redis;
+
+import com.example.authservice.model.Address;
+import com.example.authservice.model.User;
+import com.example.authservice.type.Role;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+// objectRedisTemplate 값 직렬화 비용 (cache.codec별), 값 크기는 setUp에서 출력
+// 읽기는 RedisUtil.getObjectData(key, type)와 같이 타입 변환까지 포함
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class SnapshotCodecBenchmark {
+
+    @Param({"json", "protobuf"})
+    public String codec;
+
+    private ObjectMapper objectMapper;
+    private SnapshotRedisSerializer serializer;
+    private User user;
+    private Address address;
+    private byte[] userBytes;
+    private byte[] addressBytes;
+
+    @Setup
+    public void setUp() {
+        // RedisConfig.redisObjectMapper와 동일
+        objectMapper = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        serializer = new SnapshotRedisSerializer(new GenericJackson2JsonRedisSerializer(objectMapper),
+                CacheCodec.valueOf(codec.toUpperCase()), new SimpleMeterRegistry());
+
+        user = User.builder()
+                .uid(42)
+                .userId("benchuser01")
+                .password("$2a$10$7EqJtq98hPqEX7fNZaFWoOhi5BWX4Z1wM1nY0pJxZ0xvYb6Z0aJYW")
+                .userName("벤치사용자")
+                .email("bench.user@example.com")
+                .emailyn("y")
+                .phone("01012345678")
+                .phoneyn("y")
+                .point(1200)
+                .role(Role.ROLE_USER)
+                .status("active")
+                .createdDate(LocalDateTime.of(2025, 1, 1, 12, 0))
+                .build();
+        address = Address.builder()
+                .uid(7L)
+                .userUid(42)
+                .mainAddress("서울특별시 강남구 테헤란로 123")
+                .mainLat(37.5012)
+                .mainLan(127.0396)
+                .subAddress1("서울특별시 마포구 월드컵북로 45")
+                .sub1Lat(37.5563)
+                .sub1Lan(126.9220)
+                .build();
+
+        userBytes = serializer.serialize(user);
+        addressBytes = serializer.serialize(address);
+        System.out.printf("%n[%s] user=%d bytes, address=%d bytes%n", codec, userBytes.length, addressBytes.length);
+    }
+
+    @Benchmark
+    public byte[] serializeUser() {
+        return serializer.serialize(user);
+    }
+
+    @Benchmark
+    public User deserializeUser() {
+        return toType(serializer.deserialize(userBytes), User.class);
+    }
+
+    @Benchmark
+    public byte[] serializeAddress() {
+        return serializer.serialize(address);
+    }
+
+    @Benchmark
+    public Address deserializeAddress() {
+        return toType(serializer.deserialize(addressBytes), Address.class);
+    }
+
+    private <T> T toType(Object value, Class<T> type) {
+        return type.isInstance(value) ? type.cast(value) : objectMapper.convertValue(value, type);
+    }
+}
@@ -0,0 +1,70 @@
+package com.example.authservice.dto;
+
+import com.example.authservice.type.Role;
+import com.example.authservice.type.Type;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+// 컨트롤러 응답 DTO JSON 직렬화 비용 (Spring MVC의 ObjectMapper 설정과 동일하게 구성)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ResponseSerializationBenchmark {
+
+    private ObjectMapper objectMapper;
+    private ProfileResponseDTO profile;
+    private ValidTokenResponseDTO validToken;
+
+    @Setup
+    public void setUp() {
+        objectMapper = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+        profile = ProfileResponseDTO.builder()
+                .uid(42)
+                .userId("benchuser01")
+                .userName("벤치사용자")
+                .email("bench.user@example.com")
+                .emailyn("y")
+                .phone("01012345678")
+                .phoneyn("y")
+                .type(Type.USER)
+                .point(1200)
+                .role(Role.ROLE_USER)
+                .createdDate(LocalDateTime.of(2025, 1, 1, 12, 0))
+                .mainAddress("서울특별시 강남구 테헤란로 123")
+                .mainLat(37.5012)
+                .mainLan(127.0396)
+                .subAddress1("서울특별시 마포구 월드컵북로 45")
+                .sub1Lat(37.5563)
+                .sub1Lan(126.9220)
+                .build();
+
+        validToken = ValidTokenResponseDTO.builder()
+                .statusNum(1)
+                .build();
+    }
+
+    @Benchmark
+    public byte[] profileResponse() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(profile);
+    }
+
+    @Benchmark
+    public byte[] validTokenResponse() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(validToken);
+    }
+}
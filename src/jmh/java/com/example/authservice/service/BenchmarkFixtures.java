@@ -0,0 +1,92 @@
+package com.example.authservice.service;
+
+import com.example.authservice.config.jwt.JwtCodec;
+import com.example.authservice.config.jwt.JwtProperties;
+import com.example.authservice.config.jwt.SessionProperties;
+import com.example.authservice.config.jwt.TokenStorageProperties;
+import com.example.authservice.config.metrics.AuthMetrics;
+import com.example.authservice.config.redis.RedisUtil;
+import com.example.authservice.config.redis.UserEventProperties;
+import com.example.authservice.config.redis.UserEventPublisher;
+import com.example.authservice.config.resilience.BackendGuard;
+import com.example.authservice.config.resilience.ResilienceProperties;
+import com.example.authservice.config.singleflight.SingleFlight;
+import com.example.authservice.config.singleflight.SingleFlightProperties;
+import com.example.authservice.model.User;
+import com.example.authservice.type.Role;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+import java.lang.reflect.Proxy;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// 벤치마크 공용 픽스처: Redis/DB 없이 TokenProviderService를 구성
+final class BenchmarkFixtures {
+
+    // 64바이트 HS512 테스트 키 (운영 키 아님)
+    static final String SECRET_KEY = "AAECAwQFBgcICQoLDA0ODxAREhMUFRYXGBkaGxwdHh8gISIjJCUmJygpKissLS4vMDEyMzQ1Njc4OTo7PD0+Pw==";
+    static final String ISSUER = "auth-service-bench";
+
+    private BenchmarkFixtures() {
+    }
+
+    static JwtProperties jwtProperties() {
+        JwtProperties properties = new JwtProperties();
+        properties.setIssuer(ISSUER);
+        properties.setSecretKey(SECRET_KEY);
+        return properties;
+    }
+
+    static User user() {
+        return User.builder()
+                .uid(42)
+                .userId("benchuser01")
+                .userName("벤치사용자")
+                .role(Role.ROLE_USER)
+                .build();
+    }
+
+    static TokenProviderService tokenProviderService(InMemoryRedisTemplate redisTemplate) {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        ResilienceProperties resilienceProperties = new ResilienceProperties();
+        BackendGuard backendGuard = new BackendGuard(resilienceProperties, registry);
+        JwtProperties jwtProperties = jwtProperties();
+        RedisUtil redisUtil = new RedisUtil(redisTemplate, redisTemplate, null, null, backendGuard);
+        // 벤치마크 경로(발급/검증)는 이벤트를 보내지 않음
+        UserEventProperties userEventProperties = new UserEventProperties();
+        userEventProperties.setEnabled(false);
+        UserEventPublisher userEventPublisher = new UserEventPublisher(redisTemplate, userEventProperties, backendGuard);
+        return new TokenProviderService(jwtProperties, new TokenStorageProperties(), null, redisTemplate, redisUtil, new AuthMetrics(registry),
+                new SessionRegistry(redisTemplate, new SessionProperties(), backendGuard, userEventPublisher), backendGuard, resilienceProperties,
+                new SingleFlight(new SingleFlightProperties(), registry), new JwtCodec(jwtProperties));
+    }
+
+    // opsForValue().get/set만 메모리 맵으로 처리하는 StringRedisTemplate
+    static final class InMemoryRedisTemplate extends StringRedisTemplate {
+        private final Map<String, String> values = new ConcurrentHashMap<>();
+        @SuppressWarnings("unchecked")
+        private final ValueOperations<String, String> valueOperations = (ValueOperations<String, String>) Proxy.newProxyInstance(
+                ValueOperations.class.getClassLoader(),
+                new Class<?>[]{ValueOperations.class},
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "get" -> values.get((String) args[0]);
+                    case "set" -> {
+                        values.put((String) args[0], (String) args[1]);
+                        yield null;
+                    }
+                    default -> throw new UnsupportedOperationException(method.getName());
+                });
+
+        @Override
+        public ValueOperations<String, String> opsForValue() {
+            return valueOperations;
+        }
+
+        @Override
+        public Boolean delete(String key) {
+            return values.remove(key) != null;
+        }
+    }
+}
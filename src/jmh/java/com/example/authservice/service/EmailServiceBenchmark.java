@@ -0,0 +1,31 @@
+package com.example.authservice.service;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.security.NoSuchAlgorithmException;
+import java.util.concurrent.TimeUnit;
+
+// 이메일 인증 성공 시 memberId(SHA-512 hex) 생성 비용
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class EmailServiceBenchmark {
+
+    private EmailService emailService;
+
+    @Setup
+    public void setUp() {
+        emailService = new EmailService(null);
+    }
+
+    @Benchmark
+    public String makeMemberId() throws NoSuchAlgorithmException {
+        return emailService.makeMemberId("bench.user@example.com");
+    }
+}
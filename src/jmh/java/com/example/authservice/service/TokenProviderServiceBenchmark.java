@@ -0,0 +1,71 @@
+package com.example.authservice.service;
+
+import com.example.authservice.dto.ClaimsResponseDTO;
+import com.example.authservice.model.User;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+// 토큰 발급/파싱/검증 핫패스
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TokenProviderServiceBenchmark {
+
+    private TokenProviderService tokenProviderService;
+    private User user;
+    private String accessToken;
+    private String expiredToken;
+    private String socialAccessToken;
+
+    @Setup
+    public void setUp() {
+        BenchmarkFixtures.InMemoryRedisTemplate redisTemplate = new BenchmarkFixtures.InMemoryRedisTemplate();
+        tokenProviderService = BenchmarkFixtures.tokenProviderService(redisTemplate);
+        user = BenchmarkFixtures.user();
+
+        accessToken = tokenProviderService.generateToken(user, Duration.ofHours(2));
+        expiredToken = tokenProviderService.generateToken(user, Duration.ofSeconds(-10));
+
+        // 소셜 토큰은 redis에 저장된 값과 비교
+        socialAccessToken = "naver:1234567890:AAAAOa1b2c3d4e5f6g7h8i9j0kLmNoPqRsTuVwXyZ";
+        tokenProviderService.saveTokensToRedis("NAVER:1234567890", socialAccessToken, "naver:1234567890:refresh");
+    }
+
+    @Benchmark
+    public String makeToken() {
+        return tokenProviderService.generateToken(user, Duration.ofHours(2));
+    }
+
+    @Benchmark
+    public ClaimsResponseDTO getClaims() {
+        return tokenProviderService.getAuthentication(accessToken);
+    }
+
+    @Benchmark
+    public User getTokenDetails() {
+        return tokenProviderService.getTokenDetails(accessToken);
+    }
+
+    @Benchmark
+    public int validTokenSelf() {
+        return tokenProviderService.validToken("accessToken", accessToken);
+    }
+
+    @Benchmark
+    public int validTokenSelfExpired() {
+        return tokenProviderService.validToken("accessToken", expiredToken);
+    }
+
+    @Benchmark
+    public int validTokenSocial() {
+        return tokenProviderService.validToken("accessToken", socialAccessToken);
+    }
+}
@@ -0,0 +1,91 @@
+package com.example.authservice.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.Executors;
+
+// auth-service HTTP 호출 + 호출별 지연시간 기록
+class AuthClient {
+
+    private final String baseUrl;
+    private final HttpClient httpClient;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final LatencyRecorder recorder;
+
+    AuthClient(String baseUrl, LatencyRecorder recorder) {
+        this.baseUrl = baseUrl;
+        this.recorder = recorder;
+        this.httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+    }
+
+    JsonNode post(String endpoint, String path, Object body, String bearerToken) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(Duration.ofSeconds(30))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(toJson(body)));
+        if (bearerToken != null) {
+            builder.header("Authorization", "Bearer " + bearerToken);
+        }
+        return send(endpoint, builder.build());
+    }
+
+    JsonNode post(String endpoint, String path, Object body) {
+        return post(endpoint, path, body, null);
+    }
+
+    private JsonNode send(String endpoint, HttpRequest request) {
+        long start = System.nanoTime();
+        try {
+            HttpResponse<byte[]> response = httpClient.send(request, HttpResponse.BodyHandlers.ofByteArray());
+            recorder.record(endpoint, System.nanoTime() - start);
+            if (response.statusCode() / 100 != 2) {
+                recorder.error(endpoint);
+                throw new RequestFailedException(endpoint + " -> HTTP " + response.statusCode());
+            }
+            byte[] body = response.body();
+            return body.length == 0 ? null : parse(body);
+        } catch (IOException e) {
+            recorder.record(endpoint, System.nanoTime() - start);
+            recorder.error(endpoint);
+            throw new RequestFailedException(endpoint + " -> " + e.getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RequestFailedException(endpoint + " interrupted");
+        }
+    }
+
+    // verify 응답처럼 JSON이 아닌 문자열 본문도 있음
+    private JsonNode parse(byte[] body) {
+        try {
+            return objectMapper.readTree(body);
+        } catch (IOException e) {
+            return objectMapper.getNodeFactory().textNode(new String(body));
+        }
+    }
+
+    private String toJson(Object body) {
+        try {
+            return objectMapper.writeValueAsString(body == null ? Map.of() : body);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    static class RequestFailedException extends RuntimeException {
+        RequestFailedException(String message) {
+            super(message, null, false, false);
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.example.authservice.loadtest;
+
+import com.example.authservice.grpc.AiServiceGrpc;
+import com.example.authservice.grpc.Empty;
+import com.example.authservice.grpc.SaveAllergyRequest;
+import io.grpc.stub.StreamObserver;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+// ai-service 대체물: 알러지 정보를 받기만 하고 바로 응답
+class FakeAiService extends AiServiceGrpc.AiServiceImplBase {
+
+    private final AtomicLong sendCalls = new AtomicLong();
+    private final AtomicLong updateCalls = new AtomicLong();
+
+    @Override
+    public void sendAllergyInfo(SaveAllergyRequest request, StreamObserver<Empty> responseObserver) {
+        sendCalls.incrementAndGet();
+        responseObserver.onNext(Empty.getDefaultInstance());
+        responseObserver.onCompleted();
+    }
+
+    @Override
+    public void updateAllergyInfo(SaveAllergyRequest request, StreamObserver<Empty> responseObserver) {
+        updateCalls.incrementAndGet();
+        responseObserver.onNext(Empty.getDefaultInstance());
+        responseObserver.onCompleted();
+    }
+
+    long sendCalls() {
+        return sendCalls.get();
+    }
+
+    long updateCalls() {
+        return updateCalls.get();
+    }
+}
@@ -0,0 +1,64 @@
+package com.example.authservice.loadtest;
+
+import com.example.authservice.AuthServiceApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.time.Duration;
+
+/**
+ * auth-service 종단간 부하 테스트.
+ * <p>
+ * --target 없이 실행하면 로컬 대체물(embedded redis, H2 MySQL 모드, 가짜 AiService)을 띄우고
+ * 같은 JVM에서 loadtest 프로파일로 앱을 기동한 뒤 부하를 건다.
+ * --target=http://host:port 를 주면 이미 떠 있는 인스턴스에 부하만 건다.
+ * <p>
+ * 인자: --warmup=10s --duration=60s --concurrency=64 --users=200
+ *       --mix=join=2,login=10,validToken=55,claims=15,refresh=8,profile=8,logout=2
+ *       --report=build/reports/loadtest/results.json
+ */
+public class LoadTestApplication {
+
+    public static void main(String[] args) throws Exception {
+        LoadTestOptions options = LoadTestOptions.parse(args);
+
+        StandIns standIns = null;
+        ConfigurableApplicationContext app = null;
+        String target = options.target();
+        try {
+            if (target == null) {
+                standIns = StandIns.start();
+                app = new SpringApplicationBuilder(AuthServiceApplication.class)
+                        .profiles("loadtest")
+                        .properties(
+                                "loadtest.redis-port=" + standIns.redisPort(),
+                                "loadtest.ai-port=" + standIns.aiPort())
+                        .run();
+                target = "http://localhost:" + app.getEnvironment().getProperty("local.server.port");
+            }
+
+            LatencyRecorder recorder = new LatencyRecorder();
+            Workload workload = new Workload(new AuthClient(target, recorder), options);
+
+            System.out.printf("사용자 %d명 준비 중 (%s)%n", options.users(), target);
+            workload.prepareUsers();
+
+            System.out.printf("워밍업 %s%n", options.warmup());
+            workload.run(options.warmup());
+            recorder.reset();
+
+            System.out.printf("측정 %s, 동시 사용자 %d%n", options.duration(), options.concurrency());
+            long start = System.nanoTime();
+            workload.run(options.duration());
+            Duration measured = Duration.ofNanos(System.nanoTime() - start);
+
+            LoadTestReport report = LoadTestReport.from(options, target, measured, recorder);
+            report.print(System.out);
+            report.write(options.report());
+            System.out.printf("%n리포트: %s%n", options.report().toAbsolutePath());
+        } finally {
+            if (app != null) app.close();
+            if (standIns != null) standIns.close();
+        }
+    }
+}
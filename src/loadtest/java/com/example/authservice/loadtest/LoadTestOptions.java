@@ -0,0 +1,54 @@
+package com.example.authservice.loadtest;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+// --key=value 형태의 실행 인자
+record LoadTestOptions(
+        String target,
+        Duration warmup,
+        Duration duration,
+        int concurrency,
+        int users,
+        Map<Operation, Integer> mix,
+        Path report
+) {
+
+    // validToken 위주의 실제 트래픽 비율 (게이트웨이가 요청마다 검증)
+    static final String DEFAULT_MIX = "join=2,login=10,validToken=55,claims=15,refresh=8,profile=8,logout=2";
+
+    static LoadTestOptions parse(String[] args) {
+        Map<String, String> values = new LinkedHashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("인자 형식은 --key=value 입니다: " + arg);
+            }
+            int eq = arg.indexOf('=');
+            values.put(arg.substring(2, eq), arg.substring(eq + 1));
+        }
+        return new LoadTestOptions(
+                values.get("target"),
+                parseDuration(values.getOrDefault("warmup", "10s")),
+                parseDuration(values.getOrDefault("duration", "60s")),
+                Integer.parseInt(values.getOrDefault("concurrency", "64")),
+                Integer.parseInt(values.getOrDefault("users", "200")),
+                parseMix(values.getOrDefault("mix", DEFAULT_MIX)),
+                Path.of(values.getOrDefault("report", "build/reports/loadtest/results.json"))
+        );
+    }
+
+    private static Duration parseDuration(String value) {
+        return Duration.parse("PT" + value.toUpperCase());
+    }
+
+    private static Map<Operation, Integer> parseMix(String value) {
+        Map<Operation, Integer> mix = new LinkedHashMap<>();
+        for (String entry : value.split(",")) {
+            String[] pair = entry.split("=");
+            mix.put(Operation.fromName(pair[0].trim()), Integer.parseInt(pair[1].trim()));
+        }
+        return mix;
+    }
+}
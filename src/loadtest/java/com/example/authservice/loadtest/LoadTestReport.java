@@ -0,0 +1,98 @@
+package com.example.authservice.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+// 처리량 + p50/p99/p999 리포트 (콘솔 표 + JSON)
+record LoadTestReport(
+        String target,
+        int concurrency,
+        double measuredSeconds,
+        Map<String, Object> settings,
+        List<EndpointResult> endpoints,
+        EndpointResult total
+) {
+
+    static LoadTestReport from(LoadTestOptions options, String target, Duration measured, LatencyRecorder recorder) {
+        double seconds = measured.toNanos() / 1_000_000_000.0;
+        List<EndpointResult> endpoints = new ArrayList<>();
+        Histogram all = null;
+        long allErrors = 0;
+        for (Map.Entry<String, Histogram> entry : recorder.histograms().entrySet()) {
+            Histogram histogram = entry.getValue();
+            long errors = recorder.errors(entry.getKey());
+            endpoints.add(EndpointResult.of(entry.getKey(), histogram, errors, seconds));
+            if (all == null) {
+                all = histogram.copy();
+            } else {
+                all.add(histogram);
+            }
+            allErrors += errors;
+        }
+        Map<String, Object> settings = new LinkedHashMap<>();
+        settings.put("users", options.users());
+        settings.put("warmup", options.warmup().toString());
+        settings.put("duration", options.duration().toString());
+        settings.put("mix", options.mix());
+        return new LoadTestReport(
+                target,
+                options.concurrency(),
+                seconds,
+                settings,
+                endpoints,
+                all == null ? null : EndpointResult.of("total", all, allErrors, seconds));
+    }
+
+    void print(PrintStream out) {
+        out.printf("%n auth-service load test  target=%s  concurrency=%d  measured=%.1fs%n", target, concurrency, measuredSeconds);
+        out.printf("%-16s %10s %8s %10s %9s %9s %9s %9s%n", "endpoint", "count", "errors", "req/s", "p50(ms)", "p99(ms)", "p999(ms)", "max(ms)");
+        endpoints.forEach(result -> result.print(out));
+        if (total != null) total.print(out);
+    }
+
+    void write(Path path) throws IOException {
+        Files.createDirectories(path.toAbsolutePath().getParent());
+        new ObjectMapper()
+                .enable(SerializationFeature.INDENT_OUTPUT)
+                .writeValue(path.toFile(), this);
+    }
+
+    record EndpointResult(
+            String endpoint,
+            long count,
+            long errors,
+            double throughput,
+            double p50Millis,
+            double p99Millis,
+            double p999Millis,
+            double maxMillis
+    ) {
+        static EndpointResult of(String endpoint, Histogram histogram, long errors, double seconds) {
+            return new EndpointResult(
+                    endpoint,
+                    histogram.getTotalCount(),
+                    errors,
+                    histogram.getTotalCount() / seconds,
+                    histogram.getValueAtPercentile(50) / 1000.0,
+                    histogram.getValueAtPercentile(99) / 1000.0,
+                    histogram.getValueAtPercentile(99.9) / 1000.0,
+                    histogram.getMaxValue() / 1000.0);
+        }
+
+        void print(PrintStream out) {
+            out.printf("%-16s %10d %8d %10.1f %9.2f %9.2f %9.2f %9.2f%n",
+                    endpoint, count, errors, throughput, p50Millis, p99Millis, p999Millis, maxMillis);
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package com.example.authservice.loadtest;
+
+import ch.vorburger.mariadb4j.DB;
+import ch.vorburger.mariadb4j.DBConfigurationBuilder;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+// 별도 프로세스로 뜨는 앱(native 바이너리 등)용 MySQL 대체물: MariaDB4j 내장 MariaDB + schema.sql
+// 앱 안에 H2 드라이버를 넣지 않고 운영과 같은 mysql-connector-j로 붙게 하기 위함
+class MariaDbStandIn implements AutoCloseable {
+
+    static final String DATABASE = "auth";
+    // --skip-grant-tables로 뜨므로 계정/비밀번호는 검사하지 않음
+    static final String USER = "root";
+
+    private final DB db;
+    private final int port;
+
+    private MariaDbStandIn(DB db, int port) {
+        this.db = db;
+        this.port = port;
+    }
+
+    static MariaDbStandIn start() throws Exception {
+        DBConfigurationBuilder config = DBConfigurationBuilder.newBuilder();
+        config.setPort(StandIns.freePort());
+        // 컨테이너/CI에서 root로 실행되는 경우
+        config.addArg("--user=root");
+        DB db = DB.newEmbeddedDB(config.build());
+        db.start();
+
+        MariaDbStandIn standIn = new MariaDbStandIn(db, config.getPort());
+        // DB.createDB()는 mariadb CLI(libncurses5 필요)를 쓰므로 JDBC로 직접 생성
+        try (Connection connection = DriverManager.getConnection(standIn.jdbcUrl("mysql"), USER, "");
+             Statement statement = connection.createStatement()) {
+            statement.execute("CREATE DATABASE IF NOT EXISTS " + DATABASE + " CHARACTER SET utf8mb4 COLLATE utf8mb4_unicode_ci");
+        }
+        standIn.loadSchema();
+        return standIn;
+    }
+
+    String jdbcUrl() {
+        return jdbcUrl(DATABASE);
+    }
+
+    private String jdbcUrl(String database) {
+        return "jdbc:mysql://localhost:" + port + "/" + database + "?useSSL=false&allowPublicKeyRetrieval=true";
+    }
+
+    private void loadSchema() throws IOException, SQLException {
+        String schema;
+        try (InputStream in = MariaDbStandIn.class.getResourceAsStream("/schema.sql")) {
+            schema = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+        try (Connection connection = DriverManager.getConnection(jdbcUrl(), USER, "");
+             Statement statement = connection.createStatement()) {
+            for (String sql : schema.replaceAll("(?m)^\\s*--.*$", "").split(";")) {
+                if (!sql.isBlank()) {
+                    statement.execute(sql);
+                }
+            }
+        }
+    }
+
+    @Override
+    public void close() throws Exception {
+        db.stop();
+    }
+}
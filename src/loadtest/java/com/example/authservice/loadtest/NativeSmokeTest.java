@@ -0,0 +1,212 @@
+package com.example.authservice.loadtest;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.GeneralSecurityException;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.spec.ECGenParameterSpec;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * native 바이너리(또는 bootJar)를 별도 프로세스로 띄워 로컬 대체물에 붙인 뒤
+ * 회원가입/로그인/토큰 검증/갱신/프로필/로그아웃을 짧게 돌려 보는 스모크 테스트.
+ * (./gradlew nativeSmokeTest -Pnative, -Pnative 없이 실행하면 bootJar로 같은 검사)
+ * <p>
+ * 대체물: MariaDB4j(mysql-connector-j 그대로 사용), embedded redis, 가짜 AiService gRPC.
+ * 리플렉션/리소스 힌트 누락은 대개 특정 엔드포인트의 500으로 드러나므로 에러가 하나라도 있으면 실패.
+ * <p>
+ * 인자: --binary=path | --jar=path, --duration=10s, --report=build/reports/native-smoke/results.json
+ */
+public class NativeSmokeTest {
+
+    private static final Pattern STARTED =
+            Pattern.compile("Started AuthServiceApplication in ([\\d.]+) seconds \\(process running for ([\\d.]+)\\)");
+    private static final Duration READY_TIMEOUT = Duration.ofSeconds(90);
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = new LinkedHashMap<>();
+        for (String arg : args) {
+            int eq = arg.indexOf('=');
+            if (!arg.startsWith("--") || eq < 0) {
+                throw new IllegalArgumentException("인자 형식은 --key=value 입니다: " + arg);
+            }
+            options.put(arg.substring(2, eq), arg.substring(eq + 1));
+        }
+        List<String> command = new ArrayList<>();
+        if (options.containsKey("binary")) {
+            command.add(options.get("binary"));
+        } else {
+            command.addAll(List.of(Path.of(System.getProperty("java.home"), "bin", "java").toString(),
+                    "-jar", options.get("jar")));
+        }
+        String duration = options.getOrDefault("duration", "10s");
+        Path report = Path.of(options.getOrDefault("report", "build/reports/native-smoke/results.json"));
+        Path appLog = report.resolveSibling("app.log");
+        Files.createDirectories(report.toAbsolutePath().getParent());
+
+        // MariaDB4j가 mariadbd 콘솔 출력을 INFO로 그대로 흘림
+        ((Logger) LoggerFactory.getLogger("ch.vorburger")).setLevel(Level.WARN);
+
+        boolean passed = false;
+        try (StandIns standIns = StandIns.start();
+             MariaDbStandIn mariaDb = MariaDbStandIn.start()) {
+            int port = StandIns.freePort();
+            String target = "http://localhost:" + port;
+
+            ProcessBuilder builder = new ProcessBuilder(command)
+                    .redirectErrorStream(true)
+                    .redirectOutput(appLog.toFile());
+            builder.environment().putAll(environment(port, standIns, mariaDb));
+            long spawned = System.nanoTime();
+            Process app = builder.start();
+            try {
+                long readyMillis = awaitReady(app, target, spawned);
+                double[] started = startedLine(appLog);
+
+                LatencyRecorder recorder = new LatencyRecorder();
+                LoadTestOptions loadOptions = LoadTestOptions.parse(new String[]{
+                        "--target=" + target, "--users=5", "--concurrency=4", "--duration=" + duration});
+                Workload workload = new Workload(new AuthClient(target, recorder), loadOptions);
+                String failure = null;
+                try {
+                    workload.prepareUsers();
+                    workload.run(loadOptions.duration());
+                } catch (IllegalStateException e) {
+                    failure = e.getMessage();
+                }
+
+                Map<String, Map<String, Long>> endpoints = new LinkedHashMap<>();
+                long errors = 0;
+                for (String endpoint : recorder.histograms().keySet()) {
+                    long endpointErrors = recorder.errors(endpoint);
+                    endpoints.put(endpoint, Map.of(
+                            "count", recorder.histograms().get(endpoint).getTotalCount(),
+                            "errors", endpointErrors));
+                    errors += endpointErrors;
+                }
+                long grpcCalls = standIns.aiService().sendCalls();
+                passed = failure == null && errors == 0 && grpcCalls > 0;
+
+                Map<String, Object> result = new LinkedHashMap<>();
+                result.put("command", command);
+                result.put("passed", passed);
+                result.put("failure", failure);
+                result.put("readyMillis", readyMillis);
+                result.put("startedSeconds", started == null ? null : started[0]);
+                result.put("processSeconds", started == null ? null : started[1]);
+                result.put("rssMegabytes", rssMegabytes(app.pid()));
+                result.put("aiSendCalls", grpcCalls);
+                result.put("endpoints", endpoints);
+                new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(report.toFile(), result);
+
+                System.out.printf("%n auth-service smoke  %s%s%n", passed ? "PASSED" : "FAILED", failure == null ? "" : " (" + failure + ")");
+                System.out.printf("ready=%dms  rss=%sMB  grpc.send=%d  errors=%d%n",
+                        readyMillis, result.get("rssMegabytes"), grpcCalls, errors);
+                endpoints.forEach((endpoint, counts) -> System.out.printf("  %-16s %s%n", endpoint, counts));
+                System.out.println("report: " + report.toAbsolutePath() + ", app log: " + appLog.toAbsolutePath());
+            } finally {
+                app.destroy();
+                if (!app.waitFor(30, TimeUnit.SECONDS)) {
+                    app.destroyForcibly();
+                }
+            }
+        }
+        if (!passed) {
+            System.exit(1);
+        }
+    }
+
+    static Map<String, String> environment(int port, StandIns standIns, MariaDbStandIn mariaDb) {
+        Map<String, String> env = new LinkedHashMap<>(StartupTimeMeasurement.DUMMY_ENV);
+        env.put("SERVER_PORT", String.valueOf(port));
+        env.put("SPRING_DATASOURCE_URL", mariaDb.jdbcUrl());
+        env.put("SPRING_DATASOURCE_USER", MariaDbStandIn.USER);
+        env.put("SPRING_DATASOURCE_PASSWORD", "");
+        env.put("REDIS_URL", "localhost");
+        env.put("REDIS_PORT", String.valueOf(standIns.redisPort()));
+        env.put("REDIS_USER", "");
+        env.put("REDIS_PASSWORD", "");
+        env.put("AI_SERVICE_URL", "static://localhost:" + standIns.aiPort());
+        // ES256 + kid 서명 (jwt.signing), 실행마다 새 키
+        KeyPair signing = signingKeyPair();
+        env.put("JWT_SIGNING_KID", "smoke");
+        env.put("JWT_SIGNING_PRIVATE_KEY", Base64.getEncoder().encodeToString(signing.getPrivate().getEncoded()));
+        env.put("JWT_SIGNING_PUBLIC_KEY", Base64.getEncoder().encodeToString(signing.getPublic().getEncoded()));
+        // 맵 키(ai-service)에 '-'가 있어 환경 변수 이름으로는 지정할 수 없음
+        env.put("SPRING_APPLICATION_JSON", "{\"grpc\":{\"client\":{\"ai-service\":{\"negotiation-type\":\"plaintext\"}}}}");
+        return env;
+    }
+
+    private static KeyPair signingKeyPair() {
+        try {
+            KeyPairGenerator generator = KeyPairGenerator.getInstance("EC");
+            generator.initialize(new ECGenParameterSpec("secp256r1"));
+            return generator.generateKeyPair();
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    // 프로세스 생성부터 readiness UP까지
+    static long awaitReady(Process app, String target, long spawned) throws Exception {
+        HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(1)).build();
+        HttpRequest request = HttpRequest.newBuilder(URI.create(target + "/actuator/health/readiness")).GET().build();
+        long deadline = spawned + READY_TIMEOUT.toNanos();
+        while (System.nanoTime() < deadline) {
+            if (!app.isAlive()) {
+                throw new IllegalStateException("앱이 기동 중 종료됨 (exit=" + app.exitValue() + "), app.log 확인");
+            }
+            try {
+                if (client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() == 200) {
+                    return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - spawned);
+                }
+            } catch (IOException e) {
+                // 아직 포트가 열리지 않음
+            }
+            Thread.sleep(20);
+        }
+        throw new IllegalStateException("readiness 대기 시간 초과 (" + READY_TIMEOUT + "), app.log 확인");
+    }
+
+    private static double[] startedLine(Path appLog) throws IOException {
+        Matcher matcher = STARTED.matcher(Files.readString(appLog, StandardCharsets.UTF_8));
+        return matcher.find()
+                ? new double[]{Double.parseDouble(matcher.group(1)), Double.parseDouble(matcher.group(2))}
+                : null;
+    }
+
+    // Linux에서만 (/proc), 그 외에는 null
+    private static Long rssMegabytes(long pid) throws IOException {
+        Path status = Path.of("/proc", String.valueOf(pid), "status");
+        if (!Files.exists(status)) {
+            return null;
+        }
+        for (String line : Files.readAllLines(status)) {
+            if (line.startsWith("VmRSS:")) {
+                return Long.parseLong(line.replaceAll("\\D", "")) / 1024;
+            }
+        }
+        return null;
+    }
+}
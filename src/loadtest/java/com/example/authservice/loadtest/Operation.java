@@ -0,0 +1,31 @@
+package com.example.authservice.loadtest;
+
+import java.util.Arrays;
+
+// 부하 시나리오에서 섞는 요청 종류
+enum Operation {
+    JOIN("join"),
+    LOGIN("login"),
+    VALID_TOKEN("validToken"),
+    CLAIMS("claims"),
+    REFRESH("refresh"),
+    PROFILE("profile"),
+    LOGOUT("logout");
+
+    private final String label;
+
+    Operation(String label) {
+        this.label = label;
+    }
+
+    String label() {
+        return label;
+    }
+
+    static Operation fromName(String name) {
+        return Arrays.stream(values())
+                .filter(op -> op.label.equalsIgnoreCase(name))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("알 수 없는 operation: " + name));
+    }
+}
@@ -0,0 +1,159 @@
+package com.example.authservice.loadtest;
+
+import com.example.authservice.config.redis.TokenSession;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+import io.lettuce.core.RedisClient;
+import io.lettuce.core.api.StatefulRedisConnection;
+import io.lettuce.core.api.sync.RedisCommands;
+import io.lettuce.core.codec.ByteArrayCodec;
+
+import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * token.redis-session 방식별 세션당 Redis 메모리 비교 (./gradlew sessionMemoryReport [-Psessions=100000])
+ * <ul>
+ *     <li>strings: {owner}:accessToken / {owner}:refreshToken 에 HS512 JWT 원문 (TTL 2시간 / 7일)</li>
+ *     <li>compact: {owner}:session 해시에 지문 + 만료 시각 (TokenSession, TTL 7일)</li>
+ * </ul>
+ * embedded redis에 같은 수의 세션을 쓰고 INFO used_memory 증가분을 세션 수로 나눈다 (키/만료 사전 오버헤드 포함).
+ * 결과: build/reports/session-memory/results.json
+ */
+public class SessionMemoryReport {
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = new LinkedHashMap<>();
+        for (String arg : args) {
+            int eq = arg.indexOf('=');
+            if (!arg.startsWith("--") || eq < 0) {
+                throw new IllegalArgumentException("인자 형식은 --key=value 입니다: " + arg);
+            }
+            options.put(arg.substring(2, eq), arg.substring(eq + 1));
+        }
+        int sessions = Integer.parseInt(options.getOrDefault("sessions", "100000"));
+        Path report = Path.of(options.getOrDefault("report", "build/reports/session-memory/results.json"));
+
+        List<Map<String, Object>> results = new ArrayList<>();
+        try (StandIns standIns = StandIns.start()) {
+            RedisClient client = RedisClient.create("redis://localhost:" + standIns.redisPort());
+            try (StatefulRedisConnection<byte[], byte[]> connection = client.connect(ByteArrayCodec.INSTANCE)) {
+                RedisCommands<byte[], byte[]> redis = connection.sync();
+                Tokens tokens = new Tokens();
+                results.add(measure(redis, "strings", sessions, (owner, access, refresh) -> {
+                    redis.setex(bytes("{" + owner + "}:accessToken"), Duration.ofHours(2).toSeconds(), bytes(access));
+                    redis.setex(bytes("{" + owner + "}:refreshToken"), Duration.ofDays(7).toSeconds(), bytes(refresh));
+                    return "{" + owner + "}:refreshToken";
+                }, tokens));
+                results.add(measure(redis, "compact", sessions, (owner, access, refresh) -> {
+                    Instant now = Instant.now();
+                    byte[] key = bytes(TokenSession.key(owner));
+                    Map<byte[], byte[]> fields = new LinkedHashMap<>();
+                    fields.put(bytes(TokenSession.ACCESS_FIELD), TokenSession.encode(access, now.plus(Duration.ofHours(2))));
+                    fields.put(bytes(TokenSession.REFRESH_FIELD), TokenSession.encode(refresh, now.plus(Duration.ofDays(7))));
+                    redis.hset(key, fields);
+                    redis.expire(key, Duration.ofDays(7).toSeconds());
+                    return TokenSession.key(owner);
+                }, tokens));
+            } finally {
+                client.shutdown();
+            }
+        }
+
+        System.out.printf("%n redis session memory  sessions=%d%n", sessions);
+        System.out.printf("%-10s %8s %16s %16s%n", "encoding", "keys", "bytes/session", "object encoding");
+        results.forEach(result -> System.out.printf("%-10s %8s %16s %16s%n",
+                result.get("encoding"), result.get("keysPerSession"), result.get("bytesPerSession"),
+                result.get("sampleObjectEncoding")));
+        Files.createDirectories(report.toAbsolutePath().getParent());
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(report.toFile(), results);
+        System.out.println("report: " + report.toAbsolutePath());
+    }
+
+    private static Map<String, Object> measure(RedisCommands<byte[], byte[]> redis, String encoding, int sessions,
+                                               SessionWriter writer, Tokens tokens) {
+        redis.flushall();
+        long before = usedMemory(redis);
+        String sampleKey = null;
+        for (int i = 0; i < sessions; i++) {
+            String owner = "USER:user" + i;
+            sampleKey = writer.write(owner, tokens.access(i), tokens.refresh(i));
+        }
+        long after = usedMemory(redis);
+        long keys = redis.dbsize();
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("encoding", encoding);
+        result.put("sessions", sessions);
+        result.put("keysPerSession", (double) keys / sessions);
+        result.put("bytesPerSession", (after - before) / sessions);
+        result.put("sampleObjectEncoding", redis.objectEncoding(bytes(sampleKey)));
+        return result;
+    }
+
+    private static long usedMemory(RedisCommands<byte[], byte[]> redis) {
+        for (String line : redis.info("memory").split("\r\n")) {
+            if (line.startsWith("used_memory:")) {
+                return Long.parseLong(line.substring("used_memory:".length()));
+            }
+        }
+        throw new IllegalStateException("INFO memory에 used_memory가 없습니다.");
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    @FunctionalInterface
+    private interface SessionWriter {
+        // 대표 키 반환 (OBJECT ENCODING 확인용)
+        String write(String owner, String accessToken, String refreshToken);
+    }
+
+    // TokenProviderService.makeToken과 같은 클레임의 HS512 JWT
+    private static final class Tokens {
+        private final SecretKey key;
+
+        Tokens() {
+            byte[] secret = new byte[64];
+            new SecureRandom().nextBytes(secret);
+            this.key = Keys.hmacShaKeyFor(secret);
+        }
+
+        String access(int i) {
+            return token(i, Duration.ofHours(2));
+        }
+
+        String refresh(int i) {
+            return token(i, Duration.ofDays(2));
+        }
+
+        private String token(int i, Duration expiration) {
+            Date now = new Date();
+            return Jwts.builder()
+                    .setHeaderParam("typ", "JWT")
+                    .setIssuer("auth-service")
+                    .setIssuedAt(now)
+                    .setExpiration(new Date(now.getTime() + expiration.toMillis()))
+                    .setSubject("user" + i)
+                    .claim("uid", i)
+                    .claim("role", "ROLE_USER")
+                    .claim("userName", "사용자" + i)
+                    .signWith(key, SignatureAlgorithm.HS512)
+                    .compact();
+        }
+    }
+}
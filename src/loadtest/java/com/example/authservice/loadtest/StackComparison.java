@@ -0,0 +1,324 @@
+package com.example.authservice.loadtest;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+import io.lettuce.core.RedisClient;
+import io.lettuce.core.api.StatefulRedisConnection;
+import io.lettuce.core.api.sync.RedisCommands;
+import org.HdrHistogram.Histogram;
+import org.slf4j.LoggerFactory;
+
+import javax.crypto.SecretKey;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 토큰 엔드포인트(validToken/claims/refresh)의 서블릿 스택(앱 bootJar, Tomcat + StringRedisTemplate)과
+ * reactive 스택(token-reactive bootJar, reactor-netty + reactive Lettuce) 비교.
+ * (./gradlew compareStacks [-Pconnections=64,512,2048] [-Pduration=20s] [-Pcpus=2])
+ * <p>
+ * 두 앱을 같은 embedded redis에 붙이고(서블릿 앱은 기동에 MySQL이 필요해서 MariaDB4j도), 연결 수마다
+ * 연결 하나당 가상 스레드 하나가 요청을 이어서 보낸다. 토큰은 같은 비밀 키로 미리 발급하고 세션/소셜 토큰을 Redis에 넣어 둔다.
+ * 서버 코어 수는 -XX:ActiveProcessorCount(+ 가능하면 taskset)로 고정하고, 처리량을 서버 프로세스 CPU 시간으로 나눠 코어당 처리량을 구한다.
+ * 부하 생성기가 같은 장비에서 돌므로 절대값보다 두 스택의 비율을 본다.
+ * <p>
+ * 인자: --servlet-jar=path, --reactive-jar=path, --connections=64,512,2048, --warmup=5s, --duration=20s,
+ * --cpus=2, --users=1000, --report=build/reports/stack-comparison/results.json
+ */
+public class StackComparison {
+
+    // validToken 위주 (게이트웨이가 요청마다 검증), 소셜 토큰 검증 / claims / refresh 순
+    private static final int SELF_VALID = 70;
+    private static final int SOCIAL_VALID = 15;
+    private static final int CLAIMS = 10;
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = new LinkedHashMap<>();
+        for (String arg : args) {
+            int eq = arg.indexOf('=');
+            if (!arg.startsWith("--") || eq < 0) {
+                throw new IllegalArgumentException("인자 형식은 --key=value 입니다: " + arg);
+            }
+            options.put(arg.substring(2, eq), arg.substring(eq + 1));
+        }
+        Path servletJar = Path.of(options.get("servlet-jar"));
+        Path reactiveJar = Path.of(options.get("reactive-jar"));
+        List<Integer> connections = new ArrayList<>();
+        for (String value : options.getOrDefault("connections", "64,512,2048").split(",")) {
+            connections.add(Integer.parseInt(value.trim()));
+        }
+        Duration warmup = Duration.parse("PT" + options.getOrDefault("warmup", "5s").toUpperCase());
+        Duration duration = Duration.parse("PT" + options.getOrDefault("duration", "20s").toUpperCase());
+        int cpus = Integer.parseInt(options.getOrDefault("cpus", "2"));
+        int users = Integer.parseInt(options.getOrDefault("users", "1000"));
+        Path report = Path.of(options.getOrDefault("report", "build/reports/stack-comparison/results.json"));
+        Files.createDirectories(report.toAbsolutePath().getParent());
+
+        ((Logger) LoggerFactory.getLogger("ch.vorburger")).setLevel(Level.WARN);
+
+        List<Map<String, Object>> results = new ArrayList<>();
+        try (StandIns standIns = StandIns.start();
+             MariaDbStandIn mariaDb = MariaDbStandIn.start()) {
+            Tokens tokens = Tokens.seed(standIns.redisPort(), users);
+
+            int servletPort = StandIns.freePort();
+            Map<String, String> servletEnv = NativeSmokeTest.environment(servletPort, standIns, mariaDb);
+            // 요청마다 INFO 로그를 남기면 두 스택 모두 로그 비용이 지배적이 됨
+            servletEnv.put("LOGGING_LEVEL_COM_EXAMPLE_AUTHSERVICE", "WARN");
+            results.addAll(run("servlet", servletJar, servletPort, servletEnv, cpus, connections, warmup, duration, tokens,
+                    report.resolveSibling("servlet.log")));
+
+            int reactivePort = StandIns.freePort();
+            Map<String, String> reactiveEnv = new LinkedHashMap<>();
+            reactiveEnv.put("SERVER_PORT", String.valueOf(reactivePort));
+            reactiveEnv.put("REDIS_URL", "localhost");
+            reactiveEnv.put("REDIS_PORT", String.valueOf(standIns.redisPort()));
+            reactiveEnv.put("JWT_ISSUER", StartupTimeMeasurement.DUMMY_ENV.get("JWT_ISSUER"));
+            reactiveEnv.put("JWT_SECRET_KEY", StartupTimeMeasurement.DUMMY_ENV.get("JWT_SECRET_KEY"));
+            results.addAll(run("reactive", reactiveJar, reactivePort, reactiveEnv, cpus, connections, warmup, duration, tokens,
+                    report.resolveSibling("reactive.log")));
+        }
+
+        System.out.printf("%n token endpoints  servlet vs reactive  cpus=%d%n", cpus);
+        System.out.printf("%-9s %6s %10s %14s %9s %9s %7s%n", "stack", "conns", "req/s", "req/cpu-sec", "p50(ms)", "p99(ms)", "errors");
+        results.forEach(result -> System.out.printf("%-9s %6d %10.0f %14.0f %9.2f %9.2f %7d%n",
+                result.get("stack"), result.get("connections"), result.get("requestsPerSecond"),
+                result.get("requestsPerCpuSecond"), result.get("p50Millis"), result.get("p99Millis"), result.get("errors")));
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(report.toFile(), results);
+        System.out.println("report: " + report.toAbsolutePath());
+    }
+
+    private static List<Map<String, Object>> run(String stack, Path jar, int port, Map<String, String> env, int cpus,
+                                                 List<Integer> connections, Duration warmup, Duration duration,
+                                                 Tokens tokens, Path log) throws Exception {
+        List<String> command = new ArrayList<>();
+        if (cpus < Runtime.getRuntime().availableProcessors() && Files.isExecutable(Path.of("/usr/bin/taskset"))) {
+            command.addAll(List.of("taskset", "-c", "0-" + (cpus - 1)));
+        }
+        command.addAll(List.of(Path.of(System.getProperty("java.home"), "bin", "java").toString(),
+                "-XX:ActiveProcessorCount=" + cpus, "-Xms512m", "-Xmx512m", "-jar", jar.toString()));
+        ProcessBuilder builder = new ProcessBuilder(command).redirectErrorStream(true).redirectOutput(log.toFile());
+        builder.environment().putAll(env);
+        String target = "http://localhost:" + port;
+
+        List<Map<String, Object>> results = new ArrayList<>();
+        Process app = builder.start();
+        try {
+            NativeSmokeTest.awaitReady(app, target, System.nanoTime());
+            // taskset은 java로 exec하므로 같은 pid
+            ProcessHandle server = app.toHandle();
+            for (int count : connections) {
+                LatencyRecorder recorder = new LatencyRecorder();
+                AtomicBoolean running = new AtomicBoolean(true);
+                HttpClient client = HttpClient.newBuilder()
+                        .version(HttpClient.Version.HTTP_1_1)
+                        .connectTimeout(Duration.ofSeconds(5))
+                        .executor(Executors.newVirtualThreadPerTaskExecutor())
+                        .build();
+                try (ExecutorService workers = Executors.newVirtualThreadPerTaskExecutor()) {
+                    for (int i = 0; i < count; i++) {
+                        workers.submit(() -> drive(client, target, tokens, recorder, running));
+                    }
+                    Thread.sleep(warmup.toMillis());
+                    recorder.reset();
+                    long cpuBefore = cpuNanos(server);
+                    long start = System.nanoTime();
+                    Thread.sleep(duration.toMillis());
+                    long elapsed = System.nanoTime() - start;
+                    long cpu = cpuNanos(server) - cpuBefore;
+                    Map<String, Object> result = summarize(stack, count, recorder, elapsed, cpu);
+                    results.add(result);
+                    System.out.printf("%s conns=%d req/s=%.0f req/cpu-sec=%.0f%n", stack, count,
+                            result.get("requestsPerSecond"), result.get("requestsPerCpuSecond"));
+                    running.set(false);
+                    workers.shutdownNow();
+                    workers.awaitTermination(30, TimeUnit.SECONDS);
+                }
+                client.close();
+            }
+        } finally {
+            app.destroy();
+            if (!app.waitFor(30, TimeUnit.SECONDS)) {
+                app.destroyForcibly();
+            }
+        }
+        return results;
+    }
+
+    private static void drive(HttpClient client, String target, Tokens tokens, LatencyRecorder recorder, AtomicBoolean running) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        while (running.get() && !Thread.currentThread().isInterrupted()) {
+            int user = random.nextInt(tokens.size());
+            int pick = random.nextInt(100);
+            String endpoint;
+            String body;
+            String refreshToken = null;
+            if (pick < SELF_VALID) {
+                endpoint = "validToken";
+                body = "{\"token\":\"" + tokens.access(user) + "\"}";
+            } else if (pick < SELF_VALID + SOCIAL_VALID) {
+                endpoint = "validToken";
+                body = "{\"token\":\"" + tokens.social(user) + "\"}";
+            } else if (pick < SELF_VALID + SOCIAL_VALID + CLAIMS) {
+                endpoint = "claims";
+                body = "{\"token\":\"" + tokens.access(user) + "\"}";
+            } else {
+                endpoint = "refresh";
+                refreshToken = tokens.refresh(user);
+                body = "{\"refreshToken\":\"" + refreshToken + "\"}";
+            }
+            HttpRequest request = HttpRequest.newBuilder(URI.create(target + "/auths/" + endpoint))
+                    .timeout(Duration.ofSeconds(30))
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(body))
+                    .build();
+            long start = System.nanoTime();
+            try {
+                HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+                if (response.statusCode() != 200 || response.body().contains("\"status\":2")
+                        || response.body().contains("\"statusNum\":2") || response.body().contains("\"statusNum\":3")) {
+                    recorder.error(endpoint);
+                } else {
+                    recorder.record(endpoint, System.nanoTime() - start);
+                    if (refreshToken != null) {
+                        tokens.rotate(user, refreshToken, response.body());
+                    }
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (Exception e) {
+                recorder.error(endpoint);
+            }
+        }
+    }
+
+    private static Map<String, Object> summarize(String stack, int connections, LatencyRecorder recorder,
+                                                 long elapsedNanos, long cpuNanos) {
+        Histogram all = null;
+        long errors = 0;
+        for (Map.Entry<String, Histogram> entry : recorder.histograms().entrySet()) {
+            if (all == null) {
+                all = entry.getValue().copy();
+            } else {
+                all.add(entry.getValue());
+            }
+            errors += recorder.errors(entry.getKey());
+        }
+        long requests = all == null ? 0 : all.getTotalCount();
+        double seconds = elapsedNanos / 1e9;
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("stack", stack);
+        result.put("connections", connections);
+        result.put("requests", requests);
+        result.put("errors", errors);
+        result.put("requestsPerSecond", requests / seconds);
+        result.put("serverCpuSeconds", cpuNanos / 1e9);
+        result.put("requestsPerCpuSecond", cpuNanos > 0 ? requests / (cpuNanos / 1e9) : 0.0);
+        result.put("p50Millis", all == null ? 0.0 : all.getValueAtPercentile(50) / 1000.0);
+        result.put("p99Millis", all == null ? 0.0 : all.getValueAtPercentile(99) / 1000.0);
+        return result;
+    }
+
+    private static long cpuNanos(ProcessHandle process) {
+        return process.info().totalCpuDuration().map(Duration::toNanos).orElse(0L);
+    }
+
+    // 앱과 같은 비밀 키로 발급한 사용자별 토큰 + Redis 세션/소셜 토큰 (token.redis-session=strings 기준)
+    // refreshToken은 응답의 새 토큰으로 바꿔 씀 (회전 후 유예 시간이 지난 토큰을 다시 보내면 재사용으로 세션이 닫힘)
+    private record Tokens(List<String> accessTokens, AtomicReferenceArray<String> refreshTokens, List<String> socialTokens) {
+
+        private static final Pattern REFRESH_TOKEN = Pattern.compile("\"refreshToken\":\"([^\"]+)\"");
+
+        static Tokens seed(int redisPort, int users) {
+            SecretKey key = Keys.hmacShaKeyFor(Base64.getDecoder().decode(StartupTimeMeasurement.DUMMY_ENV.get("JWT_SECRET_KEY")));
+            String issuer = StartupTimeMeasurement.DUMMY_ENV.get("JWT_ISSUER");
+            List<String> access = new ArrayList<>();
+            List<String> refresh = new ArrayList<>();
+            List<String> social = new ArrayList<>();
+            RedisClient client = RedisClient.create("redis://localhost:" + redisPort);
+            try (StatefulRedisConnection<String, String> connection = client.connect()) {
+                RedisCommands<String, String> redis = connection.sync();
+                Instant sessionExpiry = Instant.now().plus(Duration.ofDays(2));
+                for (int i = 0; i < users; i++) {
+                    String userId = "stack" + i;
+                    String sessionId = "s" + i;
+                    access.add(token(key, issuer, userId, i, sessionId, Duration.ofHours(2)));
+                    refresh.add(token(key, issuer, userId, i, sessionId, Duration.ofDays(2)));
+                    redis.zadd("{USER:" + userId + "}:sessions", sessionExpiry.getEpochSecond(), sessionId);
+
+                    String socialToken = "naver:social" + i + ":" + Long.toHexString(ThreadLocalRandom.current().nextLong());
+                    redis.setex("{NAVER:social" + i + "}:accessToken", Duration.ofHours(2).toSeconds(), socialToken);
+                    social.add(socialToken);
+                }
+            } finally {
+                client.shutdown();
+            }
+            return new Tokens(access, new AtomicReferenceArray<>(refresh.toArray(String[]::new)), social);
+        }
+
+        private static String token(SecretKey key, String issuer, String userId, int uid, String sessionId, Duration ttl) {
+            Date now = new Date();
+            return Jwts.builder()
+                    .setHeaderParam("typ", "JWT")
+                    .setIssuer(issuer)
+                    .setIssuedAt(now)
+                    .setExpiration(new Date(now.getTime() + ttl.toMillis()))
+                    .setSubject(userId)
+                    .claim("uid", uid)
+                    .claim("role", "ROLE_USER")
+                    .claim("userName", "사용자" + uid)
+                    .claim("sid", sessionId)
+                    .claim("gen", 0)
+                    .signWith(key, SignatureAlgorithm.HS512)
+                    .compact();
+        }
+
+        int size() {
+            return accessTokens.size();
+        }
+
+        String access(int user) {
+            return accessTokens.get(user);
+        }
+
+        String refresh(int user) {
+            return refreshTokens.get(user);
+        }
+
+        void rotate(int user, String previous, String responseBody) {
+            Matcher matcher = REFRESH_TOKEN.matcher(responseBody);
+            if (matcher.find()) {
+                refreshTokens.compareAndSet(user, previous, matcher.group(1));
+            }
+        }
+
+        String social(int user) {
+            return socialTokens.get(user);
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package com.example.authservice.loadtest;
+
+import io.grpc.Server;
+import io.grpc.ServerBuilder;
+import redis.embedded.RedisServer;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.util.concurrent.TimeUnit;
+
+// AWS 스택 대신 쓰는 로컬 대체물: embedded redis + 가짜 AiService gRPC 서버
+// (MySQL은 application-loadtest.yml의 H2 MySQL 모드 in-memory DB, 별도 프로세스로 띄우는 경우 MariaDbStandIn)
+class StandIns implements AutoCloseable {
+
+    private final RedisServer redis;
+    private final int redisPort;
+    private final Server aiServer;
+    private final FakeAiService aiService;
+
+    private StandIns(RedisServer redis, int redisPort, Server aiServer, FakeAiService aiService) {
+        this.redis = redis;
+        this.redisPort = redisPort;
+        this.aiServer = aiServer;
+        this.aiService = aiService;
+    }
+
+    static StandIns start() throws IOException {
+        int redisPort = freePort();
+        RedisServer redis = new RedisServer(redisPort);
+        redis.start();
+
+        FakeAiService aiService = new FakeAiService();
+        Server aiServer = ServerBuilder.forPort(0)
+                .addService(aiService)
+                .build()
+                .start();
+
+        return new StandIns(redis, redisPort, aiServer, aiService);
+    }
+
+    int redisPort() {
+        return redisPort;
+    }
+
+    int aiPort() {
+        return aiServer.getPort();
+    }
+
+    FakeAiService aiService() {
+        return aiService;
+    }
+
+    @Override
+    public void close() throws Exception {
+        aiServer.shutdown().awaitTermination(5, TimeUnit.SECONDS);
+        redis.stop();
+    }
+
+    static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+}
@@ -0,0 +1,199 @@
+package com.example.authservice.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.jar.JarFile;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * bootJar를 풀어 놓고 기동 시간을 변형별로 비교한다. (./gradlew measureStartup [-Paot])
+ * <ul>
+ *     <li>default: 일반 실행</li>
+ *     <li>cds: 학습 실행으로 만든 AppCDS 아카이브 사용</li>
+ *     <li>aot / aot+cds: -Paot로 만든 jar일 때만, -Dspring.aot.enabled=true</li>
+ * </ul>
+ * DB/Redis/gRPC 연결은 지연 생성이라 더미 값으로 기동까지는 측정할 수 있다.
+ * 결과: build/reports/startup/results.json
+ */
+public class StartupTimeMeasurement {
+
+    private static final Pattern STARTED =
+            Pattern.compile("Started AuthServiceApplication in ([\\d.]+) seconds \\(process running for ([\\d.]+)\\)");
+    private static final String AOT_INITIALIZER =
+            "BOOT-INF/classes/com/example/authservice/AuthServiceApplication__ApplicationContextInitializer.class";
+
+    // deploy 프로파일 기동에 필요한 더미 환경 변수 (실제 연결은 하지 않음)
+    static final Map<String, String> DUMMY_ENV = Map.ofEntries(
+            Map.entry("SPRING_PROFILES_ACTIVE", "deploy"),
+            Map.entry("SPRING_DATASOURCE_URL", "jdbc:mysql://localhost:3306/auth"),
+            Map.entry("SPRING_DATASOURCE_USER", "startup"),
+            Map.entry("SPRING_DATASOURCE_PASSWORD", "startup"),
+            Map.entry("REDIS_URL", "localhost"),
+            Map.entry("REDIS_PORT", "6379"),
+            Map.entry("REDIS_USER", "default"),
+            Map.entry("REDIS_PASSWORD", "startup"),
+            Map.entry("JWT_ISSUER", "startup"),
+            Map.entry("JWT_SECRET_KEY", "AAECAwQFBgcICQoLDA0ODxAREhMUFRYXGBkaGxwdHh8gISIjJCUmJygpKissLS4vMDEyMzQ1Njc4OTo7PD0+Pw=="),
+            Map.entry("AI_SERVICE_URL", "static://localhost:6008"),
+            Map.entry("SERVER_PORT", "0")
+    );
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = new LinkedHashMap<>();
+        for (String arg : args) {
+            int eq = arg.indexOf('=');
+            if (!arg.startsWith("--") || eq < 0) {
+                throw new IllegalArgumentException("인자 형식은 --key=value 입니다: " + arg);
+            }
+            options.put(arg.substring(2, eq), arg.substring(eq + 1));
+        }
+        Path bootJar = Path.of(options.get("jar"));
+        Path workDir = Path.of(options.getOrDefault("work-dir", "build/startup"));
+        Path report = Path.of(options.getOrDefault("report", "build/reports/startup/results.json"));
+        int runs = Integer.parseInt(options.getOrDefault("runs", "5"));
+
+        Path jar = extract(bootJar, workDir);
+        boolean aot = hasAotClasses(bootJar);
+
+        Map<String, List<String>> variants = new LinkedHashMap<>();
+        variants.put("default", List.of());
+        variants.put("cds", List.of("-XX:SharedArchiveFile=" + train(jar, "app.jsa", List.of())));
+        if (aot) {
+            List<String> aotFlag = List.of("-Dspring.aot.enabled=true");
+            variants.put("aot", aotFlag);
+            List<String> aotCds = new ArrayList<>(aotFlag);
+            aotCds.add("-XX:SharedArchiveFile=" + train(jar, "app-aot.jsa", aotFlag));
+            variants.put("aot+cds", aotCds);
+        } else {
+            System.out.println("AOT 클래스가 없는 jar라서 aot 변형은 건너뜀 (-Paot로 빌드)");
+        }
+
+        List<VariantResult> results = new ArrayList<>();
+        for (Map.Entry<String, List<String>> variant : variants.entrySet()) {
+            // 첫 실행은 OS 파일 캐시 워밍용으로 버림
+            start(jar, variant.getValue());
+            List<double[]> samples = new ArrayList<>();
+            for (int i = 0; i < runs; i++) {
+                samples.add(start(jar, variant.getValue()));
+            }
+            results.add(VariantResult.of(variant.getKey(), variant.getValue(), samples));
+        }
+
+        System.out.printf("%n auth-service startup  runs=%d%n", runs);
+        System.out.printf("%-10s %14s %14s %14s%n", "variant", "started(s)", "process(s)", "min process(s)");
+        results.forEach(result -> System.out.printf("%-10s %14.3f %14.3f %14.3f%n",
+                result.variant(), result.medianStartedSeconds(), result.medianProcessSeconds(), result.minProcessSeconds()));
+
+        Files.createDirectories(report.toAbsolutePath().getParent());
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(report.toFile(), results);
+        System.out.println("report: " + report.toAbsolutePath());
+    }
+
+    // CDS는 풀어 놓은 jar(classpath가 디렉터리 기반 jar 목록)에서만 동작
+    private static Path extract(Path bootJar, Path workDir) throws Exception {
+        Path destination = workDir.resolve("extracted");
+        run(List.of(java(), "-Djarmode=tools", "-jar", bootJar.toString(),
+                "extract", "--force", "--destination", destination.toString()), Map.of());
+        return destination.resolve(bootJar.getFileName());
+    }
+
+    private static boolean hasAotClasses(Path bootJar) throws IOException {
+        try (JarFile jarFile = new JarFile(bootJar.toFile())) {
+            return jarFile.getEntry(AOT_INITIALIZER) != null;
+        }
+    }
+
+    // 컨텍스트 refresh까지 돌린 뒤 종료하면서 로드된 클래스를 아카이브로 남김
+    private static Path train(Path jar, String archiveName, List<String> flags) throws Exception {
+        Path archive = jar.getParent().resolve(archiveName);
+        List<String> command = new ArrayList<>(List.of(java(), "-XX:ArchiveClassesAtExit=" + archive));
+        command.addAll(flags);
+        command.addAll(List.of("-Dspring.context.exit=onRefresh", "-jar", jar.toString()));
+        run(command, DUMMY_ENV);
+        if (!Files.exists(archive)) {
+            throw new IllegalStateException("CDS 아카이브 생성 실패: " + archive);
+        }
+        return archive;
+    }
+
+    private static double[] start(Path jar, List<String> flags) throws Exception {
+        List<String> command = new ArrayList<>(List.of(java()));
+        command.addAll(flags);
+        command.addAll(List.of("-jar", jar.toString()));
+        Process process = process(command, DUMMY_ENV);
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8))) {
+            Deque<String> tail = new ArrayDeque<>();
+            String line;
+            while ((line = reader.readLine()) != null) {
+                tail.addLast(line);
+                if (tail.size() > 20) {
+                    tail.removeFirst();
+                }
+                Matcher matcher = STARTED.matcher(line);
+                if (matcher.find()) {
+                    return new double[]{Double.parseDouble(matcher.group(1)), Double.parseDouble(matcher.group(2))};
+                }
+            }
+            throw new IllegalStateException("기동 실패 (exit=" + process.waitFor() + "): " + command
+                    + System.lineSeparator() + String.join(System.lineSeparator(), tail));
+        } finally {
+            process.destroy();
+            if (!process.waitFor(30, TimeUnit.SECONDS)) {
+                process.destroyForcibly();
+            }
+        }
+    }
+
+    private static void run(List<String> command, Map<String, String> env) throws Exception {
+        Process process = process(command, env);
+        process.getInputStream().transferTo(OutputStream.nullOutputStream());
+        process.waitFor();
+    }
+
+    private static Process process(List<String> command, Map<String, String> env) throws IOException {
+        ProcessBuilder builder = new ProcessBuilder(command).redirectErrorStream(true);
+        builder.environment().putAll(env);
+        return builder.start();
+    }
+
+    private static String java() {
+        return Path.of(System.getProperty("java.home"), "bin", "java").toString();
+    }
+
+    record VariantResult(
+            String variant,
+            List<String> jvmFlags,
+            double medianStartedSeconds,
+            double medianProcessSeconds,
+            double minProcessSeconds,
+            List<Double> processSeconds
+    ) {
+
+        static VariantResult of(String variant, List<String> flags, List<double[]> samples) {
+            List<Double> started = samples.stream().map(sample -> sample[0]).sorted().toList();
+            List<Double> process = samples.stream().map(sample -> sample[1]).sorted().toList();
+            return new VariantResult(variant, flags, median(started), median(process), process.get(0), process);
+        }
+
+        private static double median(List<Double> sorted) {
+            int mid = sorted.size() / 2;
+            return sorted.size() % 2 == 1 ? sorted.get(mid) : (sorted.get(mid - 1) + sorted.get(mid)) / 2;
+        }
+    }
+}
@@ -0,0 +1,164 @@
+package com.example.authservice.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// 가상 사용자 풀에서 사용자를 하나씩 빌려 가중치대로 고른 요청을 보내는 closed-loop 부하
+class Workload {
+
+    private static final String PASSWORD = "loadtest1234!";
+    private static final List<String> ALLERGIES = List.of("peanut", "milk");
+
+    private final AuthClient client;
+    private final LoadTestOptions options;
+    private final Operation[] weightedOps;
+    private final BlockingQueue<VirtualUser> idleUsers = new LinkedBlockingQueue<>();
+    private final AtomicInteger userSeq = new AtomicInteger();
+    private final String runId = Long.toString(System.currentTimeMillis(), 36);
+
+    Workload(AuthClient client, LoadTestOptions options) {
+        this.client = client;
+        this.options = options;
+        this.weightedOps = expand(options.mix());
+    }
+
+    // 측정 전에 사용자 풀 생성 (회원가입 + 최초 로그인)
+    void prepareUsers() throws InterruptedException {
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < options.users(); i++) {
+                executor.submit(() -> {
+                    VirtualUser user = join();
+                    login(user);
+                    idleUsers.add(user);
+                    return null;
+                });
+            }
+        }
+        if (idleUsers.isEmpty()) {
+            throw new IllegalStateException("사용자 생성에 모두 실패했습니다.");
+        }
+    }
+
+    void run(Duration duration) throws InterruptedException {
+        long deadline = System.nanoTime() + duration.toNanos();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < options.concurrency(); i++) {
+                executor.submit(() -> {
+                    while (System.nanoTime() < deadline) {
+                        VirtualUser user = idleUsers.poll(100, TimeUnit.MILLISECONDS);
+                        if (user == null) continue;
+                        try {
+                            execute(pick(), user);
+                        } catch (AuthClient.RequestFailedException e) {
+                            // 에러는 LatencyRecorder에 집계됨
+                        } finally {
+                            idleUsers.add(user);
+                        }
+                    }
+                    return null;
+                });
+            }
+        }
+    }
+
+    private void execute(Operation op, VirtualUser user) {
+        switch (op) {
+            case JOIN -> {
+                VirtualUser joined = join();
+                login(joined);
+                idleUsers.add(joined);
+            }
+            case LOGIN -> login(user);
+            case VALID_TOKEN -> client.post("validToken", "/auths/validToken", Map.of("token", accessToken(user)));
+            case CLAIMS -> client.post("claims", "/auths/claims", Map.of("token", accessToken(user)));
+            case REFRESH -> {
+                JsonNode response = client.post("refresh", "/auths/refresh", Map.of("refreshToken", refreshToken(user)));
+                if (response != null && response.path("status").asInt() == 1) {
+                    user.accessToken = response.path("accessToken").asText();
+                    user.refreshToken = response.path("refreshToken").asText();
+                }
+            }
+            case PROFILE -> client.post("profile", "/auths/profile", null, accessToken(user));
+            case LOGOUT -> {
+                client.post("logout", "/auths/logout", null, accessToken(user));
+                user.accessToken = null;
+                user.refreshToken = null;
+            }
+        }
+    }
+
+    private VirtualUser join() {
+        int seq = userSeq.incrementAndGet();
+        VirtualUser user = new VirtualUser("lt" + runId + seq, "lt" + runId + seq + "@loadtest.local");
+        String code = String.valueOf(100000 + seq % 900000);
+
+        client.post("email.authcode", "/auths/email/" + user.email + "/authcode", Map.of("code", code));
+        client.post("email.verify", "/auths/email/" + user.email + "/authcode/verify", Map.of("code", code));
+        client.post("join", "/auths/join", Map.of(
+                "userId", user.userId,
+                "password", PASSWORD,
+                "userName", "부하" + seq,
+                "email", user.email,
+                "emailyn", "y",
+                "phone", "010" + String.format("%08d", seq),
+                "phoneyn", "y",
+                "mainAddress", "서울특별시 강남구 테헤란로 " + seq,
+                "role", "ROLE_USER",
+                "allergies", ALLERGIES));
+        return user;
+    }
+
+    private void login(VirtualUser user) {
+        JsonNode response = client.post("login", "/auths/login", Map.of("userId", user.userId, "password", PASSWORD));
+        user.accessToken = response.path("accessToken").asText();
+        user.refreshToken = response.path("refreshToken").asText();
+    }
+
+    private String accessToken(VirtualUser user) {
+        if (user.accessToken == null) login(user);
+        return user.accessToken;
+    }
+
+    private String refreshToken(VirtualUser user) {
+        if (user.refreshToken == null) login(user);
+        return user.refreshToken;
+    }
+
+    private Operation pick() {
+        return weightedOps[ThreadLocalRandom.current().nextInt(weightedOps.length)];
+    }
+
+    private static Operation[] expand(Map<Operation, Integer> mix) {
+        List<Operation> ops = new ArrayList<>();
+        mix.forEach((op, weight) -> {
+            for (int i = 0; i < weight; i++) ops.add(op);
+        });
+        if (ops.isEmpty()) {
+            throw new IllegalArgumentException("mix가 비어 있습니다.");
+        }
+        return ops.toArray(Operation[]::new);
+    }
+
+    private static final class VirtualUser {
+        private final String userId;
+        private final String email;
+        private volatile String accessToken;
+        private volatile String refreshToken;
+
+        private VirtualUser(String userId, String email) {
+            this.userId = userId;
+            this.email = email;
+        }
+    }
+}
@@ -0,0 +1,60 @@
+-- 부하/스모크 테스트용 스키마 (H2 MySQL 모드, MariaDB4j 공용). 매퍼 XML이 사용하는 컬럼 기준.
+CREATE TABLE IF NOT EXISTS user (
+    uid          INT AUTO_INCREMENT PRIMARY KEY,
+    user_id      VARCHAR(50)  NOT NULL UNIQUE,
+    password     VARCHAR(100) NOT NULL,
+    user_name    VARCHAR(50),
+    email        VARCHAR(100),
+    emailyn      VARCHAR(1),
+    phone        VARCHAR(20),
+    phoneyn      VARCHAR(1),
+    point        INT          NOT NULL DEFAULT 0,
+    role         VARCHAR(20)  NOT NULL DEFAULT 'ROLE_USER',
+    status       VARCHAR(20)  NOT NULL DEFAULT 'active',
+    created_date DATETIME     NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+CREATE TABLE IF NOT EXISTS social (
+    uid          INT AUTO_INCREMENT PRIMARY KEY,
+    user_id      VARCHAR(100) NOT NULL,
+    user_name    VARCHAR(50),
+    email        VARCHAR(100),
+    emailyn      VARCHAR(1),
+    phone        VARCHAR(20),
+    phoneyn      VARCHAR(1),
+    type         VARCHAR(10)  NOT NULL,
+    point        INT          NOT NULL DEFAULT 0,
+    role         VARCHAR(20)  NOT NULL DEFAULT 'ROLE_USER',
+    status       VARCHAR(20)  NOT NULL DEFAULT 'active',
+    created_date DATETIME     NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    UNIQUE INDEX uk_social_user_id_type (user_id, type)
+);
+
+CREATE TABLE IF NOT EXISTS token (
+    uid           INT AUTO_INCREMENT PRIMARY KEY,
+    user_uid      INT,
+    social_uid    INT,
+    access_token  VARCHAR(1024),
+    refresh_token VARCHAR(1024),
+    access_token_hash  BINARY(32),
+    refresh_token_hash BINARY(32),
+    access_expires_at  DATETIME,
+    refresh_expires_at DATETIME,
+    UNIQUE INDEX uk_token_user_uid (user_uid),
+    UNIQUE INDEX uk_token_social_uid (social_uid)
+);
+
+CREATE TABLE IF NOT EXISTS user_address (
+    uid          BIGINT AUTO_INCREMENT PRIMARY KEY,
+    user_uid     INT,
+    social_uid   INT,
+    main_address VARCHAR(255),
+    sub_address1 VARCHAR(255),
+    sub_address2 VARCHAR(255),
+    main_lat     DOUBLE,
+    main_lan     DOUBLE,
+    sub1_lat     DOUBLE,
+    sub1_lan     DOUBLE,
+    sub2_lat     DOUBLE,
+    sub2_lan     DOUBLE
+);
@@ -1,9 +1,12 @@
 package com.example.authservice;
 
+import com.example.authservice.config.aot.AuthServiceRuntimeHints;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.context.annotation.ImportRuntimeHints;
 
 @SpringBootApplication
+@ImportRuntimeHints(AuthServiceRuntimeHints.class)
 public class AuthServiceApplication {
 
     public static void main(String[] args) {
@@ -0,0 +1,10 @@
+package com.example.authservice.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+// 백그라운드 작업 (TokenJanitor)
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -1,5 +1,9 @@
 package com.example.authservice.config;
 
+import com.example.authservice.config.metrics.AuthMetrics;
+import com.example.authservice.config.security.BearerTokenAuthenticationFilter;
+import com.example.authservice.config.security.MeteredBCryptPasswordEncoder;
+import com.example.authservice.service.TokenProviderService;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -8,12 +12,13 @@ import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 
 @Configuration
 public class SecurityConfig {
 
     @Bean
-    public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
+    public SecurityFilterChain securityFilterChain(HttpSecurity http, TokenProviderService tokenProviderService) throws Exception {
         http
                 .csrf(AbstractHttpConfigurer::disable)
                 .authorizeHttpRequests(
@@ -21,18 +26,24 @@ public class SecurityConfig {
                                 .requestMatchers(
                                         "/auths/**",
                                         "/oauth/**",
-                                        "/email/**"
+                                        "/email/**",
+                                        "/actuator/health/**",
+                                        "/actuator/prometheus"
                                 )
                                 .permitAll()
+                                // statement별 SQL/실행 통계, ROLE_ADMIN 계정의 accessToken (Authorization: Bearer)
+                                .requestMatchers("/actuator/mybatis").hasRole("ADMIN")
                                 .anyRequest().authenticated()
-                );
+                )
+                .addFilterBefore(new BearerTokenAuthenticationFilter(tokenProviderService),
+                        UsernamePasswordAuthenticationFilter.class);
 
         return http.build();
     }
 
     @Bean
-    public BCryptPasswordEncoder bCryptPasswordEncoder() {
-        return new BCryptPasswordEncoder();
+    public BCryptPasswordEncoder bCryptPasswordEncoder(AuthMetrics authMetrics) {
+        return new MeteredBCryptPasswordEncoder(authMetrics);
     }
 
     @Bean
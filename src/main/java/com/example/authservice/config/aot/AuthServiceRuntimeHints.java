@@ -0,0 +1,77 @@
+package com.example.authservice.config.aot;
+
+import com.example.authservice.client.AiGrpcClient;
+import org.springframework.aot.hint.BindingReflectionHintsRegistrar;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.aot.hint.TypeReference;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.context.annotation.ClassPathScanningCandidateComponentProvider;
+import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.util.ClassUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * native-image용 리플렉션/리소스 메타데이터 (MyBatis는 MybatisRuntimeHints).
+ * <ul>
+ *     <li>jjwt 0.11.5: api가 impl 구현체를 클래스 이름으로 로딩하고, Serializer/CompressionCodec은 ServiceLoader로 찾음</li>
+ *     <li>gRPC/캐시: protobuf 메시지 접근자와 stub 팩토리 메서드, @GrpcClient 필드 주입</li>
+ *     <li>DTO: Map/ResponseEntity&lt;?&gt;로 감싸 반환하는 경우가 있어 컨트롤러 시그니처만으로는 부족하므로 패키지 전체를 바인딩 등록</li>
+ * </ul>
+ * Lettuce(6.2.1)와 grpc-netty-shaded는 jar에 META-INF/native-image 메타데이터를 포함하고 있어 따로 등록하지 않는다.
+ */
+public class AuthServiceRuntimeHints implements RuntimeHintsRegistrar {
+
+    private static final String[] JJWT_TYPES = {
+            "io.jsonwebtoken.impl.DefaultJwtBuilder",
+            "io.jsonwebtoken.impl.DefaultJwtParser",
+            "io.jsonwebtoken.impl.DefaultJwtParserBuilder",
+            "io.jsonwebtoken.impl.DefaultClaims",
+            "io.jsonwebtoken.impl.DefaultHeader",
+            "io.jsonwebtoken.impl.DefaultJwsHeader",
+            "io.jsonwebtoken.impl.compression.DeflateCompressionCodec",
+            "io.jsonwebtoken.impl.compression.GzipCompressionCodec",
+            "io.jsonwebtoken.jackson.io.JacksonSerializer",
+            "io.jsonwebtoken.jackson.io.JacksonDeserializer",
+    };
+
+    private static final String GRPC_PACKAGE = "com.example.authservice.grpc";
+    private static final String CACHE_PACKAGE = "com.example.authservice.cache";
+    private static final String DTO_PACKAGE = "com.example.authservice.dto";
+
+    private final BindingReflectionHintsRegistrar bindingRegistrar = new BindingReflectionHintsRegistrar();
+
+    @Override
+    public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+        for (String type : JJWT_TYPES) {
+            hints.reflection().registerType(TypeReference.of(type),
+                    MemberCategory.INVOKE_DECLARED_CONSTRUCTORS, MemberCategory.INVOKE_PUBLIC_METHODS);
+        }
+        hints.resources().registerPattern("META-INF/services/io.jsonwebtoken.*");
+
+        for (Class<?> type : scan(classLoader, GRPC_PACKAGE, CACHE_PACKAGE)) {
+            hints.reflection().registerType(type,
+                    MemberCategory.INVOKE_PUBLIC_METHODS, MemberCategory.INVOKE_DECLARED_METHODS, MemberCategory.DECLARED_FIELDS);
+        }
+        hints.reflection().registerType(AiGrpcClient.class, MemberCategory.DECLARED_FIELDS);
+
+        bindingRegistrar.registerReflectionHints(hints.reflection(), scan(classLoader, DTO_PACKAGE).toArray(Class<?>[]::new));
+    }
+
+    // AOT 처리는 JVM에서 돌기 때문에 클래스패스 스캔을 쓸 수 있다 (중첩 클래스 포함)
+    public static List<Class<?>> scan(ClassLoader classLoader, String... packages) {
+        ClassPathScanningCandidateComponentProvider scanner = new ClassPathScanningCandidateComponentProvider(false);
+        scanner.setResourceLoader(new DefaultResourceLoader(classLoader));
+        scanner.addIncludeFilter((reader, factory) -> true);
+        List<Class<?>> types = new ArrayList<>();
+        for (String basePackage : packages) {
+            for (BeanDefinition candidate : scanner.findCandidateComponents(basePackage)) {
+                types.add(ClassUtils.resolveClassName(candidate.getBeanClassName(), classLoader));
+            }
+        }
+        return types;
+    }
+}
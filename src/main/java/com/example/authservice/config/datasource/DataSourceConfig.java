@@ -0,0 +1,84 @@
+package com.example.authservice.config.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.aop.Advisor;
+import org.springframework.aop.Pointcut;
+import org.springframework.aop.support.ComposablePointcut;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.aop.support.annotation.AnnotationMatchingPointcut;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.context.annotation.Role;
+import org.springframework.core.Ordered;
+import org.springframework.core.env.Environment;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+
+/**
+ * MySQL 읽기/쓰기 분리.
+ * <p>
+ * datasource.replicas가 비어 있으면 기존처럼 primary 풀 하나만 쓴다.
+ * 설정되어 있으면 readOnly 트랜잭션과 {@link ReplicaRead} 매퍼 조회는 정상 복제본으로,
+ * 그 외(쓰기, 읽기/쓰기 트랜잭션 안의 조회, 최근 {@link ReadYourWrites} 키)는 primary로 보낸다.
+ * primary/복제본 지연은 mybatis.statement{target}와 풀별 hikaricp.* 로 따로 본다.
+ */
+@Configuration(proxyBeanMethods = false)
+public class DataSourceConfig {
+
+    @Bean
+    public DataSource dataSource(DataSourceProperties dataSourceProperties, DataSourceRoutingProperties routingProperties,
+                                 Environment environment, MeterRegistry meterRegistry) {
+        HikariDataSource primary = dataSourceProperties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        Binder.get(environment).bind("spring.datasource.hikari", Bindable.ofInstance(primary));
+        if (routingProperties.getReplicas().isEmpty()) {
+            return primary;
+        }
+        primary.setPoolName(DataSourceRoute.PRIMARY);
+
+        ReplicaPool replicas = new ReplicaPool(primary, routingProperties, meterRegistry);
+        return new RoutingDataSourceProxy(new ReadWriteRoutingDataSource(primary, replicas), primary, replicas);
+    }
+
+    // 캐시(@Cacheable)보다 안쪽에서 실행 (캐시 적중 시에는 라우팅/Redis 확인 없음)
+    // 복제본이 없으면 아무 메서드에도 적용하지 않음 (@Conditional은 AOT 빌드 시점에 고정되므로 런타임에 판단)
+    @Bean
+    @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+    public static Advisor readRoutingAdvisor(@Lazy StringRedisTemplate stringRedisTemplate,
+                                             DataSourceRoutingProperties routingProperties) {
+        Pointcut pointcut = routingProperties.getReplicas().isEmpty() ? new ComposablePointcut(type -> false)
+                : new ComposablePointcut(new AnnotationMatchingPointcut(null, ReplicaRead.class, true))
+                        .union(new AnnotationMatchingPointcut(null, ReadYourWrites.class, true))
+                        .union(new AnnotationMatchingPointcut(null, ReadYourWrites.List.class, true));
+        PrimaryPins pins = new PrimaryPins(stringRedisTemplate, routingProperties.getReadYourWritesWindow());
+        DefaultPointcutAdvisor advisor = new DefaultPointcutAdvisor(pointcut, new ReadRoutingInterceptor(pins));
+        advisor.setOrder(Ordered.LOWEST_PRECEDENCE);
+        return advisor;
+    }
+
+    // 종료 시 복제본 풀과 상태 검사 스레드도 정리
+    static class RoutingDataSourceProxy extends LazyConnectionDataSourceProxy implements AutoCloseable {
+
+        private final HikariDataSource primary;
+        private final ReplicaPool replicas;
+
+        RoutingDataSourceProxy(ReadWriteRoutingDataSource target, HikariDataSource primary, ReplicaPool replicas) {
+            super(target);
+            this.primary = primary;
+            this.replicas = replicas;
+        }
+
+        @Override
+        public void close() {
+            replicas.close();
+            primary.close();
+        }
+    }
+}
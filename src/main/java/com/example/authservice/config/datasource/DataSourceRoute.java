@@ -0,0 +1,44 @@
+package com.example.authservice.config.datasource;
+
+import org.aopalliance.intercept.MethodInvocation;
+
+// 현재 스레드의 커넥션 라우팅 (ReadWriteRoutingDataSource가 커넥션을 꺼낼 때 참고)
+public final class DataSourceRoute {
+
+    public static final String PRIMARY = "primary";
+    public static final String REPLICA = "replica";
+
+    // @ReplicaRead가 정한 대상 (null이면 트랜잭션 readOnly 여부로 결정)
+    private static final ThreadLocal<String> REQUESTED = new ThreadLocal<>();
+    // 마지막으로 커넥션을 꺼낸 대상 (mybatis.statement target 태그)
+    private static final ThreadLocal<String> CURRENT = ThreadLocal.withInitial(() -> PRIMARY);
+
+    private DataSourceRoute() {
+    }
+
+    static Object with(String target, MethodInvocation invocation) throws Throwable {
+        String previous = REQUESTED.get();
+        REQUESTED.set(target);
+        try {
+            return invocation.proceed();
+        } finally {
+            if (previous == null) {
+                REQUESTED.remove();
+            } else {
+                REQUESTED.set(previous);
+            }
+        }
+    }
+
+    static String requested() {
+        return REQUESTED.get();
+    }
+
+    static void connected(String target) {
+        CURRENT.set(target);
+    }
+
+    public static String current() {
+        return CURRENT.get();
+    }
+}
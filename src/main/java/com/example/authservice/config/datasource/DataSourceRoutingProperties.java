@@ -0,0 +1,38 @@
+package com.example.authservice.config.datasource;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+// MySQL 복제본 읽기 분산 (primary는 spring.datasource.* 그대로)
+@Getter
+@Setter
+@Component
+@ConfigurationProperties("datasource")
+public class DataSourceRoutingProperties {
+
+    // 비어 있으면 라우팅 없이 primary 하나만 사용
+    private List<Replica> replicas = new ArrayList<>();
+
+    private Duration healthCheckInterval = Duration.ofSeconds(5);
+
+    // 복제 지연이 이보다 크면 해당 복제본 제외 (비우면 지연 검사 안 함, REPLICATION CLIENT 권한 필요)
+    private Duration maxReplicationLag;
+
+    // @ReadYourWrites 쓰기 후 같은 키의 @ReplicaRead를 primary로 보내는 시간
+    private Duration readYourWritesWindow = Duration.ofSeconds(5);
+
+    @Getter
+    @Setter
+    public static class Replica {
+        private String url;
+        // 비우면 primary 계정 사용
+        private String username;
+        private String password;
+    }
+}
@@ -0,0 +1,41 @@
+package com.example.authservice.config.datasource;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.time.Duration;
+
+// 최근 쓰기 표시 (Redis, 노드 간 공유): rw-pin:{이름}:{키}
+@Slf4j
+class PrimaryPins {
+
+    private final StringRedisTemplate redisTemplate;
+    private final Duration window;
+
+    PrimaryPins(StringRedisTemplate redisTemplate, Duration window) {
+        this.redisTemplate = redisTemplate;
+        this.window = window;
+    }
+
+    // 커밋 전에 남김 (롤백되면 잠깐 primary로 읽을 뿐이고, 커밋 직후 복제본을 읽는 틈이 없음)
+    void pin(String name, Object key) {
+        try {
+            redisTemplate.opsForValue().set(pinKey(name, key), "1", window);
+        } catch (RuntimeException e) {
+            log.warn("read-your-writes 표시 실패: {}:{}", name, key, e);
+        }
+    }
+
+    // Redis를 확인할 수 없으면 primary (예전 값을 읽는 것보다 안전)
+    boolean isPinned(String name, Object key) {
+        try {
+            return Boolean.TRUE.equals(redisTemplate.hasKey(pinKey(name, key)));
+        } catch (RuntimeException e) {
+            return true;
+        }
+    }
+
+    private static String pinKey(String name, Object key) {
+        return "rw-pin:" + name + ":" + key;
+    }
+}
@@ -0,0 +1,72 @@
+package com.example.authservice.config.datasource;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.context.expression.MethodBasedEvaluationContext;
+import org.springframework.core.DefaultParameterNameDiscoverer;
+import org.springframework.core.ParameterNameDiscoverer;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.expression.Expression;
+import org.springframework.expression.spel.standard.SpelExpressionParser;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.lang.reflect.Method;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+// @ReplicaRead / @ReadYourWrites 매퍼 메서드 처리
+class ReadRoutingInterceptor implements MethodInterceptor {
+
+    private static final ParameterNameDiscoverer PARAMETER_NAMES = new DefaultParameterNameDiscoverer();
+
+    private final PrimaryPins pins;
+    private final SpelExpressionParser parser = new SpelExpressionParser();
+    private final ConcurrentMap<String, Expression> expressions = new ConcurrentHashMap<>();
+    private final ConcurrentMap<Method, Routing> routings = new ConcurrentHashMap<>();
+
+    ReadRoutingInterceptor(PrimaryPins pins) {
+        this.pins = pins;
+    }
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        Routing routing = routings.computeIfAbsent(invocation.getMethod(), Routing::of);
+        for (ReadYourWrites write : routing.writes) {
+            Object key = key(write.key(), invocation);
+            if (key != null) {
+                pins.pin(write.value(), key);
+            }
+        }
+        if (routing.read == null) {
+            return invocation.proceed();
+        }
+        // 읽기/쓰기 트랜잭션 안이면 그 트랜잭션 커넥션(primary)을 그대로 사용
+        if (TransactionSynchronizationManager.isActualTransactionActive()
+                && !TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return invocation.proceed();
+        }
+        String target = DataSourceRoute.REPLICA;
+        if (!routing.read.key().isEmpty()) {
+            Object key = key(routing.read.key(), invocation);
+            if (key != null && pins.isPinned(routing.read.value(), key)) {
+                target = DataSourceRoute.PRIMARY;
+            }
+        }
+        return DataSourceRoute.with(target, invocation);
+    }
+
+    private Object key(String spel, MethodInvocation invocation) {
+        MethodBasedEvaluationContext context = new MethodBasedEvaluationContext(
+                null, invocation.getMethod(), invocation.getArguments(), PARAMETER_NAMES);
+        return expressions.computeIfAbsent(spel, parser::parseExpression).getValue(context);
+    }
+
+    private record Routing(ReplicaRead read, Set<ReadYourWrites> writes) {
+        static Routing of(Method method) {
+            return new Routing(
+                    AnnotatedElementUtils.findMergedAnnotation(method, ReplicaRead.class),
+                    AnnotatedElementUtils.findMergedRepeatableAnnotations(method, ReadYourWrites.class));
+        }
+    }
+}
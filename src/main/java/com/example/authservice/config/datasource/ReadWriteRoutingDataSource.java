@@ -0,0 +1,76 @@
+package com.example.authservice.config.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * primary / 복제본 커넥션 선택.
+ * <ul>
+ *     <li>{@link ReplicaRead}가 정한 대상이 있으면 그것</li>
+ *     <li>없으면 readOnly 트랜잭션은 복제본, 나머지는 primary</li>
+ * </ul>
+ * readOnly 플래그는 트랜잭션 시작 후에 설정되므로 LazyConnectionDataSourceProxy로 감싸
+ * 첫 statement 실행 시점에 커넥션을 꺼내게 한다 (DataSourceConfig).
+ * 정상 복제본이 없거나 커넥션을 얻지 못하면 primary로 읽는다.
+ */
+class ReadWriteRoutingDataSource extends AbstractDataSource {
+
+    private final HikariDataSource primary;
+    private final ReplicaPool replicas;
+
+    ReadWriteRoutingDataSource(HikariDataSource primary, ReplicaPool replicas) {
+        this.primary = primary;
+        this.replicas = replicas;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        if (readFromReplica()) {
+            ReplicaPool.Replica replica = replicas.next();
+            if (replica != null) {
+                try {
+                    Connection connection = replica.dataSource.getConnection();
+                    DataSourceRoute.connected(DataSourceRoute.REPLICA);
+                    return connection;
+                } catch (SQLException e) {
+                    replicas.markUnhealthy(replica, e);
+                }
+            }
+        }
+        Connection connection = primary.getConnection();
+        DataSourceRoute.connected(DataSourceRoute.PRIMARY);
+        return connection;
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        throw new UnsupportedOperationException("계정 지정 커넥션은 지원하지 않습니다.");
+    }
+
+    private static boolean readFromReplica() {
+        String requested = DataSourceRoute.requested();
+        if (requested != null) {
+            return DataSourceRoute.REPLICA.equals(requested);
+        }
+        return TransactionSynchronizationManager.isCurrentTransactionReadOnly();
+    }
+
+    // actuator의 hikaricp 메트릭/헬스가 primary 풀을 찾을 수 있도록
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T unwrap(Class<T> iface) throws SQLException {
+        if (iface.isInstance(primary)) {
+            return (T) primary;
+        }
+        return super.unwrap(iface);
+    }
+
+    @Override
+    public boolean isWrapperFor(Class<?> iface) throws SQLException {
+        return iface.isInstance(primary) || super.isWrapperFor(iface);
+    }
+}
@@ -0,0 +1,28 @@
+package com.example.authservice.config.datasource;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Repeatable;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 이 쓰기 이후 datasource.read-your-writes-window 동안 value/key가 같은 {@link ReplicaRead}는 primary에서 읽는다.
+ * 복제 지연 중에 예전 값을 읽어 로그인 실패나 캐시 오염이 생기지 않도록 하기 위함 (노드 간 공유: Redis).
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Repeatable(ReadYourWrites.List.class)
+public @interface ReadYourWrites {
+
+    String value();
+
+    // SpEL, 결과가 null이면 건너뜀
+    String key();
+
+    @Target(ElementType.METHOD)
+    @Retention(RetentionPolicy.RUNTIME)
+    @interface List {
+        ReadYourWrites[] value();
+    }
+}
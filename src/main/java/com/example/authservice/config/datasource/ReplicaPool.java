@@ -0,0 +1,148 @@
+package com.example.authservice.config.datasource;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 복제본 커넥션 풀 목록과 주기적인 상태 검사.
+ * <p>
+ * 검사(datasource.health-check-interval): 커넥션 유효성 + (max-replication-lag 설정 시) 복제 지연.
+ * 처음 검사를 통과하기 전이나 모두 비정상이면 {@link #next()}가 null을 돌려 primary로 읽는다.
+ * 메트릭: datasource.replica.healthy / datasource.replica.lag{replica}, 풀별 hikaricp.*{pool=replica-N}
+ */
+@Slf4j
+class ReplicaPool implements AutoCloseable {
+
+    private final List<Replica> replicas = new ArrayList<>();
+    private final AtomicInteger cursor = new AtomicInteger();
+    private final Duration maxReplicationLag;
+    private final ScheduledExecutorService healthChecker;
+
+    ReplicaPool(HikariConfig primaryConfig, DataSourceRoutingProperties properties, MeterRegistry meterRegistry) {
+        this.maxReplicationLag = properties.getMaxReplicationLag();
+        List<DataSourceRoutingProperties.Replica> configured = properties.getReplicas();
+        for (int i = 0; i < configured.size(); i++) {
+            Replica replica = new Replica("replica-" + i, dataSource(primaryConfig, configured.get(i), "replica-" + i, meterRegistry));
+            Gauge.builder("datasource.replica.healthy", replica, r -> r.healthy ? 1 : 0)
+                    .tag("replica", replica.name)
+                    .register(meterRegistry);
+            Gauge.builder("datasource.replica.lag", replica, r -> r.lagSeconds)
+                    .tag("replica", replica.name)
+                    .baseUnit("seconds")
+                    .register(meterRegistry);
+            replicas.add(replica);
+        }
+        this.healthChecker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "replica-health");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long interval = properties.getHealthCheckInterval().toMillis();
+        healthChecker.scheduleWithFixedDelay(this::checkAll, 0, interval, TimeUnit.MILLISECONDS);
+    }
+
+    // 정상 복제본 중 라운드로빈, 없으면 null
+    Replica next() {
+        int size = replicas.size();
+        int start = Math.floorMod(cursor.getAndIncrement(), size);
+        for (int i = 0; i < size; i++) {
+            Replica replica = replicas.get((start + i) % size);
+            if (replica.healthy) {
+                return replica;
+            }
+        }
+        return null;
+    }
+
+    private void checkAll() {
+        for (Replica replica : replicas) {
+            boolean healthy;
+            try (Connection connection = replica.dataSource.getConnection()) {
+                healthy = connection.isValid(2) && lagWithinLimit(replica, connection);
+            } catch (SQLException e) {
+                healthy = false;
+                log.debug("복제본 상태 검사 실패: {}", replica.name, e);
+            }
+            if (healthy != replica.healthy) {
+                log.warn("복제본 {} 상태 변경: {}", replica.name, healthy ? "정상" : "제외");
+            }
+            replica.healthy = healthy;
+        }
+    }
+
+    private boolean lagWithinLimit(Replica replica, Connection connection) throws SQLException {
+        if (maxReplicationLag == null) {
+            return true;
+        }
+        // MySQL 8.0.22+ (이전 버전은 SHOW SLAVE STATUS / Seconds_Behind_Master)
+        try (Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery("SHOW REPLICA STATUS")) {
+            if (!rs.next()) {
+                return false;
+            }
+            long lag = rs.getLong("Seconds_Behind_Source");
+            // NULL이면 복제가 멈춘 상태
+            if (rs.wasNull()) {
+                return false;
+            }
+            replica.lagSeconds = lag;
+            return lag <= maxReplicationLag.toSeconds();
+        }
+    }
+
+    void markUnhealthy(Replica replica, SQLException cause) {
+        replica.healthy = false;
+        log.warn("복제본 {} 커넥션 실패, 다음 상태 검사까지 제외", replica.name, cause);
+    }
+
+    @Override
+    public void close() {
+        healthChecker.shutdownNow();
+        replicas.forEach(replica -> replica.dataSource.close());
+    }
+
+    private static HikariDataSource dataSource(HikariConfig primaryConfig, DataSourceRoutingProperties.Replica replica,
+                                               String poolName, MeterRegistry meterRegistry) {
+        HikariConfig config = new HikariConfig();
+        primaryConfig.copyStateTo(config);
+        config.setPoolName(poolName);
+        config.setJdbcUrl(replica.getUrl());
+        if (replica.getUsername() != null) {
+            config.setUsername(replica.getUsername());
+            config.setPassword(replica.getPassword());
+        }
+        config.setReadOnly(true);
+        // 기동 시 복제본이 내려가 있어도 앱은 뜨고 primary로 읽음
+        config.setInitializationFailTimeout(-1);
+        config.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+        return new HikariDataSource(config);
+    }
+
+    static final class Replica {
+        final String name;
+        final HikariDataSource dataSource;
+        volatile boolean healthy;
+        volatile long lagSeconds;
+
+        Replica(String name, HikariDataSource dataSource) {
+            this.name = name;
+            this.dataSource = dataSource;
+        }
+    }
+}
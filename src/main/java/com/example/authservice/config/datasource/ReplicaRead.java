@@ -0,0 +1,23 @@
+package com.example.authservice.config.datasource;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 복제본에서 읽어도 되는 매퍼 조회.
+ * <p>
+ * 읽기/쓰기 트랜잭션 안에서 호출되면 그 트랜잭션의 primary 커넥션을 그대로 쓴다.
+ * value/key가 같은 {@link ReadYourWrites} 쓰기가 최근(datasource.read-your-writes-window)에 있었으면 primary에서 읽는다.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface ReplicaRead {
+
+    // 쓰기와 맞출 이름 (CacheNames와 같은 이름 사용)
+    String value() default "";
+
+    // SpEL (#p0, #p0.userId 등), 비우면 최근 쓰기 검사 안 함
+    String key() default "";
+}
@@ -0,0 +1,614 @@
+package com.example.authservice.config.jwt;
+
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.security.SignatureException;
+
+import javax.crypto.Mac;
+import javax.crypto.SecretKey;
+import javax.crypto.ShortBufferException;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Base64;
+
+/**
+ * 자체 발급 JWT(HS512, 고정 클레임 집합) 전용 인코더/디코더 (jwt.codec=fast).
+ * <p>
+ * jjwt는 토큰마다 빌더/파서, 헤더와 클레임 Map, Jackson 직렬화, Base64 문자열 복사를 거친다.
+ * 여기서는 헤더 {"typ":"JWT","alg":"HS512"}를 미리 인코딩해 두고, 스레드별 Mac과 버퍼에
+ * 클레임 JSON과 Base64URL을 바이트 단위로 직접 쓰고 읽는다. 토큰마다 남는 할당은 결과 String(과 읽은 클레임 값)뿐이다.
+ * <ul>
+ *     <li>발급: jjwt(Jackson 기본 ObjectMapper)와 같은 클레임 순서, 같은 문자열 이스케이프라 출력이 바이트 단위로 같다
+ *     (Jackson 2.18 기본 설정 기준, 버전을 올리면 FastJwtCodecTest가 먼저 깨진다).</li>
+ *     <li>검증: jjwt와 같은 순서(서명 → 만료)와 같은 예외 타입. 만료 예외에는 헤더/클레임이 없다.</li>
+ * </ul>
+ * 검증에서 헤더가 다르거나 서명/Base64가 정규형이 아닌 토큰, 중첩 객체/배열·소수·nbf 같은 예상 밖 클레임이 있으면 null을 돌려주고
+ * 호출자(JwtCodec)가 jjwt로 처리한다.
+ */
+final class FastJwtCodec {
+
+    private static final String HEADER_JSON = "{\"typ\":\"JWT\",\"alg\":\"HS512\"}";
+    private static final String MAC_ALGORITHM = "HmacSHA512";
+    private static final int SIGNATURE_LENGTH = 64;
+    // 64바이트의 패딩 없는 Base64URL 길이
+    private static final int ENCODED_SIGNATURE_LENGTH = 86;
+    // jjwt DefaultJwtParser와 같은 메시지
+    private static final String SIGNATURE_MISMATCH = "JWT signature does not match locally computed signature. "
+            + "JWT validity cannot be asserted and should not be trusted.";
+
+    private static final byte[] ALPHABET = ascii("ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789-_");
+    private static final int[] VALUES = new int[128];
+    private static final byte[] HEX = ascii("0123456789ABCDEF");
+    private static final byte[] NULL = ascii("null");
+    private static final byte[] TRUE = ascii("true");
+    private static final byte[] FALSE = ascii("false");
+
+    // 클레임 이름, 인덱스는 아래 상수 (쓰기 순서 = TokenClaims 필드 순서)
+    private static final byte[][] NAMES = {
+            ascii("iss"), ascii("iat"), ascii("exp"), ascii("sub"), ascii("uid"),
+            ascii("role"), ascii("userName"), ascii("sid"), ascii("gen"), ascii("jti"), ascii("nbf")};
+    private static final int ISS = 0;
+    private static final int IAT = 1;
+    private static final int EXP = 2;
+    private static final int SUB = 3;
+    private static final int UID = 4;
+    private static final int ROLE = 5;
+    private static final int USER_NAME = 6;
+    private static final int SID = 7;
+    private static final int GEN = 8;
+    private static final int JTI = 9;
+    private static final int NBF = 10;
+
+    static {
+        Arrays.fill(VALUES, -1);
+        for (int i = 0; i < ALPHABET.length; i++) {
+            VALUES[ALPHABET[i]] = i;
+        }
+    }
+
+    private final byte[] header;
+    private final ThreadLocal<Scratch> scratch;
+
+    FastJwtCodec(SecretKey key) {
+        this.header = Base64.getUrlEncoder().withoutPadding().encode(HEADER_JSON.getBytes(StandardCharsets.UTF_8));
+        this.scratch = ThreadLocal.withInitial(() -> new Scratch(newMac(key)));
+        // 키 문제는 첫 요청이 아니라 기동 시에 드러나도록
+        newMac(key);
+    }
+
+    String encode(TokenClaims claims) {
+        Scratch s = scratch.get();
+        s.length = 0;
+        s.ensure(1);
+        s.json[s.length++] = '{';
+        s.writeString(ISS, claims.issuer());
+        s.writeNumber(IAT, claims.issuedAt() != 0 ? claims.issuedAt() : null);
+        s.writeNumber(EXP, claims.expiresAt() != 0 ? claims.expiresAt() : null);
+        s.writeString(SUB, claims.subject());
+        s.writeNumber(UID, claims.uid());
+        s.writeString(ROLE, claims.role());
+        s.writeString(USER_NAME, claims.userName());
+        s.writeString(SID, claims.sessionId());
+        s.writeNumber(GEN, claims.generation());
+        s.writeString(JTI, claims.id());
+        s.ensure(1);
+        s.json[s.length++] = '}';
+
+        byte[] token = s.token(header.length + 1 + (s.length * 4 + 2) / 3 + 1 + ENCODED_SIGNATURE_LENGTH);
+        System.arraycopy(header, 0, token, 0, header.length);
+        int position = header.length;
+        token[position++] = '.';
+        position = encodeBase64(s.json, s.length, token, position);
+        s.mac.update(token, 0, position);
+        doFinal(s.mac, s.signature);
+        token[position++] = '.';
+        position = encodeBase64(s.signature, SIGNATURE_LENGTH, token, position);
+        return new String(token, 0, position, StandardCharsets.ISO_8859_1);
+    }
+
+    // 처리하지 않는 형태면 null (호출자가 jjwt로 검증)
+    TokenClaims decode(String token) {
+        int length = token.length();
+        int headerLength = header.length;
+        if (length <= headerLength || token.charAt(headerLength) != '.') {
+            return null;
+        }
+        Scratch s = scratch.get();
+        byte[] bytes = s.token(length);
+        int dot = -1;
+        for (int i = 0; i < length; i++) {
+            char c = token.charAt(i);
+            if (c >= 0x80) {
+                return null;
+            }
+            if (c == '.' && i > headerLength) {
+                if (dot >= 0) {
+                    return null;
+                }
+                dot = i;
+            }
+            bytes[i] = (byte) c;
+        }
+        if (dot < 0 || length - dot - 1 != ENCODED_SIGNATURE_LENGTH
+                || !Arrays.equals(bytes, 0, headerLength, header, 0, headerLength)
+                || decodeBase64(bytes, dot + 1, length, s.signature) != SIGNATURE_LENGTH) {
+            return null;
+        }
+        // jjwt와 같이 서명을 먼저 확인
+        s.mac.update(bytes, 0, dot);
+        doFinal(s.mac, s.expected);
+        if (!MessageDigest.isEqual(s.signature, s.expected)) {
+            throw new SignatureException(SIGNATURE_MISMATCH);
+        }
+
+        s.json((dot - headerLength) / 4 * 3 + 2);
+        int jsonLength = decodeBase64(bytes, headerLength + 1, dot, s.json);
+        if (jsonLength < 0) {
+            return null;
+        }
+        TokenClaims claims = s.parse(jsonLength);
+        if (claims == null) {
+            return null;
+        }
+        long now = System.currentTimeMillis();
+        if (claims.expiresAt() != 0 && now > claims.expiresAt() * 1000) {
+            throw new ExpiredJwtException(null, null, "JWT expired at " + Instant.ofEpochSecond(claims.expiresAt())
+                    + ". Current time: " + Instant.ofEpochSecond(now / 1000)
+                    + ", a difference of " + (now - claims.expiresAt() * 1000) + " milliseconds.  Allowed clock skew: 0 milliseconds.");
+        }
+        return claims;
+    }
+
+    private static int encodeBase64(byte[] source, int length, byte[] target, int position) {
+        int i = 0;
+        for (; i + 3 <= length; i += 3) {
+            int bits = (source[i] & 0xff) << 16 | (source[i + 1] & 0xff) << 8 | (source[i + 2] & 0xff);
+            target[position++] = ALPHABET[bits >>> 18 & 0x3f];
+            target[position++] = ALPHABET[bits >>> 12 & 0x3f];
+            target[position++] = ALPHABET[bits >>> 6 & 0x3f];
+            target[position++] = ALPHABET[bits & 0x3f];
+        }
+        if (length - i == 1) {
+            int bits = (source[i] & 0xff) << 16;
+            target[position++] = ALPHABET[bits >>> 18 & 0x3f];
+            target[position++] = ALPHABET[bits >>> 12 & 0x3f];
+        } else if (length - i == 2) {
+            int bits = (source[i] & 0xff) << 16 | (source[i + 1] & 0xff) << 8;
+            target[position++] = ALPHABET[bits >>> 18 & 0x3f];
+            target[position++] = ALPHABET[bits >>> 12 & 0x3f];
+            target[position++] = ALPHABET[bits >>> 6 & 0x3f];
+        }
+        return position;
+    }
+
+    // source는 ASCII (decode에서 확인), 알파벳 밖 문자나 남는 비트가 0이 아니면 -1
+    private static int decodeBase64(byte[] source, int from, int to, byte[] target) {
+        int rest = (to - from) % 4;
+        if (rest == 1) {
+            return -1;
+        }
+        int position = 0;
+        int i = from;
+        for (; i + 4 <= to; i += 4) {
+            int bits = VALUES[source[i]] << 18 | VALUES[source[i + 1]] << 12 | VALUES[source[i + 2]] << 6 | VALUES[source[i + 3]];
+            if (bits < 0) {
+                return -1;
+            }
+            target[position++] = (byte) (bits >> 16);
+            target[position++] = (byte) (bits >> 8);
+            target[position++] = (byte) bits;
+        }
+        if (rest == 2) {
+            int bits = VALUES[source[i]] << 18 | VALUES[source[i + 1]] << 12;
+            if (bits < 0 || (bits & 0xffff) != 0) {
+                return -1;
+            }
+            target[position++] = (byte) (bits >> 16);
+        } else if (rest == 3) {
+            int bits = VALUES[source[i]] << 18 | VALUES[source[i + 1]] << 12 | VALUES[source[i + 2]] << 6;
+            if (bits < 0 || (bits & 0xff) != 0) {
+                return -1;
+            }
+            target[position++] = (byte) (bits >> 16);
+            target[position++] = (byte) (bits >> 8);
+        }
+        return position;
+    }
+
+    private static Mac newMac(SecretKey key) {
+        try {
+            Mac mac = Mac.getInstance(MAC_ALGORITHM);
+            mac.init(key);
+            return mac;
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(MAC_ALGORITHM + " 초기화 실패", e);
+        }
+    }
+
+    private static void doFinal(Mac mac, byte[] output) {
+        try {
+            mac.doFinal(output, 0);
+        } catch (ShortBufferException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static byte[] ascii(String value) {
+        return value.getBytes(StandardCharsets.US_ASCII);
+    }
+
+    // 스레드별 Mac과 버퍼, json은 쓰기/읽기 공용
+    private static final class Scratch {
+        final Mac mac;
+        final byte[] signature = new byte[SIGNATURE_LENGTH];
+        final byte[] expected = new byte[SIGNATURE_LENGTH];
+        byte[] json = new byte[512];
+        byte[] token = new byte[1024];
+        int length;
+        int position;
+        boolean invalid;
+
+        Scratch(Mac mac) {
+            this.mac = mac;
+        }
+
+        byte[] token(int capacity) {
+            if (token.length < capacity) {
+                token = new byte[Math.max(capacity, token.length * 2)];
+            }
+            return token;
+        }
+
+        void json(int capacity) {
+            if (json.length < capacity) {
+                json = new byte[Math.max(capacity, json.length * 2)];
+            }
+        }
+
+        void ensure(int extra) {
+            if (json.length < length + extra) {
+                json = Arrays.copyOf(json, Math.max(length + extra, json.length * 2));
+            }
+        }
+
+        void writeName(int claim) {
+            byte[] name = NAMES[claim];
+            ensure(name.length + 4);
+            if (length > 1) {
+                json[length++] = ',';
+            }
+            json[length++] = '"';
+            System.arraycopy(name, 0, json, length, name.length);
+            length += name.length;
+            json[length++] = '"';
+            json[length++] = ':';
+        }
+
+        void writeNumber(int claim, Number value) {
+            if (value == null) {
+                return;
+            }
+            writeName(claim);
+            long number = value.longValue();
+            if (number == Long.MIN_VALUE) {
+                byte[] digits = ascii(Long.toString(number));
+                ensure(digits.length);
+                System.arraycopy(digits, 0, json, length, digits.length);
+                length += digits.length;
+                return;
+            }
+            ensure(20);
+            if (number < 0) {
+                json[length++] = '-';
+                number = -number;
+            }
+            int end = length + digitCount(number);
+            for (int i = end - 1; i >= length; i--) {
+                json[i] = (byte) ('0' + number % 10);
+                number /= 10;
+            }
+            length = end;
+        }
+
+        private static int digitCount(long number) {
+            int count = 1;
+            while (number >= 10) {
+                number /= 10;
+                count++;
+            }
+            return count;
+        }
+
+        // Jackson 기본 이스케이프: ", \, 제어 문자, 서로게이트(\uD83D\uDE00처럼 하나씩), 나머지 비ASCII는 UTF-8 그대로
+        void writeString(int claim, String value) {
+            if (value == null) {
+                return;
+            }
+            writeName(claim);
+            int count = value.length();
+            ensure(count * 6 + 2);
+            json[length++] = '"';
+            for (int i = 0; i < count; i++) {
+                char c = value.charAt(i);
+                if (c < 0x80) {
+                    if (c == '"' || c == '\\') {
+                        json[length++] = '\\';
+                        json[length++] = (byte) c;
+                    } else if (c < 0x20) {
+                        writeEscape(c);
+                    } else {
+                        json[length++] = (byte) c;
+                    }
+                } else if (c < 0x800) {
+                    json[length++] = (byte) (0xc0 | c >> 6);
+                    json[length++] = (byte) (0x80 | c & 0x3f);
+                } else if (Character.isSurrogate(c)) {
+                    writeEscape(c);
+                } else {
+                    json[length++] = (byte) (0xe0 | c >> 12);
+                    json[length++] = (byte) (0x80 | c >> 6 & 0x3f);
+                    json[length++] = (byte) (0x80 | c & 0x3f);
+                }
+            }
+            json[length++] = '"';
+        }
+
+        private void writeEscape(char c) {
+            json[length++] = '\\';
+            switch (c) {
+                case '\b' -> json[length++] = 'b';
+                case '\t' -> json[length++] = 't';
+                case '\n' -> json[length++] = 'n';
+                case '\f' -> json[length++] = 'f';
+                case '\r' -> json[length++] = 'r';
+                default -> {
+                    json[length++] = 'u';
+                    json[length++] = HEX[c >> 12];
+                    json[length++] = HEX[c >> 8 & 0xf];
+                    json[length++] = HEX[c >> 4 & 0xf];
+                    json[length++] = HEX[c & 0xf];
+                }
+            }
+        }
+
+        // 평평한 객체(문자열/정수/true/false/null 값)만 읽음, 그 외는 null
+        TokenClaims parse(int jsonLength) {
+            length = jsonLength;
+            position = 0;
+            invalid = false;
+            String issuer = null;
+            String subject = null;
+            String role = null;
+            String userName = null;
+            String sessionId = null;
+            String id = null;
+            long issuedAt = 0;
+            long expiresAt = 0;
+            Integer uid = null;
+            Long generation = null;
+
+            skipSpace();
+            if (!consume('{')) {
+                return null;
+            }
+            skipSpace();
+            if (!consume('}')) {
+                while (true) {
+                    int claim = readName();
+                    if (invalid) {
+                        return null;
+                    }
+                    skipSpace();
+                    if (!consume(':')) {
+                        return null;
+                    }
+                    skipSpace();
+                    if (!consumeLiteral(NULL)) {
+                        switch (claim) {
+                            case ISS -> issuer = readString();
+                            case IAT -> issuedAt = readLong();
+                            case EXP -> expiresAt = readLong();
+                            case SUB -> subject = readString();
+                            case UID -> {
+                                long value = readLong();
+                                invalid |= value != (int) value;
+                                uid = (int) value;
+                            }
+                            case ROLE -> role = readString();
+                            case USER_NAME -> userName = readString();
+                            case SID -> sessionId = readString();
+                            case GEN -> generation = readLong();
+                            case JTI -> id = readString();
+                            case NBF -> invalid = true;
+                            default -> skipValue();
+                        }
+                    }
+                    if (invalid) {
+                        return null;
+                    }
+                    skipSpace();
+                    if (consume('}')) {
+                        break;
+                    }
+                    if (!consume(',')) {
+                        return null;
+                    }
+                    skipSpace();
+                }
+            }
+            skipSpace();
+            if (position != length) {
+                return null;
+            }
+            return new TokenClaims(issuer, issuedAt, expiresAt, subject, uid, role, userName, sessionId, generation, id);
+        }
+
+        // 알려진 클레임이면 인덱스, 아니면 -1 (이스케이프가 있는 이름은 invalid)
+        private int readName() {
+            if (!consume('"')) {
+                invalid = true;
+                return -1;
+            }
+            int start = position;
+            while (position < length && json[position] != '"') {
+                if (json[position] == '\\') {
+                    invalid = true;
+                    return -1;
+                }
+                position++;
+            }
+            if (position == length) {
+                invalid = true;
+                return -1;
+            }
+            int end = position++;
+            for (int i = 0; i < NAMES.length; i++) {
+                if (Arrays.equals(json, start, end, NAMES[i], 0, NAMES[i].length)) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        private String readString() {
+            if (!consume('"')) {
+                invalid = true;
+                return null;
+            }
+            int start = position;
+            for (int i = start; i < length; i++) {
+                int b = json[i] & 0xff;
+                if (b == '"') {
+                    position = i + 1;
+                    return new String(json, start, i - start, StandardCharsets.UTF_8);
+                }
+                if (b == '\\') {
+                    return readEscapedString(start, i);
+                }
+                if (b < 0x20) {
+                    break;
+                }
+            }
+            invalid = true;
+            return null;
+        }
+
+        private String readEscapedString(int start, int escape) {
+            StringBuilder builder = new StringBuilder(escape - start + 16);
+            int segment = start;
+            int i = escape;
+            while (i < length) {
+                int b = json[i] & 0xff;
+                if (b == '"') {
+                    builder.append(new String(json, segment, i - segment, StandardCharsets.UTF_8));
+                    position = i + 1;
+                    return builder.toString();
+                }
+                if (b < 0x20 || b == '\\' && i + 1 >= length) {
+                    break;
+                }
+                if (b != '\\') {
+                    i++;
+                    continue;
+                }
+                builder.append(new String(json, segment, i - segment, StandardCharsets.UTF_8));
+                char escaped = (char) json[i + 1];
+                i += 2;
+                switch (escaped) {
+                    case '"', '\\', '/' -> builder.append(escaped);
+                    case 'b' -> builder.append('\b');
+                    case 'f' -> builder.append('\f');
+                    case 'n' -> builder.append('\n');
+                    case 'r' -> builder.append('\r');
+                    case 't' -> builder.append('\t');
+                    case 'u' -> {
+                        int code = i + 4 <= length ? hex(i) : -1;
+                        if (code < 0) {
+                            invalid = true;
+                            return null;
+                        }
+                        builder.append((char) code);
+                        i += 4;
+                    }
+                    default -> {
+                        invalid = true;
+                        return null;
+                    }
+                }
+                segment = i;
+            }
+            invalid = true;
+            return null;
+        }
+
+        private int hex(int from) {
+            int code = 0;
+            for (int i = from; i < from + 4; i++) {
+                int digit = Character.digit(json[i], 16);
+                if (digit < 0) {
+                    return -1;
+                }
+                code = code << 4 | digit;
+            }
+            return code;
+        }
+
+        // 정수만 (소수/지수/18자리 초과는 invalid)
+        private long readLong() {
+            boolean negative = consume('-');
+            int start = position;
+            long value = 0;
+            while (position < length && json[position] >= '0' && json[position] <= '9') {
+                value = value * 10 + (json[position++] - '0');
+            }
+            int digits = position - start;
+            if (digits == 0 || digits > 18
+                    || position < length && (json[position] == '.' || json[position] == 'e' || json[position] == 'E')) {
+                invalid = true;
+                return 0;
+            }
+            return negative ? -value : value;
+        }
+
+        private void skipValue() {
+            if (position < length && json[position] == '"') {
+                readString();
+            } else if (!consumeLiteral(TRUE) && !consumeLiteral(FALSE)) {
+                consume('-');
+                int start = position;
+                while (position < length && (json[position] >= '0' && json[position] <= '9'
+                        || json[position] == '.' || json[position] == 'e' || json[position] == 'E'
+                        || json[position] == '+' || json[position] == '-')) {
+                    position++;
+                }
+                invalid |= position == start;
+            }
+        }
+
+        private boolean consume(char c) {
+            if (position < length && json[position] == c) {
+                position++;
+                return true;
+            }
+            return false;
+        }
+
+        private boolean consumeLiteral(byte[] literal) {
+            int end = position + literal.length;
+            if (end <= length && Arrays.equals(json, position, end, literal, 0, literal.length)) {
+                position = end;
+                return true;
+            }
+            return false;
+        }
+
+        private void skipSpace() {
+            while (position < length && (json[position] == ' ' || json[position] == '\t'
+                    || json[position] == '\n' || json[position] == '\r')) {
+                position++;
+            }
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package com.example.authservice.config.jwt;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SigningKeyResolverAdapter;
+import io.jsonwebtoken.UnsupportedJwtException;
+import io.jsonwebtoken.security.SignatureException;
+import org.springframework.stereotype.Component;
+
+import java.security.Key;
+import java.util.Date;
+import java.util.Map;
+
+import static io.jsonwebtoken.Header.JWT_TYPE;
+import static io.jsonwebtoken.Header.TYPE;
+import static io.jsonwebtoken.JwsHeader.KEY_ID;
+import static io.jsonwebtoken.SignatureAlgorithm.ES256;
+import static io.jsonwebtoken.SignatureAlgorithm.HS512;
+
+/**
+ * 자체 발급 JWT 서명/검증 (jwt.codec, jwt.signing).
+ * <p>
+ * jwt.signing.kid가 있으면 ES256 + kid 헤더로 서명하고(JwtKeys), 없으면 HS512로 서명한다.
+ * 검증은 헤더에 kid가 있으면 그 kid의 공개키로 ES256만, 없으면 secret_key로 HS512만 받는다.
+ * <p>
+ * HS512는 jwt.codec=fast면 고정 클레임 토큰을 FastJwtCodec으로 처리한다. 두 구현의 토큰은 서로 호환되며
+ * FastJwtCodec이 처리하지 않는 토큰(ES256 포함)은 jjwt로 검증한다. 검증 실패는 두 구현 모두 jjwt 예외
+ * (ExpiredJwtException, SignatureException 등)로 알린다.
+ */
+@Component
+public class JwtCodec {
+
+    private final JwtKeys keys;
+    private final JwtParser parser;
+    // jwt.codec=jjwt이거나 secret_key가 없으면 null
+    private final FastJwtCodec fastCodec;
+
+    public JwtCodec(JwtProperties jwtProperties) {
+        this.keys = new JwtKeys(jwtProperties);
+        this.parser = Jwts.parserBuilder().setSigningKeyResolver(new KeyResolver()).build();
+        if (jwtProperties.getCodec() == JwtCodecType.FAST && keys.secretKey() != null) {
+            // jjwt signWith와 같은 키 길이 검사 (HS512는 512비트 이상)
+            HS512.assertValidSigningKey(keys.secretKey());
+            this.fastCodec = new FastJwtCodec(keys.secretKey());
+        } else {
+            this.fastCodec = null;
+        }
+    }
+
+    public String encode(TokenClaims claims) {
+        boolean asymmetric = keys.signingKid() != null;
+        if (fastCodec != null && !asymmetric) {
+            return fastCodec.encode(claims);
+        }
+        var builder = Jwts.builder().setHeaderParam(TYPE, JWT_TYPE);
+        if (asymmetric) {
+            builder.setHeaderParam(KEY_ID, keys.signingKid());
+        }
+        builder.setIssuer(claims.issuer())
+                .setIssuedAt(date(claims.issuedAt()))
+                .setExpiration(date(claims.expiresAt()))
+                .setSubject(claims.subject())
+                .claim("uid", claims.uid())
+                .claim("role", claims.role())
+                .claim("userName", claims.userName())
+                .claim("sid", claims.sessionId())
+                .claim("gen", claims.generation())
+                .setId(claims.id());
+        return asymmetric
+                ? builder.signWith(keys.signingKey(), ES256).compact()
+                : builder.signWith(keys.secretKey(), HS512).compact();
+    }
+
+    public TokenClaims decode(String token) {
+        if (fastCodec != null) {
+            TokenClaims claims = fastCodec.decode(token);
+            if (claims != null) {
+                return claims;
+            }
+        }
+        return TokenClaims.of(parser.parseClaimsJws(token).getBody());
+    }
+
+    // GET /auths/jwks 응답 (서명 공개키, signing.kid가 없으면 빈 목록)
+    public Map<String, Object> jwks() {
+        return keys.jwks();
+    }
+
+    private static Date date(long epochSeconds) {
+        return epochSeconds != 0 ? new Date(epochSeconds * 1000) : null;
+    }
+
+    // kid와 alg 조합을 고정해 공개키를 HMAC 키로 쓰게 하는 등의 alg 바꿔치기를 막음
+    private final class KeyResolver extends SigningKeyResolverAdapter {
+        @Override
+        public Key resolveSigningKey(JwsHeader header, Claims claims) {
+            String kid = header.getKeyId();
+            if (kid == null) {
+                if (!HS512.getValue().equals(header.getAlgorithm()) || keys.secretKey() == null) {
+                    throw new UnsupportedJwtException("kid 없는 토큰은 HS512만 허용: " + header.getAlgorithm());
+                }
+                return keys.secretKey();
+            }
+            if (!ES256.getValue().equals(header.getAlgorithm())) {
+                throw new UnsupportedJwtException("kid 있는 토큰은 ES256만 허용: " + header.getAlgorithm());
+            }
+            Key key = keys.publicKey(kid);
+            if (key == null) {
+                throw new SignatureException("알 수 없는 kid: " + kid);
+            }
+            return key;
+        }
+    }
+}
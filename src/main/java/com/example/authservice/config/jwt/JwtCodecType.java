@@ -0,0 +1,9 @@
+package com.example.authservice.config.jwt;
+
+// JWT 발급/검증 구현 (jwt.codec)
+public enum JwtCodecType {
+    // jjwt 빌더/파서
+    JJWT,
+    // 고정 클레임 토큰은 FastJwtCodec, 그 외 토큰은 jjwt
+    FAST
+}
@@ -0,0 +1,197 @@
+package com.example.authservice.config.jwt;
+
+import io.jsonwebtoken.security.Keys;
+
+import javax.crypto.SecretKey;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.security.AlgorithmParameters;
+import java.security.GeneralSecurityException;
+import java.security.KeyFactory;
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.security.Signature;
+import java.security.interfaces.ECKey;
+import java.security.interfaces.ECPublicKey;
+import java.security.spec.ECGenParameterSpec;
+import java.security.spec.ECParameterSpec;
+import java.security.spec.PKCS8EncodedKeySpec;
+import java.security.spec.X509EncodedKeySpec;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 자체 발급 JWT 키 (jwt.secret_key, jwt.signing).
+ * <p>
+ * jwt.signing.kid가 있으면 그 ES256(P-256) 개인키로 서명하고 헤더에 kid를 넣는다. 공개키(현재 + 교체 전 키)는
+ * GET /auths/jwks로 게시해서 다른 서비스(auth-client)가 로컬에서 검증한다.
+ * kid가 없으면 HS512(secret_key)로 서명하고, kid 없는 토큰은 계속 secret_key로 검증한다.
+ * 키 형식/곡선/쌍이 맞지 않으면 기동 시에 실패한다.
+ */
+final class JwtKeys {
+
+    private static final String SIGNATURE_ALGORITHM = "SHA256withECDSA";
+    private static final ECParameterSpec P256 = p256();
+
+    // secret_key가 없으면 null (kid 없는 토큰은 거절)
+    private final SecretKey secretKey;
+    // signing.kid가 없으면 null (HS512로 서명)
+    private final String signingKid;
+    private final PrivateKey signingKey;
+    private final Map<String, ECPublicKey> publicKeys;
+    private final Map<String, Object> jwks;
+
+    JwtKeys(JwtProperties properties) {
+        this.secretKey = hasText(properties.getSecretKey())
+                ? Keys.hmacShaKeyFor(Base64.getDecoder().decode(properties.getSecretKey()))
+                : null;
+        JwtProperties.Signing signing = properties.getSigning();
+        Map<String, ECPublicKey> keys = new LinkedHashMap<>();
+        if (hasText(signing.getKid())) {
+            this.signingKid = signing.getKid();
+            this.signingKey = privateKey(signing.getKid(), signing.getPrivateKey());
+            ECPublicKey publicKey = publicKey(signing.getKid(), signing.getPublicKey());
+            assertPair(signing.getKid(), signingKey, publicKey);
+            keys.put(signing.getKid(), publicKey);
+        } else {
+            this.signingKid = null;
+            this.signingKey = null;
+        }
+        if (hasText(signing.getPreviousKid())) {
+            if (signing.getPreviousKid().equals(signingKid)) {
+                throw new IllegalStateException("jwt.signing.previous-kid가 kid와 같음: " + signingKid);
+            }
+            keys.put(signing.getPreviousKid(), publicKey(signing.getPreviousKid(), signing.getPreviousPublicKey()));
+        }
+        if (secretKey == null && signingKid == null) {
+            throw new IllegalStateException("jwt.secret_key 또는 jwt.signing.kid가 필요함");
+        }
+        this.publicKeys = Collections.unmodifiableMap(keys);
+        this.jwks = jwks(keys);
+    }
+
+    SecretKey secretKey() {
+        return secretKey;
+    }
+
+    String signingKid() {
+        return signingKid;
+    }
+
+    PrivateKey signingKey() {
+        return signingKey;
+    }
+
+    // 모르는 kid면 null
+    ECPublicKey publicKey(String kid) {
+        return publicKeys.get(kid);
+    }
+
+    // RFC 7517 JWK Set ({"keys":[...]})
+    Map<String, Object> jwks() {
+        return jwks;
+    }
+
+    private static Map<String, Object> jwks(Map<String, ECPublicKey> keys) {
+        List<Map<String, String>> list = new ArrayList<>();
+        keys.forEach((kid, key) -> {
+            Map<String, String> jwk = new LinkedHashMap<>();
+            jwk.put("kty", "EC");
+            jwk.put("crv", "P-256");
+            jwk.put("use", "sig");
+            jwk.put("alg", "ES256");
+            jwk.put("kid", kid);
+            jwk.put("x", coordinate(key.getW().getAffineX()));
+            jwk.put("y", coordinate(key.getW().getAffineY()));
+            list.add(Collections.unmodifiableMap(jwk));
+        });
+        return Map.of("keys", List.copyOf(list));
+    }
+
+    // 32바이트 부호 없는 big-endian
+    private static String coordinate(BigInteger value) {
+        byte[] bytes = value.toByteArray();
+        byte[] fixed = new byte[32];
+        int length = Math.min(bytes.length, 32);
+        System.arraycopy(bytes, bytes.length - length, fixed, 32 - length, length);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(fixed);
+    }
+
+    private static PrivateKey privateKey(String kid, String value) {
+        try {
+            PrivateKey key = KeyFactory.getInstance("EC").generatePrivate(new PKCS8EncodedKeySpec(der(kid, value)));
+            assertP256(kid, (ECKey) key);
+            return key;
+        } catch (GeneralSecurityException | IllegalArgumentException e) {
+            throw new IllegalStateException("jwt 서명 개인키를 읽을 수 없음: kid=" + kid, e);
+        }
+    }
+
+    private static ECPublicKey publicKey(String kid, String value) {
+        try {
+            PublicKey key = KeyFactory.getInstance("EC").generatePublic(new X509EncodedKeySpec(der(kid, value)));
+            assertP256(kid, (ECKey) key);
+            return (ECPublicKey) key;
+        } catch (GeneralSecurityException | IllegalArgumentException e) {
+            throw new IllegalStateException("jwt 서명 공개키를 읽을 수 없음: kid=" + kid, e);
+        }
+    }
+
+    // PEM이면 -----BEGIN/END----- 줄과 공백을 빼고 Base64 디코딩
+    private static byte[] der(String kid, String value) {
+        if (!hasText(value)) {
+            throw new IllegalArgumentException("키가 비어 있음: kid=" + kid);
+        }
+        StringBuilder base64 = new StringBuilder(value.length());
+        for (String line : value.split("\\R|\\\\n")) {
+            if (!line.startsWith("-----")) {
+                base64.append(line.strip());
+            }
+        }
+        return Base64.getDecoder().decode(base64.toString());
+    }
+
+    private static void assertP256(String kid, ECKey key) {
+        ECParameterSpec params = key.getParams();
+        if (!params.getCurve().equals(P256.getCurve()) || !params.getOrder().equals(P256.getOrder())
+                || !params.getGenerator().equals(P256.getGenerator())) {
+            throw new IllegalArgumentException("P-256 키가 아님: kid=" + kid);
+        }
+    }
+
+    private static void assertPair(String kid, PrivateKey privateKey, PublicKey publicKey) {
+        try {
+            byte[] probe = kid.getBytes(StandardCharsets.UTF_8);
+            Signature signer = Signature.getInstance(SIGNATURE_ALGORITHM);
+            signer.initSign(privateKey);
+            signer.update(probe);
+            byte[] signature = signer.sign();
+            Signature verifier = Signature.getInstance(SIGNATURE_ALGORITHM);
+            verifier.initVerify(publicKey);
+            verifier.update(probe);
+            if (!verifier.verify(signature)) {
+                throw new IllegalStateException("jwt.signing.private-key와 public-key가 한 쌍이 아님: kid=" + kid);
+            }
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("jwt 서명 키 확인 실패: kid=" + kid, e);
+        }
+    }
+
+    private static ECParameterSpec p256() {
+        try {
+            AlgorithmParameters parameters = AlgorithmParameters.getInstance("EC");
+            parameters.init(new ECGenParameterSpec("secp256r1"));
+            return parameters.getParameterSpec(ECParameterSpec.class);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("P-256 곡선을 쓸 수 없음", e);
+        }
+    }
+
+    private static boolean hasText(String value) {
+        return value != null && !value.isBlank();
+    }
+}
@@ -11,5 +11,23 @@ import org.springframework.stereotype.Component;
 @ConfigurationProperties("jwt")
 public class JwtProperties {
     private String issuer;
+    // HS512 키: signing.kid가 없으면 이 키로 서명, kid 없는 토큰(전환 전 발급)은 이 키로 검증
     private String secretKey;
+    // 두 구현의 토큰은 서로 호환되므로 운영 중에 바꿔도 기존 토큰이 그대로 검증됨 (JwtCodec)
+    private JwtCodecType codec = JwtCodecType.JJWT;
+    private Signing signing = new Signing();
+
+    // ES256(P-256) 서명 키, 공개키는 GET /auths/jwks로 게시 (JwtKeys)
+    // 키는 PEM 또는 Base64 DER (개인키 PKCS#8, 공개키 X.509)
+    @Getter
+    @Setter
+    public static class Signing {
+        // 비어 있으면 HS512(secret_key)로 서명
+        private String kid;
+        private String privateKey;
+        private String publicKey;
+        // 교체 전 키: 서명하지 않고 검증/JWKS 게시만, 그 키로 발급한 refreshToken이 만료될 때까지 유지
+        private String previousKid;
+        private String previousPublicKey;
+    }
 }
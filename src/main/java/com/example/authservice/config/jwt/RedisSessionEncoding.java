@@ -0,0 +1,9 @@
+package com.example.authservice.config.jwt;
+
+// Redis 토큰 세션 저장 방식 (token.redis-session)
+public enum RedisSessionEncoding {
+    // 토큰 원문 문자열 키 2개: {owner}:accessToken / {owner}:refreshToken
+    STRINGS,
+    // 해시 하나에 지문 + 만료 시각: {owner}:session (TokenSession)
+    COMPACT
+}
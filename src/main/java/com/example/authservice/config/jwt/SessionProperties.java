@@ -0,0 +1,35 @@
+package com.example.authservice.config.jwt;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+// 기기별 세션 목록과 세션 세대 (SessionRegistry)
+@Getter
+@Setter
+@Component
+@ConfigurationProperties("session")
+public class SessionProperties {
+
+    // 사용자당 유지할 세션 수, 넘으면 오래된(만료가 가까운) 세션부터 제거
+    private int maxPerUser = 10;
+
+    // 세대 값 로컬 캐시 유지 시간, 다른 노드의 "모든 기기 로그아웃"은 user-events로 바로 반영되고 이벤트를 놓쳤을 때의 상한
+    private Duration generationCacheTtl = Duration.ofSeconds(5);
+
+    private long generationCacheMaxSize = 100_000;
+
+    // 같은 refreshToken의 반복 교환에 이미 발급한 쌍을 돌려주는 시간 (동시 요청, 응답 유실 후 재시도)
+    private Duration refreshGrace = Duration.ofSeconds(30);
+
+    // 교환 중인 refreshToken의 락은 spring.data.redis.timeout × 발급 경로 왕복 수에 이 여유를 더한 시간 유지 (RefreshRotation.lockTtl)
+    // 같은 토큰의 다른 요청은 refresh-lock-wait까지 발급을 기다림
+    private Duration refreshLockMargin = Duration.ofSeconds(1);
+    private Duration refreshLockWait = Duration.ofSeconds(2);
+
+    // grace가 지난 이전 refreshToken이 오면 세션 종료 (회전된 토큰의 재사용 = 탈취 의심)
+    private boolean refreshReuseDetection = true;
+}
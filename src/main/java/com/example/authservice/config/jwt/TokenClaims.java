@@ -0,0 +1,31 @@
+package com.example.authservice.config.jwt;
+
+import io.jsonwebtoken.Claims;
+
+import java.util.Date;
+
+/**
+ * 자체 발급 JWT의 클레임 (JwtCodec). 필드 순서가 토큰 JSON의 클레임 순서다.
+ * issuedAt/expiresAt은 epoch 초이고 0이면 클레임 없음, 나머지는 null이면 클레임 없음.
+ */
+public record TokenClaims(String issuer, long issuedAt, long expiresAt, String subject, Integer uid,
+                          String role, String userName, String sessionId, Long generation, String id) {
+
+    static TokenClaims of(Claims claims) {
+        return new TokenClaims(
+                claims.getIssuer(),
+                epochSeconds(claims.getIssuedAt()),
+                epochSeconds(claims.getExpiration()),
+                claims.getSubject(),
+                claims.get("uid", Integer.class),
+                claims.get("role", String.class),
+                claims.get("userName", String.class),
+                claims.get("sid", String.class),
+                claims.get("gen") instanceof Number number ? number.longValue() : null,
+                claims.getId());
+    }
+
+    private static long epochSeconds(Date date) {
+        return date != null ? date.getTime() / 1000 : 0;
+    }
+}
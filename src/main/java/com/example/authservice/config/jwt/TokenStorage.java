@@ -0,0 +1,9 @@
+package com.example.authservice.config.jwt;
+
+// token 테이블 저장 방식
+public enum TokenStorage {
+    // 원문 + 지문 (지문 컬럼 추가 후 마이그레이션이 끝날 때까지)
+    RAW,
+    // 지문 + 만료 시각만 (원문 컬럼은 NULL)
+    FINGERPRINT
+}
@@ -0,0 +1,48 @@
+package com.example.authservice.config.jwt;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+// token 테이블/Redis 세션 저장 방식과 기존 행 변환 (스키마: db/token-fingerprint.sql)
+@Getter
+@Setter
+@Component
+@ConfigurationProperties("token")
+public class TokenStorageProperties {
+
+    private TokenStorage storage = TokenStorage.RAW;
+
+    // compact여도 해시가 없는 세션은 기존 문자열 키로 확인 (전환 전에 로그인한 사용자 유지)
+    private RedisSessionEncoding redisSession = RedisSessionEncoding.STRINGS;
+
+    private Migration migration = new Migration();
+
+    private Janitor janitor = new Janitor();
+
+    @Getter
+    @Setter
+    public static class Migration {
+        // 기동 후 백그라운드에서 지문이 없는 기존 행을 변환 (storage=fingerprint면 원문도 비움)
+        private boolean enabled = false;
+        // 한 트랜잭션에서 변환할 행 수
+        private int batchSize = 500;
+    }
+
+    // 만료/고아 token 행 정리 (TokenJanitor)
+    @Getter
+    @Setter
+    public static class Janitor {
+        private boolean enabled = true;
+        private Duration interval = Duration.ofMinutes(10);
+        // DELETE 한 번에 지우는 행 수 (행 락 유지 시간 = 배치 하나)
+        private int batchSize = 500;
+        // 배치 사이 대기 (복제 지연/다른 쓰기 여유)
+        private Duration pause = Duration.ofMillis(200);
+        // 한 번 실행의 최대 시간, 남은 행은 다음 실행에서 (락 TTL은 이보다 조금 길게 잡음)
+        private Duration maxDuration = Duration.ofMinutes(2);
+    }
+}
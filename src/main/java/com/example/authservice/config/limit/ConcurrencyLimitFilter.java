@@ -0,0 +1,119 @@
+package com.example.authservice.config.limit;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 엔드포인트 그룹별 적응형 동시 처리 제한.
+ * <p>
+ * 그룹 limiter가 허용한 수 이상의 요청은 Tomcat 스레드/커넥션 풀에서 기다리게 두지 않고 바로 503 + Retry-After로 돌려보낸다.
+ * token 그룹 외에는 전체 처리 중 요청이 capacity - token-reserve에 닿으면 자기 제한이 남아 있어도 거절해서,
+ * MySQL/BCrypt가 느려져 로그인/가입이 쌓여도 다른 서비스가 부르는 validToken 등은 스레드를 얻는다.
+ * http.server.requests 관측 필터 안쪽(뒤)에서 돌아 거절된 요청도 503으로 집계된다.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+public class ConcurrencyLimitFilter extends OncePerRequestFilter {
+
+    private static final String SHED_BODY = "{\"message\":\"요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해 주세요.\"}";
+
+    private final ConcurrencyLimitProperties properties;
+    private final Map<EndpointGroup, GradientLimiter> limiters = new EnumMap<>(EndpointGroup.class);
+    private final AtomicInteger inflight = new AtomicInteger();
+    private final Meter.MeterProvider<Counter> shed;
+
+    public ConcurrencyLimitFilter(ConcurrencyLimitProperties properties, MeterRegistry registry) {
+        this.properties = properties;
+        for (EndpointGroup group : EndpointGroup.values()) {
+            ConcurrencyLimitProperties.Group config = properties.getGroups().get(group);
+            if (config == null) {
+                continue;
+            }
+            GradientLimiter limiter = new GradientLimiter(properties, config);
+            limiters.put(group, limiter);
+            Tags tags = Tags.of("group", tag(group));
+            Gauge.builder("concurrency.limit", limiter, GradientLimiter::limit)
+                    .description("그룹 동시 처리 제한")
+                    .tags(tags)
+                    .register(registry);
+            Gauge.builder("concurrency.inflight", limiter, GradientLimiter::inflight)
+                    .description("그룹 처리 중 요청 수")
+                    .tags(tags)
+                    .register(registry);
+            Gauge.builder("concurrency.rtt.long", limiter, GradientLimiter::longRttMillis)
+                    .description("그룹 장기 평균 응답 시간")
+                    .baseUnit("milliseconds")
+                    .tags(tags)
+                    .register(registry);
+        }
+        this.shed = Counter.builder("concurrency.shed")
+                .description("동시 처리 제한으로 거절한 요청 (reason: limit=그룹 제한, reserve=token 몫 보호)")
+                .withRegistry(registry);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !properties.isEnabled();
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        EndpointGroup group = EndpointGroup.of(request);
+        GradientLimiter limiter = group != null ? limiters.get(group) : null;
+        if (limiter == null) {
+            chain.doFilter(request, response);
+            return;
+        }
+        if (group != EndpointGroup.TOKEN && inflight.get() >= properties.getCapacity() - properties.getTokenReserve()) {
+            reject(response, group, "reserve");
+            return;
+        }
+        if (!limiter.tryAcquire()) {
+            reject(response, group, "limit");
+            return;
+        }
+        inflight.incrementAndGet();
+        long start = System.nanoTime();
+        boolean failed = true;
+        try {
+            chain.doFilter(request, response);
+            failed = response.getStatus() >= 500;
+        } finally {
+            inflight.decrementAndGet();
+            limiter.release(start, failed);
+        }
+    }
+
+    private void reject(HttpServletResponse response, EndpointGroup group, String reason) throws IOException {
+        shed.withTags(Tags.of("group", tag(group), "reason", reason)).increment();
+        response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, "1");
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding("UTF-8");
+        response.getWriter().write(SHED_BODY);
+    }
+
+    private static String tag(EndpointGroup group) {
+        return group.name().toLowerCase().replace('_', '-');
+    }
+}
@@ -0,0 +1,66 @@
+package com.example.authservice.config.limit;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+
+// 엔드포인트 그룹별 적응형 동시 처리 제한 (ConcurrencyLimitFilter)
+@Getter
+@Setter
+@Component
+@ConfigurationProperties("concurrency-limit")
+public class ConcurrencyLimitProperties {
+
+    private boolean enabled = true;
+
+    // 서버가 동시에 처리할 요청 수 (server.tomcat.threads.max와 같게)
+    private int capacity = 200;
+
+    // capacity 중 token 그룹만 쓸 수 있는 몫: 전체 처리 중 요청이 capacity - token-reserve 이상이면 다른 그룹은 거절
+    private int tokenReserve = 50;
+
+    // 제한 재계산 주기 (이 동안 모은 응답 시간 평균을 short RTT로 사용)
+    private Duration window = Duration.ofMillis(100);
+
+    // 한 주기에 이보다 응답이 적으면 재계산하지 않음
+    private int minWindowSamples = 10;
+
+    // long RTT 대비 short RTT가 이 배수까지는 큐잉이 아닌 정상 변동으로 봄
+    private double rttTolerance = 1.5;
+
+    // 새 제한을 얼마나 반영할지 (0~1, 작을수록 천천히 변함)
+    private double smoothing = 0.2;
+
+    private Map<EndpointGroup, Group> groups = defaults();
+
+    @Getter
+    @Setter
+    public static class Group {
+        private int initialLimit;
+        private int minLimit;
+        private int maxLimit;
+
+        Group() {
+        }
+
+        Group(int initialLimit, int minLimit, int maxLimit) {
+            this.initialLimit = initialLimit;
+            this.minLimit = minLimit;
+            this.maxLimit = maxLimit;
+        }
+    }
+
+    private static Map<EndpointGroup, Group> defaults() {
+        Map<EndpointGroup, Group> groups = new EnumMap<>(EndpointGroup.class);
+        groups.put(EndpointGroup.TOKEN, new Group(100, 20, 200));
+        groups.put(EndpointGroup.CREDENTIAL, new Group(20, 4, 100));
+        groups.put(EndpointGroup.PROFILE_READ, new Group(40, 8, 150));
+        groups.put(EndpointGroup.PROFILE_WRITE, new Group(20, 4, 100));
+        return groups;
+    }
+}
@@ -0,0 +1,31 @@
+package com.example.authservice.config.limit;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+// 동시 처리 제한 단위 (concurrency-limit.groups.*), 나머지 경로(actuator 등)는 제한하지 않음
+public enum EndpointGroup {
+    // 다른 서비스가 요청마다 호출하는 토큰 검증/발급: JWT 서명 + Redis만, 우선 처리 (capacity 중 token-reserve 보장)
+    TOKEN,
+    // 로그인/가입/이메일 인증: BCrypt + MySQL
+    CREDENTIAL,
+    // 회원 정보 조회
+    PROFILE_READ,
+    // 회원 정보 변경, 로그아웃, 탈퇴
+    PROFILE_WRITE;
+
+    public static EndpointGroup of(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        if (!path.startsWith("/auths/")) {
+            return null;
+        }
+        String method = request.getMethod();
+        return switch (path) {
+            case "/auths/validToken", "/auths/claims", "/auths/refresh", "/auths/re/tokens" -> TOKEN;
+            case "/auths/login", "/auths/login/oauth", "/auths/join" -> CREDENTIAL;
+            case "/auths/check-id", "/auths/managers", "/auths/user/info" -> PROFILE_READ;
+            case "/auths/profile" -> "GET".equals(method) || "POST".equals(method) ? PROFILE_READ : PROFILE_WRITE;
+            case "/auths/logout", "/auths/logout/all", "/auths/user", "/auths/address" -> PROFILE_WRITE;
+            default -> path.startsWith("/auths/email/") ? CREDENTIAL : null;
+        };
+    }
+}
@@ -0,0 +1,114 @@
+package com.example.authservice.config.limit;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 응답 시간 기울기로 동시 처리 제한을 조정하는 limiter (Netflix concurrency-limits의 Gradient2를 단순화).
+ * <p>
+ * window마다 그 동안의 평균 응답 시간(short RTT)을 장기 평균(long RTT)과 비교해
+ * short RTT가 늘면(큐잉 시작) 제한을 줄이고, 그대로면 sqrt(limit)만큼 늘린다.
+ * 5xx/예외가 난 window는 응답 시간과 상관없이 10% 줄인다.
+ * 처리 중 요청이 제한의 절반도 안 되는 window에서는 늘리지 않는다 (부하가 없을 때 제한이 max까지 부풀지 않도록).
+ */
+class GradientLimiter {
+
+    private static final double LONG_RTT_DECAY = 0.05;
+    private static final double DROP_DECREASE = 0.9;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final long windowNanos;
+    private final int minWindowSamples;
+    private final double rttTolerance;
+    private final double smoothing;
+
+    private final AtomicInteger inflight = new AtomicInteger();
+    private final AtomicInteger maxInflight = new AtomicInteger();
+    private final LongAdder rttNanos = new LongAdder();
+    private final LongAdder samples = new LongAdder();
+    private final AtomicLong windowStart = new AtomicLong(System.nanoTime());
+    private volatile boolean dropped;
+    private volatile double limit;
+    // window 갱신은 windowStart CAS에 성공한 한 스레드만 하므로 따로 동기화하지 않음
+    private double longRtt;
+
+    GradientLimiter(ConcurrencyLimitProperties properties, ConcurrencyLimitProperties.Group group) {
+        this.minLimit = group.getMinLimit();
+        this.maxLimit = group.getMaxLimit();
+        this.limit = Math.clamp(group.getInitialLimit(), minLimit, maxLimit);
+        this.windowNanos = properties.getWindow().toNanos();
+        this.minWindowSamples = properties.getMinWindowSamples();
+        this.rttTolerance = properties.getRttTolerance();
+        this.smoothing = properties.getSmoothing();
+    }
+
+    boolean tryAcquire() {
+        int current;
+        do {
+            current = inflight.get();
+            if (current >= (int) limit) {
+                return false;
+            }
+        } while (!inflight.compareAndSet(current, current + 1));
+        maxInflight.accumulateAndGet(current + 1, Math::max);
+        return true;
+    }
+
+    void release(long startNanos, boolean failed) {
+        inflight.decrementAndGet();
+        long now = System.nanoTime();
+        if (failed) {
+            dropped = true;
+        } else {
+            rttNanos.add(now - startNanos);
+            samples.increment();
+        }
+        long start = windowStart.get();
+        if (now - start >= windowNanos && windowStart.compareAndSet(start, now)) {
+            update();
+        }
+    }
+
+    private void update() {
+        long count = samples.sumThenReset();
+        long total = rttNanos.sumThenReset();
+        int peak = maxInflight.getAndSet(inflight.get());
+        if (dropped) {
+            dropped = false;
+            limit = Math.max(minLimit, limit * DROP_DECREASE);
+            return;
+        }
+        if (count < minWindowSamples) {
+            return;
+        }
+        double shortRtt = (double) total / count;
+        longRtt = longRtt == 0 ? shortRtt : longRtt * (1 - LONG_RTT_DECAY) + shortRtt * LONG_RTT_DECAY;
+        // 부하가 빠진 뒤 long RTT가 높게 남아 있으면 다시 늘어나는 short RTT를 못 알아채므로 빨리 끌어내림
+        if (longRtt > shortRtt * 2) {
+            longRtt = longRtt * 0.95;
+        }
+        double gradient = Math.clamp(rttTolerance * longRtt / shortRtt, 0.5, 1.0);
+        boolean appLimited = peak < limit / 2;
+        double newLimit = limit * gradient + (appLimited ? 0 : Math.sqrt(limit));
+        if (appLimited && newLimit > limit) {
+            return;
+        }
+        newLimit = limit * (1 - smoothing) + newLimit * smoothing;
+        limit = Math.clamp(newLimit, minLimit, maxLimit);
+    }
+
+    int limit() {
+        return (int) limit;
+    }
+
+    int inflight() {
+        return inflight.get();
+    }
+
+    double longRttMillis() {
+        return longRtt / TimeUnit.MILLISECONDS.toNanos(1);
+    }
+}
@@ -0,0 +1,18 @@
+package com.example.authservice.config.logging;
+
+import org.slf4j.Marker;
+import org.slf4j.MarkerFactory;
+
+// 요청량이 많은 엔드포인트 로그에 붙이는 샘플링 마커
+// 비율은 logback-spring.xml의 SamplingFilter(logging.sampling.*)에서 설정
+public final class LogSampling {
+
+    public static final Marker VALID_TOKEN = MarkerFactory.getMarker("validToken");
+    public static final Marker CLAIMS = MarkerFactory.getMarker("claims");
+    public static final Marker REFRESH = MarkerFactory.getMarker("refresh");
+    public static final Marker USER_INFO = MarkerFactory.getMarker("userInfo");
+    public static final Marker PROFILE = MarkerFactory.getMarker("profile");
+
+    private LogSampling() {
+    }
+}
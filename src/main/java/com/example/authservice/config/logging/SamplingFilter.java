@@ -0,0 +1,53 @@
+package com.example.authservice.config.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.filter.Filter;
+import ch.qos.logback.core.spi.FilterReply;
+import org.slf4j.Marker;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * LogSampling 마커가 붙은 INFO 이하 이벤트를 마커별 비율로만 통과시킨다.
+ * WARN/ERROR와 마커 없는 이벤트는 그대로 통과.
+ * <pre>
+ * &lt;filter class="...SamplingFilter"&gt;
+ *     &lt;rate&gt;validToken=0.01&lt;/rate&gt;
+ * &lt;/filter&gt;
+ * </pre>
+ */
+public class SamplingFilter extends Filter<ILoggingEvent> {
+
+    private final Map<String, Double> rates = new ConcurrentHashMap<>();
+
+    public void addRate(String rate) {
+        int eq = rate.indexOf('=');
+        if (eq <= 0) {
+            addError("rate 형식은 marker=비율 입니다: " + rate);
+            return;
+        }
+        rates.put(rate.substring(0, eq).trim(), Double.parseDouble(rate.substring(eq + 1).trim()));
+    }
+
+    @Override
+    public FilterReply decide(ILoggingEvent event) {
+        if (event.getLevel().isGreaterOrEqual(Level.WARN)) {
+            return FilterReply.NEUTRAL;
+        }
+        List<Marker> markers = event.getMarkerList();
+        if (markers == null) {
+            return FilterReply.NEUTRAL;
+        }
+        for (Marker marker : markers) {
+            Double rate = rates.get(marker.getName());
+            if (rate != null) {
+                return ThreadLocalRandom.current().nextDouble() < rate ? FilterReply.NEUTRAL : FilterReply.DENY;
+            }
+        }
+        return FilterReply.NEUTRAL;
+    }
+}
@@ -0,0 +1,72 @@
+package com.example.authservice.config.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+
+// 인증 핫패스(JWT 서명/파싱, 토큰 검증, BCrypt) 메트릭
+@Component
+public class AuthMetrics {
+
+    private final Timer jwtSign;
+    private final Timer jwtParse;
+    private final Meter.MeterProvider<Timer> tokenValidation;
+    private final Meter.MeterProvider<Timer> bcrypt;
+    private final Meter.MeterProvider<Counter> degradedValidation;
+    private final Meter.MeterProvider<Counter> refreshExchange;
+
+    public AuthMetrics(MeterRegistry registry) {
+        this.jwtSign = Timer.builder("auth.jwt.sign")
+                .description("JWT 서명 시간")
+                .register(registry);
+        this.jwtParse = Timer.builder("auth.jwt.parse")
+                .description("JWT 파싱/서명검증 시간")
+                .register(registry);
+        this.tokenValidation = Timer.builder("auth.token.validation")
+                .description("validToken 처리 시간 (status 1=유효, 2=만료/없음, 3=불일치/위조)")
+                .withRegistry(registry);
+        this.bcrypt = Timer.builder("auth.bcrypt")
+                .description("BCrypt 해싱/비교 시간")
+                .withRegistry(registry);
+        this.degradedValidation = Counter.builder("auth.token.validation.degraded")
+                .description("Redis 장애로 세션 확인 없이 서명/만료만으로 통과시킨 검증 (resilience.degraded-validation)")
+                .withRegistry(registry);
+        this.refreshExchange = Counter.builder("auth.token.refresh")
+                .description("refreshToken 교환 (rotated=새로 발급, grace=이미 발급한 쌍 반환, reused=재사용 감지로 세션 종료, revoked=grace 쌍을 돌려주기 전 로그아웃 확인, contended=발급 대기 시간 초과)")
+                .withRegistry(registry);
+    }
+
+    public Timer jwtSign() {
+        return jwtSign;
+    }
+
+    public Timer jwtParse() {
+        return jwtParse;
+    }
+
+    public void recordValidation(String tokenType, boolean social, int status, long elapsedNanos) {
+        tokenValidation.withTags(Tags.of(
+                        "token.type", tokenType,
+                        "issuer", social ? "social" : "self",
+                        "status", String.valueOf(status)))
+                .record(elapsedNanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void recordDegradedValidation(String tokenType) {
+        degradedValidation.withTags(Tags.of("token.type", tokenType)).increment();
+    }
+
+    public void recordRefresh(String outcome) {
+        refreshExchange.withTags(Tags.of("outcome", outcome)).increment();
+    }
+
+    public void recordBcrypt(String operation, String outcome, long elapsedNanos) {
+        bcrypt.withTags(Tags.of("operation", operation, "outcome", outcome))
+                .record(elapsedNanos, TimeUnit.NANOSECONDS);
+    }
+}
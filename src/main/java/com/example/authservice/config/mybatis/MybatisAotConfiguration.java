@@ -0,0 +1,138 @@
+package com.example.authservice.config.mybatis;
+
+import com.example.authservice.model.Address;
+import com.example.authservice.model.Social;
+import com.example.authservice.model.Token;
+import com.example.authservice.model.User;
+import org.mybatis.spring.boot.autoconfigure.ConfigurationCustomizer;
+import org.mybatis.spring.mapper.MapperFactoryBean;
+import org.mybatis.spring.mapper.MapperScannerConfigurer;
+import org.springframework.aop.framework.AopProxyUtils;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.beans.factory.BeanFactoryUtils;
+import org.springframework.beans.factory.aot.BeanFactoryInitializationAotContribution;
+import org.springframework.beans.factory.aot.BeanFactoryInitializationAotProcessor;
+import org.springframework.beans.factory.aot.BeanRegistrationExcludeFilter;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.beans.factory.config.ConstructorArgumentValues;
+import org.springframework.beans.factory.support.MergedBeanDefinitionPostProcessor;
+import org.springframework.beans.factory.support.RegisteredBean;
+import org.springframework.beans.factory.support.RootBeanDefinition;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.ImportRuntimeHints;
+import org.springframework.core.ResolvableType;
+import org.springframework.util.ClassUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Spring AOT(-Paot, -Pnative) 빌드에서 MyBatis 매퍼를 쓰기 위한 설정.
+ * <ul>
+ *     <li>AOT로 생성된 코드에 매퍼 빈이 이미 등록되므로, 실행 시 MapperScannerConfigurer가
+ *     다시 스캔해서 빈 이름이 충돌하지 않도록 AOT 대상에서 제외한다.</li>
+ *     <li>MapperFactoryBean&lt;T&gt;의 제네릭 타입과 생성자 인자를 매퍼 인터페이스 Class로 확정해
+ *     AOT 생성 코드가 그대로 인스턴스를 만들 수 있게 한다.</li>
+ *     <li>native-image에서는 type-aliases-package 스캔이 동작하지 않으므로 model 별칭을 직접 등록하고,
+ *     매퍼 인터페이스 프록시/리플렉션 힌트를 남긴다.</li>
+ * </ul>
+ * AOT를 쓰지 않는 일반 실행에는 영향이 없다.
+ */
+@Configuration(proxyBeanMethods = false)
+@ImportRuntimeHints(MybatisRuntimeHints.class)
+public class MybatisAotConfiguration {
+
+    @Bean
+    static MapperScannerAotExclusion mapperScannerAotExclusion() {
+        return new MapperScannerAotExclusion();
+    }
+
+    @Bean
+    static MapperFactoryBeanTypeResolver mapperFactoryBeanTypeResolver() {
+        return new MapperFactoryBeanTypeResolver();
+    }
+
+    // 매퍼 XML의 parameterType/type="User" 등 (model 클래스를 추가하면 여기도 추가)
+    @Bean
+    ConfigurationCustomizer modelTypeAliases() {
+        return configuration -> {
+            configuration.getTypeAliasRegistry().registerAlias(User.class);
+            configuration.getTypeAliasRegistry().registerAlias(Social.class);
+            configuration.getTypeAliasRegistry().registerAlias(Token.class);
+            configuration.getTypeAliasRegistry().registerAlias(Address.class);
+        };
+    }
+
+    static class MapperScannerAotExclusion implements BeanRegistrationExcludeFilter, BeanFactoryInitializationAotProcessor {
+
+        @Override
+        public boolean isExcludedFromAotProcessing(RegisteredBean registeredBean) {
+            return MapperScannerConfigurer.class.isAssignableFrom(registeredBean.getBeanClass());
+        }
+
+        // MapperProxyFactory는 JDK 프록시, MapperAnnotationBuilder는 인터페이스 메서드를 리플렉션으로 읽음
+        // @Cacheable 등이 붙은 매퍼는 그 위에 Spring AOP JDK 프록시가 한 번 더 씌워짐
+        @Override
+        public BeanFactoryInitializationAotContribution processAheadOfTime(ConfigurableListableBeanFactory beanFactory) {
+            List<Class<?>> mapperInterfaces = new ArrayList<>();
+            for (String name : beanFactory.getBeanNamesForType(MapperFactoryBean.class, true, false)) {
+                BeanDefinition definition = beanFactory.getMergedBeanDefinition(BeanFactoryUtils.transformedBeanName(name));
+                Class<?> mapperInterface = mapperInterface(definition, beanFactory.getBeanClassLoader());
+                if (mapperInterface != null) {
+                    mapperInterfaces.add(mapperInterface);
+                }
+            }
+            if (mapperInterfaces.isEmpty()) {
+                return null;
+            }
+            return (generationContext, code) -> {
+                RuntimeHints hints = generationContext.getRuntimeHints();
+                for (Class<?> mapperInterface : mapperInterfaces) {
+                    hints.proxies().registerJdkProxy(mapperInterface);
+                    hints.proxies().registerJdkProxy(AopProxyUtils.completeJdkProxyInterfaces(mapperInterface));
+                    hints.reflection().registerType(mapperInterface, MemberCategory.INVOKE_PUBLIC_METHODS);
+                }
+            };
+        }
+    }
+
+    static class MapperFactoryBeanTypeResolver implements MergedBeanDefinitionPostProcessor {
+
+        @Override
+        public void postProcessMergedBeanDefinition(RootBeanDefinition beanDefinition, Class<?> beanType, String beanName) {
+            if (!beanDefinition.hasBeanClass()
+                    || !MapperFactoryBean.class.isAssignableFrom(beanDefinition.getBeanClass())
+                    || !beanDefinition.getResolvableType().hasUnresolvableGenerics()) {
+                return;
+            }
+            Class<?> mapperInterface = mapperInterface(beanDefinition, getClass().getClassLoader());
+            if (mapperInterface != null) {
+                // 스캐너는 생성자 인자를 클래스 이름(String)으로 넣는데, AOT 생성 코드는 변환 없이 그대로 넘김
+                ConstructorArgumentValues arguments = new ConstructorArgumentValues();
+                arguments.addGenericArgumentValue(mapperInterface);
+                beanDefinition.setConstructorArgumentValues(arguments);
+                beanDefinition.setTargetType(ResolvableType.forClassWithGenerics(beanDefinition.getBeanClass(), mapperInterface));
+            }
+        }
+    }
+
+    private static Class<?> mapperInterface(BeanDefinition beanDefinition, ClassLoader classLoader) {
+        Object value = beanDefinition.getPropertyValues().get("mapperInterface");
+        if (value == null) {
+            value = beanDefinition.getConstructorArgumentValues().getGenericArgumentValues().stream()
+                    .map(ConstructorArgumentValues.ValueHolder::getValue)
+                    .findFirst()
+                    .orElse(null);
+        }
+        if (value instanceof Class<?> type) {
+            return type;
+        }
+        if (value instanceof String className) {
+            return ClassUtils.resolveClassName(className, classLoader);
+        }
+        return null;
+    }
+}
@@ -0,0 +1,19 @@
+package com.example.authservice.config.mybatis;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties("mybatis-profiler")
+public class MybatisProfilerProperties {
+    // 이 시간 이상 걸린 statement는 WARN 로그로 남김
+    private Duration slowThreshold = Duration.ofMillis(200);
+    // 진단 엔드포인트에서 보여줄 statement 수
+    private int topStatements = 20;
+}
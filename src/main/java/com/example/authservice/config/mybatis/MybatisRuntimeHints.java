@@ -0,0 +1,63 @@
+package com.example.authservice.config.mybatis;
+
+import com.example.authservice.config.aot.AuthServiceRuntimeHints;
+import org.apache.ibatis.cache.decorators.FifoCache;
+import org.apache.ibatis.cache.decorators.LruCache;
+import org.apache.ibatis.cache.decorators.SoftCache;
+import org.apache.ibatis.cache.decorators.WeakCache;
+import org.apache.ibatis.cache.impl.PerpetualCache;
+import org.apache.ibatis.executor.loader.javassist.JavassistProxyFactory;
+import org.apache.ibatis.logging.Log;
+import org.apache.ibatis.logging.slf4j.Slf4jImpl;
+import org.apache.ibatis.scripting.defaults.RawLanguageDriver;
+import org.apache.ibatis.scripting.xmltags.XMLLanguageDriver;
+import org.apache.ibatis.type.EnumTypeHandler;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.util.ClassUtils;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.TreeSet;
+
+/**
+ * native-image용 MyBatis 메타데이터.
+ * 매퍼 XML/DTD 리소스, MyBatis가 리플렉션으로 만드는 내부 클래스,
+ * 결과 매핑 대상(model, type enum, 매퍼 resultType DTO)을 등록한다.
+ * 매퍼 인터페이스 프록시는 MybatisAotConfiguration이 빈 정의에서 찾아 등록.
+ */
+public class MybatisRuntimeHints implements RuntimeHintsRegistrar {
+
+    private static final String MODEL_PACKAGE = "com.example.authservice.model";
+    private static final String TYPE_PACKAGE = "com.example.authservice.type";
+    private static final String MAPPER_RESULT_DTO = "com.example.authservice.dto.ManagerResponseDTO";
+
+    @Override
+    public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+        hints.resources().registerPattern("mappers/*.xml");
+        hints.resources().registerPattern("org/apache/ibatis/builder/xml/*.dtd");
+        hints.resources().registerPattern("org/apache/ibatis/builder/xml/*.xsd");
+
+        for (Class<?> type : new Class<?>[]{
+                RawLanguageDriver.class, XMLLanguageDriver.class, JavassistProxyFactory.class,
+                Slf4jImpl.class, Log.class, EnumTypeHandler.class,
+                PerpetualCache.class, LruCache.class, FifoCache.class, SoftCache.class, WeakCache.class,
+                ArrayList.class, HashMap.class, HashSet.class, TreeSet.class}) {
+            hints.reflection().registerType(type, MemberCategory.values());
+        }
+
+        // Reflector가 생성자/getter/setter/필드를 리플렉션으로 읽음
+        for (Class<?> type : AuthServiceRuntimeHints.scan(classLoader, MODEL_PACKAGE, TYPE_PACKAGE)) {
+            hints.reflection().registerType(type,
+                    MemberCategory.INVOKE_DECLARED_CONSTRUCTORS,
+                    MemberCategory.INVOKE_DECLARED_METHODS,
+                    MemberCategory.DECLARED_FIELDS);
+        }
+        hints.reflection().registerType(ClassUtils.resolveClassName(MAPPER_RESULT_DTO, classLoader),
+                MemberCategory.INVOKE_DECLARED_CONSTRUCTORS,
+                MemberCategory.INVOKE_DECLARED_METHODS,
+                MemberCategory.DECLARED_FIELDS);
+    }
+}
@@ -0,0 +1,24 @@
+package com.example.authservice.config.mybatis;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+// GET /actuator/mybatis : 누적 실행 시간 상위 statement 목록 (ROLE_ADMIN 계정의 Bearer accessToken, SecurityConfig), 통계는 프로세스 시작부터 누적
+@Component
+@Endpoint(id = "mybatis")
+@RequiredArgsConstructor
+public class MybatisStatementsEndpoint {
+
+    private final StatementProfilingInterceptor interceptor;
+    private final MybatisProfilerProperties properties;
+
+    @ReadOperation
+    public List<StatementStats.Snapshot> topStatements(@Nullable Integer limit) {
+        return interceptor.topStatements(limit != null ? limit : properties.getTopStatements());
+    }
+}
@@ -0,0 +1,145 @@
+package com.example.authservice.config.mybatis;
+
+import com.example.authservice.config.datasource.DataSourceRoute;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.ibatis.cache.CacheKey;
+import org.apache.ibatis.executor.Executor;
+import org.apache.ibatis.mapping.BoundSql;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.mapping.ParameterMapping;
+import org.apache.ibatis.plugin.Interceptor;
+import org.apache.ibatis.plugin.Intercepts;
+import org.apache.ibatis.plugin.Invocation;
+import org.apache.ibatis.plugin.Signature;
+import org.apache.ibatis.session.ResultHandler;
+import org.apache.ibatis.session.RowBounds;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+// 매퍼 statement(UserMapper.findUserByUserId 등)별 실행 시간/행 수 측정 + 슬로우 쿼리 로그
+@Slf4j
+@Component
+@Intercepts({
+        @Signature(type = Executor.class, method = "update", args = {MappedStatement.class, Object.class}),
+        @Signature(type = Executor.class, method = "query", args = {MappedStatement.class, Object.class, RowBounds.class, ResultHandler.class}),
+        @Signature(type = Executor.class, method = "query", args = {MappedStatement.class, Object.class, RowBounds.class, ResultHandler.class, CacheKey.class, BoundSql.class})
+})
+public class StatementProfilingInterceptor implements Interceptor {
+
+    private final Meter.MeterProvider<Timer> statementTimer;
+    private final Meter.MeterProvider<DistributionSummary> statementRows;
+    private final MybatisProfilerProperties properties;
+    private final ConcurrentMap<String, StatementStats> stats = new ConcurrentHashMap<>();
+
+    public StatementProfilingInterceptor(MeterRegistry registry, MybatisProfilerProperties properties) {
+        this.properties = properties;
+        this.statementTimer = Timer.builder("mybatis.statement")
+                .description("MyBatis 매퍼 statement 실행 시간")
+                .withRegistry(registry);
+        this.statementRows = DistributionSummary.builder("mybatis.statement.rows")
+                .description("MyBatis 매퍼 statement 조회/변경 행 수")
+                .withRegistry(registry);
+    }
+
+    @Override
+    public Object intercept(Invocation invocation) throws Throwable {
+        MappedStatement ms = (MappedStatement) invocation.getArgs()[0];
+        long start = System.nanoTime();
+        Object result = null;
+        boolean error = false;
+        try {
+            result = invocation.proceed();
+            return result;
+        } catch (Throwable t) {
+            error = true;
+            throw t;
+        } finally {
+            record(invocation, ms, System.nanoTime() - start, rowCount(result), error);
+        }
+    }
+
+    private void record(Invocation invocation, MappedStatement ms, long elapsedNanos, int rows, boolean error) {
+        String statement = shortId(ms.getId());
+        Tags tags = Tags.of(
+                "statement", statement,
+                "command", ms.getSqlCommandType().name(),
+                "outcome", error ? "error" : "success",
+                // 복제본 라우팅(datasource.replicas) 사용 시 primary/replica 지연을 따로 봄
+                "target", DataSourceRoute.current());
+        statementTimer.withTags(tags).record(elapsedNanos, TimeUnit.NANOSECONDS);
+        if (!error) {
+            statementRows.withTags(tags).record(rows);
+        }
+
+        boolean slow = elapsedNanos >= properties.getSlowThreshold().toNanos();
+        stats.computeIfAbsent(statement, StatementStats::new).record(elapsedNanos, rows, error, slow);
+
+        if (slow) {
+            BoundSql boundSql = boundSql(invocation, ms);
+            log.warn("슬로우 쿼리 {} {}ms rows={} sql=[{}] params=[{}]",
+                    statement,
+                    TimeUnit.NANOSECONDS.toMillis(elapsedNanos),
+                    rows,
+                    compactSql(boundSql.getSql()),
+                    redactedParameters(boundSql));
+        }
+    }
+
+    // 진단 엔드포인트: 누적 실행 시간 기준 상위 statement
+    public List<StatementStats.Snapshot> topStatements(int limit) {
+        return stats.values().stream()
+                .sorted(Comparator.comparingLong(StatementStats::totalNanos).reversed())
+                .limit(limit)
+                .map(StatementStats::snapshot)
+                .collect(Collectors.toList());
+    }
+
+    private static BoundSql boundSql(Invocation invocation, MappedStatement ms) {
+        Object[] args = invocation.getArgs();
+        if (args.length == 6) {
+            return (BoundSql) args[5];
+        }
+        return ms.getBoundSql(args[1]);
+    }
+
+    private static int rowCount(Object result) {
+        if (result instanceof Collection<?> collection) {
+            return collection.size();
+        }
+        if (result instanceof Integer updated) {
+            return updated;
+        }
+        return 0;
+    }
+
+    // 파라미터 값(아이디, 토큰, 비밀번호 해시 등)은 남기지 않고 이름만 기록
+    private static String redactedParameters(BoundSql boundSql) {
+        return boundSql.getParameterMappings().stream()
+                .map(ParameterMapping::getProperty)
+                .map(name -> name + "=***")
+                .collect(Collectors.joining(", "));
+    }
+
+    private static String compactSql(String sql) {
+        return sql.replaceAll("\\s+", " ").trim();
+    }
+
+    // com.example.authservice.mapper.UserMapper.findUserByUserId -> UserMapper.findUserByUserId
+    static String shortId(String id) {
+        int method = id.lastIndexOf('.');
+        int type = method > 0 ? id.lastIndexOf('.', method - 1) : -1;
+        return type >= 0 ? id.substring(type + 1) : id;
+    }
+}
@@ -0,0 +1,60 @@
+package com.example.authservice.config.mybatis;
+
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+// statement 하나의 누적 통계 (진단 엔드포인트용)
+public class StatementStats {
+
+    private final String statement;
+    private final LongAdder calls = new LongAdder();
+    private final LongAdder errors = new LongAdder();
+    private final LongAdder slowCalls = new LongAdder();
+    private final LongAdder totalNanos = new LongAdder();
+    private final LongAdder totalRows = new LongAdder();
+    private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0);
+
+    StatementStats(String statement) {
+        this.statement = statement;
+    }
+
+    void record(long elapsedNanos, int rows, boolean error, boolean slow) {
+        calls.increment();
+        totalNanos.add(elapsedNanos);
+        maxNanos.accumulate(elapsedNanos);
+        if (rows > 0) totalRows.add(rows);
+        if (error) errors.increment();
+        if (slow) slowCalls.increment();
+    }
+
+    long totalNanos() {
+        return totalNanos.sum();
+    }
+
+    Snapshot snapshot() {
+        long count = calls.sum();
+        long total = totalNanos.sum();
+        return new Snapshot(
+                statement,
+                count,
+                errors.sum(),
+                slowCalls.sum(),
+                total / 1_000_000.0,
+                count == 0 ? 0 : total / 1_000_000.0 / count,
+                maxNanos.get() / 1_000_000.0,
+                count == 0 ? 0 : (double) totalRows.sum() / count
+        );
+    }
+
+    public record Snapshot(
+            String statement,
+            long calls,
+            long errors,
+            long slowCalls,
+            double totalMillis,
+            double meanMillis,
+            double maxMillis,
+            double meanRows
+    ) {
+    }
+}
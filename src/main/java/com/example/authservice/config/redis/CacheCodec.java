@@ -0,0 +1,7 @@
+package com.example.authservice.config.redis;
+
+// objectRedisTemplate에 User/Social/Address를 쓸 때의 포맷 (읽기는 항상 둘 다 가능)
+public enum CacheCodec {
+    PROTOBUF,
+    JSON
+}
@@ -0,0 +1,71 @@
+package com.example.authservice.config.redis;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.cache.annotation.CachingConfigurer;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.interceptor.CacheErrorHandler;
+import org.springframework.cache.interceptor.LoggingCacheErrorHandler;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+
+// 매퍼 조회 캐시 (L1 Caffeine + L2 Redis), 캐시 이름은 CacheNames, 설정은 cache.specs
+// 조회 합치기(SingleFlightConfig)보다 안쪽, MySQL 가드(MapperGuardConfig)/복제본 라우팅(DataSourceConfig.readRoutingAdvisor)보다 바깥에서 실행
+@EnableCaching(order = Ordered.LOWEST_PRECEDENCE - 2)
+@Configuration
+public class CacheConfig implements CachingConfigurer {
+
+    @Bean
+    public CacheInvalidationPublisher cacheInvalidationPublisher(StringRedisTemplate stringRedisTemplate) {
+        return new CacheInvalidationPublisher(stringRedisTemplate);
+    }
+
+    @Bean
+    public TwoLevelCacheManager cacheManager(
+            RedisConnectionFactory factory,
+            ObjectMapper redisObjectMapper,
+            CacheProperties cacheProperties,
+            CacheInvalidationPublisher cacheInvalidationPublisher,
+            MeterRegistry meterRegistry
+    ) {
+        RedisTemplate<String, byte[]> template = new RedisTemplate<>();
+        template.setConnectionFactory(factory);
+        template.setKeySerializer(new StringRedisSerializer());
+        template.setValueSerializer(RedisSerializer.byteArray());
+        template.afterPropertiesSet();
+
+        // 목록(findManagers) 등 protobuf 대상이 아닌 값은 타입 정보(@class)를 넣은 JSON
+        RedisSerializer<Object> json = GenericJackson2JsonRedisSerializer.builder()
+                .objectMapper(redisObjectMapper.copy())
+                .defaultTyping(true)
+                .build();
+        SnapshotRedisSerializer serializer = new SnapshotRedisSerializer(json, cacheProperties.getCodec(), meterRegistry);
+        return new TwoLevelCacheManager(cacheProperties, template, serializer, cacheInvalidationPublisher, meterRegistry);
+    }
+
+    @Bean
+    public RedisMessageListenerContainer cacheInvalidationListenerContainer(
+            RedisConnectionFactory factory,
+            TwoLevelCacheManager cacheManager
+    ) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(factory);
+        container.addMessageListener(cacheManager, new ChannelTopic(CacheInvalidationPublisher.CHANNEL));
+        return container;
+    }
+
+    // Redis 장애 시 캐시를 건너뛰고 DB 조회로 진행
+    @Override
+    public CacheErrorHandler errorHandler() {
+        return new LoggingCacheErrorHandler();
+    }
+}
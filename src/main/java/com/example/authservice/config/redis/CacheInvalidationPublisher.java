@@ -0,0 +1,42 @@
+package com.example.authservice.config.redis;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.util.UUID;
+
+/**
+ * 2단 캐시의 L1 무효화 메시지 (Redis pub/sub, {@value #CHANNEL}).
+ * <p>
+ * 메시지: {@code 노드ID \n 캐시 이름 [\n 키]} - 키가 없으면 해당 캐시 전체.
+ * 자기 노드가 보낸 메시지는 {@link TwoLevelCacheManager}에서 무시한다.
+ * pub/sub은 전달을 보장하지 않으므로 놓친 메시지는 L1 TTL(cache.specs.*.local-ttl)로 정리된다.
+ */
+@Slf4j
+public class CacheInvalidationPublisher {
+
+    public static final String CHANNEL = "cache:invalidate";
+
+    private final StringRedisTemplate template;
+    private final String nodeId = UUID.randomUUID().toString();
+
+    public CacheInvalidationPublisher(StringRedisTemplate template) {
+        this.template = template;
+    }
+
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    void publish(String cacheName, String cacheKey) {
+        String message = cacheKey == null
+                ? nodeId + "\n" + cacheName
+                : nodeId + "\n" + cacheName + "\n" + cacheKey;
+        try {
+            template.convertAndSend(CHANNEL, message);
+        } catch (RuntimeException e) {
+            // L2는 이미 바뀌었으므로 다른 노드는 L1 TTL 뒤에 새 값을 읽음
+            log.warn("캐시 무효화 메시지 전송 실패: cache={}, key={}", cacheName, cacheKey, e);
+        }
+    }
+}
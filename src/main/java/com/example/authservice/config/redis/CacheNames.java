@@ -0,0 +1,21 @@
+package com.example.authservice.config.redis;
+
+// @Cacheable/@CacheEvict와 cache.specs 설정에서 쓰는 캐시 이름
+public final class CacheNames {
+
+    // userId -> User (UserMapper.findUserByUserId)
+    public static final String USERS = "users";
+    // userId -> Social (UserMapper.findSocialByUserId)
+    public static final String SOCIALS = "socials";
+    // type:userId -> Social (UserMapper.findSocialByTypeAndUserId, 소셜 로그인)
+    public static final String SOCIAL_IDENTITIES = "social-identities";
+    // userUid -> Address (AddressMapper.findByUserUid)
+    public static final String USER_ADDRESSES = "user-addresses";
+    // socialUid -> Address (AddressMapper.findBySocialUid)
+    public static final String SOCIAL_ADDRESSES = "social-addresses";
+    // 'all' -> List<ManagerResponseDTO> (UserMapper.findManagers)
+    public static final String MANAGERS = "managers";
+
+    private CacheNames() {
+    }
+}
@@ -0,0 +1,41 @@
+package com.example.authservice.config.redis;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties("cache")
+public class CacheProperties {
+    // 롤백이 필요하면 json으로 되돌려도 이미 쓴 protobuf 값은 계속 읽힌다
+    private CacheCodec codec = CacheCodec.PROTOBUF;
+
+    // specs에 없는 캐시 이름에 쓰는 설정
+    private Spec defaults = new Spec();
+
+    // 캐시 이름(CacheNames)별 설정
+    private Map<String, Spec> specs = new LinkedHashMap<>();
+
+    public Spec spec(String cacheName) {
+        return specs.getOrDefault(cacheName, defaults);
+    }
+
+    @Getter
+    @Setter
+    public static class Spec {
+        // L1(프로세스 로컬) 보관 시간, 다른 노드의 변경은 pub/sub으로 먼저 지워지므로 안전망 역할
+        private Duration localTtl = Duration.ofSeconds(30);
+        private long localMaxSize = 10_000;
+        // L2(Redis) 보관 시간
+        private Duration ttl = Duration.ofMinutes(10);
+        // cache.gets / cache.puts / cache.evictions 메트릭 기록 여부
+        private boolean metrics = true;
+    }
+}
@@ -0,0 +1,145 @@
+package com.example.authservice.config.redis;
+
+import com.example.authservice.cache.AddressSnapshot;
+import com.example.authservice.cache.RoleSnapshot;
+import com.example.authservice.cache.SocialSnapshot;
+import com.example.authservice.cache.TypeSnapshot;
+import com.example.authservice.cache.UserSnapshot;
+import com.example.authservice.model.Address;
+import com.example.authservice.model.Social;
+import com.example.authservice.model.User;
+import com.example.authservice.type.Role;
+import com.example.authservice.type.Type;
+import com.google.protobuf.Timestamp;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+// model <-> cache.proto 스냅샷 변환
+// null 필드는 proto3 optional(has*)로 구분해서 왕복 후에도 null 유지
+// User.password는 담지 않음 (UserMapper.findCredentialsByUserId로만 읽음)
+final class CacheSnapshots {
+
+    private CacheSnapshots() {
+    }
+
+    static UserSnapshot toSnapshot(User user) {
+        UserSnapshot.Builder builder = UserSnapshot.newBuilder()
+                .setUid(user.getUid())
+                .setPoint(user.getPoint())
+                .setRole(toSnapshot(user.getRole()));
+        if (user.getUserId() != null) builder.setUserId(user.getUserId());
+        if (user.getUserName() != null) builder.setUserName(user.getUserName());
+        if (user.getEmail() != null) builder.setEmail(user.getEmail());
+        if (user.getEmailyn() != null) builder.setEmailyn(user.getEmailyn());
+        if (user.getPhone() != null) builder.setPhone(user.getPhone());
+        if (user.getPhoneyn() != null) builder.setPhoneyn(user.getPhoneyn());
+        if (user.getStatus() != null) builder.setStatus(user.getStatus());
+        if (user.getCreatedDate() != null) builder.setCreatedDate(toTimestamp(user.getCreatedDate()));
+        return builder.build();
+    }
+
+    static User fromSnapshot(UserSnapshot snapshot) {
+        return User.builder()
+                .uid(snapshot.getUid())
+                .userId(snapshot.hasUserId() ? snapshot.getUserId() : null)
+                .userName(snapshot.hasUserName() ? snapshot.getUserName() : null)
+                .email(snapshot.hasEmail() ? snapshot.getEmail() : null)
+                .emailyn(snapshot.hasEmailyn() ? snapshot.getEmailyn() : null)
+                .phone(snapshot.hasPhone() ? snapshot.getPhone() : null)
+                .phoneyn(snapshot.hasPhoneyn() ? snapshot.getPhoneyn() : null)
+                .point(snapshot.getPoint())
+                .role(fromSnapshot(snapshot.getRole()))
+                .status(snapshot.hasStatus() ? snapshot.getStatus() : null)
+                .createdDate(snapshot.hasCreatedDate() ? fromTimestamp(snapshot.getCreatedDate()) : null)
+                .build();
+    }
+
+    static SocialSnapshot toSnapshot(Social social) {
+        SocialSnapshot.Builder builder = SocialSnapshot.newBuilder()
+                .setUid(social.getUid())
+                .setType(social.getType() == null ? TypeSnapshot.TYPE_UNSPECIFIED : TypeSnapshot.valueOf(social.getType().name()))
+                .setPoint(social.getPoint())
+                .setRole(toSnapshot(social.getRole()));
+        if (social.getUserId() != null) builder.setUserId(social.getUserId());
+        if (social.getUserName() != null) builder.setUserName(social.getUserName());
+        if (social.getEmail() != null) builder.setEmail(social.getEmail());
+        if (social.getEmailyn() != null) builder.setEmailyn(social.getEmailyn());
+        if (social.getPhone() != null) builder.setPhone(social.getPhone());
+        if (social.getPhoneyn() != null) builder.setPhoneyn(social.getPhoneyn());
+        if (social.getStatus() != null) builder.setStatus(social.getStatus());
+        if (social.getCreatedDate() != null) builder.setCreatedDate(toTimestamp(social.getCreatedDate()));
+        return builder.build();
+    }
+
+    static Social fromSnapshot(SocialSnapshot snapshot) {
+        return Social.builder()
+                .uid(snapshot.getUid())
+                .userId(snapshot.hasUserId() ? snapshot.getUserId() : null)
+                .userName(snapshot.hasUserName() ? snapshot.getUserName() : null)
+                .email(snapshot.hasEmail() ? snapshot.getEmail() : null)
+                .emailyn(snapshot.hasEmailyn() ? snapshot.getEmailyn() : null)
+                .phone(snapshot.hasPhone() ? snapshot.getPhone() : null)
+                .phoneyn(snapshot.hasPhoneyn() ? snapshot.getPhoneyn() : null)
+                .type(snapshot.getType() == TypeSnapshot.TYPE_UNSPECIFIED ? null : Type.valueOf(snapshot.getType().name()))
+                .point(snapshot.getPoint())
+                .role(fromSnapshot(snapshot.getRole()))
+                .status(snapshot.hasStatus() ? snapshot.getStatus() : null)
+                .createdDate(snapshot.hasCreatedDate() ? fromTimestamp(snapshot.getCreatedDate()) : null)
+                .build();
+    }
+
+    static AddressSnapshot toSnapshot(Address address) {
+        AddressSnapshot.Builder builder = AddressSnapshot.newBuilder()
+                .setMainLat(address.getMainLat())
+                .setMainLan(address.getMainLan())
+                .setSub1Lat(address.getSub1Lat())
+                .setSub1Lan(address.getSub1Lan())
+                .setSub2Lat(address.getSub2Lat())
+                .setSub2Lan(address.getSub2Lan());
+        if (address.getUid() != null) builder.setUid(address.getUid());
+        if (address.getUserUid() != null) builder.setUserUid(address.getUserUid());
+        if (address.getSocialUid() != null) builder.setSocialUid(address.getSocialUid());
+        if (address.getMainAddress() != null) builder.setMainAddress(address.getMainAddress());
+        if (address.getSubAddress1() != null) builder.setSubAddress1(address.getSubAddress1());
+        if (address.getSubAddress2() != null) builder.setSubAddress2(address.getSubAddress2());
+        return builder.build();
+    }
+
+    static Address fromSnapshot(AddressSnapshot snapshot) {
+        return Address.builder()
+                .uid(snapshot.hasUid() ? snapshot.getUid() : null)
+                .userUid(snapshot.hasUserUid() ? snapshot.getUserUid() : null)
+                .socialUid(snapshot.hasSocialUid() ? snapshot.getSocialUid() : null)
+                .mainAddress(snapshot.hasMainAddress() ? snapshot.getMainAddress() : null)
+                .subAddress1(snapshot.hasSubAddress1() ? snapshot.getSubAddress1() : null)
+                .subAddress2(snapshot.hasSubAddress2() ? snapshot.getSubAddress2() : null)
+                .mainLat(snapshot.getMainLat())
+                .mainLan(snapshot.getMainLan())
+                .sub1Lat(snapshot.getSub1Lat())
+                .sub1Lan(snapshot.getSub1Lan())
+                .sub2Lat(snapshot.getSub2Lat())
+                .sub2Lan(snapshot.getSub2Lan())
+                .build();
+    }
+
+    private static RoleSnapshot toSnapshot(Role role) {
+        return role == null ? RoleSnapshot.ROLE_UNSPECIFIED : RoleSnapshot.valueOf(role.name());
+    }
+
+    private static Role fromSnapshot(RoleSnapshot role) {
+        return role == RoleSnapshot.ROLE_UNSPECIFIED ? null : Role.valueOf(role.name());
+    }
+
+    // LocalDateTime은 존 정보가 없으므로 UTC로 고정해서 왕복
+    private static Timestamp toTimestamp(LocalDateTime dateTime) {
+        return Timestamp.newBuilder()
+                .setSeconds(dateTime.toEpochSecond(ZoneOffset.UTC))
+                .setNanos(dateTime.getNano())
+                .build();
+    }
+
+    private static LocalDateTime fromTimestamp(Timestamp timestamp) {
+        return LocalDateTime.ofEpochSecond(timestamp.getSeconds(), timestamp.getNanos(), ZoneOffset.UTC);
+    }
+}
@@ -3,19 +3,31 @@ package com.example.authservice.config.redis;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
-import org.springframework.cache.annotation.EnableCaching;
+import io.lettuce.core.ReadFrom;
+import io.lettuce.core.cluster.ClusterClientOptions;
+import io.lettuce.core.cluster.ClusterTopologyRefreshOptions;
+import io.lettuce.core.resource.ClientResources;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.data.redis.connection.RedisClusterConfiguration;
+import org.springframework.data.redis.connection.RedisConfiguration;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.connection.RedisSentinelConfiguration;
 import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceClientConfiguration;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 
-@EnableCaching
+import java.time.Duration;
+import java.util.HashSet;
+
 @Configuration
 public class RedisConfig {
 
@@ -27,18 +39,76 @@ public class RedisConfig {
     private String password;
     @Value("${spring.data.redis.username}")
     private String username;
+    // 명령 응답 대기 상한 (Lettuce 기본값 60초), 넘으면 QueryTimeoutException으로 BackendGuard가 실패로 셈
+    @Value("${spring.data.redis.timeout:2s}")
+    private Duration commandTimeout;
+
+    // 쓰기와 일관성이 필요한 읽기는 모두 primary
+    @Bean
+    @Primary
+    public LettuceConnectionFactory redisConnectionFactory(ClientResources clientResources, RedisTopologyProperties topology) {
+        return new LettuceConnectionFactory(redisConfiguration(topology), clientConfiguration(clientResources, topology, ReadFrom.UPSTREAM));
+    }
 
+    // 복제 지연을 허용하는 읽기 전용 (replicaReadRedisTemplate)
     @Bean
-    public RedisConnectionFactory redisConnectionFactory() {
-        RedisStandaloneConfiguration config = new RedisStandaloneConfiguration();
-        config.setHostName(host);
-        config.setPort(Integer.parseInt(port));
-        config.setPassword(password);
-        config.setUsername(username);
-        return new LettuceConnectionFactory(config);
+    public LettuceConnectionFactory replicaReadRedisConnectionFactory(ClientResources clientResources, RedisTopologyProperties topology) {
+        ReadFrom readFrom = topology.getMode() == RedisTopologyProperties.Mode.STANDALONE
+                ? ReadFrom.UPSTREAM
+                : ReadFrom.valueOf(topology.getReplicaReadFrom());
+        return new LettuceConnectionFactory(redisConfiguration(topology), clientConfiguration(clientResources, topology, readFrom));
+    }
+
+    private RedisConfiguration redisConfiguration(RedisTopologyProperties topology) {
+        return switch (topology.getMode()) {
+            case STANDALONE -> {
+                RedisStandaloneConfiguration config = new RedisStandaloneConfiguration();
+                config.setHostName(host);
+                config.setPort(Integer.parseInt(port));
+                config.setPassword(password);
+                config.setUsername(username);
+                yield config;
+            }
+            case SENTINEL -> {
+                RedisSentinelConfiguration config = new RedisSentinelConfiguration(
+                        topology.getSentinel().getMaster(), new HashSet<>(topology.getSentinel().getNodes()));
+                config.setPassword(password);
+                config.setUsername(username);
+                if (topology.getSentinel().getPassword() != null) {
+                    config.setSentinelPassword(topology.getSentinel().getPassword());
+                }
+                yield config;
+            }
+            case CLUSTER -> {
+                RedisClusterConfiguration config = new RedisClusterConfiguration(topology.getCluster().getNodes());
+                config.setMaxRedirects(topology.getCluster().getMaxRedirects());
+                config.setPassword(password);
+                config.setUsername(username);
+                yield config;
+            }
+        };
+    }
+
+    private LettuceClientConfiguration clientConfiguration(ClientResources clientResources, RedisTopologyProperties topology, ReadFrom readFrom) {
+        // actuator가 커맨드 지연시간 recorder를 붙여둔 ClientResources 사용 (lettuce.command.* 메트릭)
+        LettuceClientConfiguration.LettuceClientConfigurationBuilder builder = LettuceClientConfiguration.builder()
+                .clientResources(clientResources)
+                .commandTimeout(commandTimeout)
+                .readFrom(readFrom);
+        if (topology.getMode() == RedisTopologyProperties.Mode.CLUSTER) {
+            // 페일오버/리샤딩 후 MOVED·재연결 등을 계기로 슬롯 정보를 다시 읽음
+            builder.clientOptions(ClusterClientOptions.builder()
+                    .topologyRefreshOptions(ClusterTopologyRefreshOptions.builder()
+                            .enableAllAdaptiveRefreshTriggers()
+                            .enablePeriodicRefresh(Duration.ofMinutes(1))
+                            .build())
+                    .build());
+        }
+        return builder.build();
     }
 
     @Bean
+    @Primary
     public StringRedisTemplate stringRedisTemplate(RedisConnectionFactory factory) {
         StringRedisTemplate template = new StringRedisTemplate();
         template.setConnectionFactory(factory);
@@ -47,6 +117,16 @@ public class RedisConfig {
         return template;
     }
 
+    // 복제본 우선 읽기 (RedisUtil.getDataFromReplica), 쓰기에는 쓰지 않음
+    @Bean
+    public StringRedisTemplate replicaReadRedisTemplate(
+            @Qualifier("replicaReadRedisConnectionFactory") RedisConnectionFactory factory
+    ) {
+        StringRedisTemplate template = new StringRedisTemplate();
+        template.setConnectionFactory(factory);
+        return template;
+    }
+
     // ✅ 추가된 ObjectMapper
     @Bean
     public ObjectMapper redisObjectMapper() {
@@ -57,15 +137,19 @@ public class RedisConfig {
     }
 
     // ✅ 수정된 objectRedisTemplate
+    // User/Social/Address는 protobuf 바이너리, 그 외는 JSON (SnapshotRedisSerializer)
     @Bean(name = "objectRedisTemplate")
     public RedisTemplate<String, Object> objectRedisTemplate(
             RedisConnectionFactory factory,
-            ObjectMapper redisObjectMapper
+            ObjectMapper redisObjectMapper,
+            CacheProperties cacheProperties,
+            MeterRegistry meterRegistry
     ) {
         RedisTemplate<String, Object> template = new RedisTemplate<>();
         template.setConnectionFactory(factory);
 
-        GenericJackson2JsonRedisSerializer serializer = new GenericJackson2JsonRedisSerializer(redisObjectMapper);
+        SnapshotRedisSerializer serializer = new SnapshotRedisSerializer(
+                new GenericJackson2JsonRedisSerializer(redisObjectMapper), cacheProperties.getCodec(), meterRegistry);
 
         template.setKeySerializer(new StringRedisSerializer());
         template.setValueSerializer(serializer);
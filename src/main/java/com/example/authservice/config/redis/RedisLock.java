@@ -0,0 +1,61 @@
+package com.example.authservice.config.redis;
+
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * 노드 간 단일 실행용 Redis 락 (SET NX PX + 소유자 확인 후 삭제).
+ * <p>
+ * 자동 갱신(watchdog)이 없으므로 작업은 ttl 안에 끝나도록 스스로 시간을 제한하거나 {@link Lease#extend}로 직접 연장해야 한다.
+ * ttl이 지나 다른 노드가 가져간 락은 {@link Lease#close()}가 지우지 않는다.
+ */
+@Component
+public class RedisLock {
+
+    private static final RedisScript<Long> RELEASE = RedisScript.of(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('del', KEYS[1]) else return 0 end",
+            Long.class);
+    private static final RedisScript<Long> EXTEND = RedisScript.of(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('pexpire', KEYS[1], ARGV[2]) else return 0 end",
+            Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+
+    public RedisLock(StringRedisTemplate redisTemplate) {
+        this.redisTemplate = redisTemplate;
+    }
+
+    public Optional<Lease> tryAcquire(String name, Duration ttl) {
+        String key = "lock:" + name;
+        String owner = UUID.randomUUID().toString();
+        boolean acquired = Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(key, owner, ttl));
+        return acquired ? Optional.of(new Lease(key, owner)) : Optional.empty();
+    }
+
+    public final class Lease implements AutoCloseable {
+        private final String key;
+        private final String owner;
+
+        private Lease(String key, String owner) {
+            this.key = key;
+            this.owner = owner;
+        }
+
+        // 아직 이 소유자의 락이면 ttl을 다시 설정, 이미 만료되어 다른 노드가 가져갔으면 false
+        public boolean extend(Duration ttl) {
+            Long result = redisTemplate.execute(EXTEND, List.of(key), owner, String.valueOf(ttl.toMillis()));
+            return result != null && result == 1;
+        }
+
+        @Override
+        public void close() {
+            redisTemplate.execute(RELEASE, List.of(key), owner);
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package com.example.authservice.config.redis;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// Redis 배포 형태 (host/port/계정은 spring.data.redis.* 그대로 사용)
+@Getter
+@Setter
+@Component
+@ConfigurationProperties("redis")
+public class RedisTopologyProperties {
+
+    public enum Mode {
+        STANDALONE, SENTINEL, CLUSTER
+    }
+
+    private Mode mode = Mode.STANDALONE;
+
+    // replicaReadRedisTemplate의 읽기 대상 (Lettuce ReadFrom 이름: replicaPreferred, nearest 등)
+    // standalone 모드에서는 복제본이 없으므로 무시
+    private String replicaReadFrom = "replicaPreferred";
+
+    private Sentinel sentinel = new Sentinel();
+    private Cluster cluster = new Cluster();
+
+    @Getter
+    @Setter
+    public static class Sentinel {
+        private String master;
+        // host:port
+        private List<String> nodes = new ArrayList<>();
+        // sentinel 자체 비밀번호 (없으면 비움)
+        private String password;
+    }
+
+    @Getter
+    @Setter
+    public static class Cluster {
+        // host:port, 일부 노드만 적어도 나머지는 토폴로지 조회로 찾음
+        private List<String> nodes = new ArrayList<>();
+        private int maxRedirects = 3;
+    }
+}
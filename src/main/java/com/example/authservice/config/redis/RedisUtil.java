@@ -1,54 +1,108 @@
 package com.example.authservice.config.redis;
 
-import lombok.RequiredArgsConstructor;
+import com.example.authservice.config.resilience.Backend;
+import com.example.authservice.config.resilience.BackendGuard;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.data.redis.core.ValueOperations;
 import org.springframework.stereotype.Service;
 
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
 
+// 모든 호출은 Redis BackendGuard를 거침 (장애 시 BackendUnavailableException)
 @Service
 public class RedisUtil {
     private final StringRedisTemplate template;
+    private final StringRedisTemplate replicaReadTemplate;
     private final RedisTemplate<String, Object> objectRedisTemplate;
+    private final ObjectMapper redisObjectMapper;
+    private final BackendGuard backendGuard;
 
     public RedisUtil(
-            StringRedisTemplate template,
-            @Qualifier("objectRedisTemplate") RedisTemplate<String, Object> objectRedisTemplate
+            @Qualifier("stringRedisTemplate") StringRedisTemplate template,
+            @Qualifier("replicaReadRedisTemplate") StringRedisTemplate replicaReadTemplate,
+            @Qualifier("objectRedisTemplate") RedisTemplate<String, Object> objectRedisTemplate,
+            ObjectMapper redisObjectMapper,
+            BackendGuard backendGuard
     ) {
         this.template = template;
+        this.replicaReadTemplate = replicaReadTemplate;
         this.objectRedisTemplate = objectRedisTemplate;
+        this.redisObjectMapper = redisObjectMapper;
+        this.backendGuard = backendGuard;
     }
 
     public String getData(String key) {
         ValueOperations<String, String> valueOperations = template.opsForValue();
-        return valueOperations.get(key);
+        return backendGuard.call(Backend.REDIS, () -> valueOperations.get(key));
+    }
+
+    // 복제본 우선 읽기 (redis.replica-read-from), 복제 지연으로 아직 없는 값이면 primary에서 한 번 더 읽음
+    // 방금 바뀐 값이 예전 값으로 보여도 되는 읽기에만 사용
+    public String getDataFromReplica(String key) {
+        String value = backendGuard.call(Backend.REDIS, () -> replicaReadTemplate.opsForValue().get(key));
+        return value != null ? value : getData(key);
     }
 
     public boolean existData(String key) {
-        return Boolean.TRUE.equals(template.hasKey(key));
+        return Boolean.TRUE.equals(backendGuard.call(Backend.REDIS, () -> template.hasKey(key)));
     }
 
     public void setDataExpire(String key, String value, long duration) {
         ValueOperations<String, String> valueOperations = template.opsForValue();
         Duration expireDuration = Duration.ofSeconds(duration);
-        valueOperations.set(key, value, expireDuration);
-        System.out.println("✅ setDataExpire 실행됨 - key: " + key + ", value: " + value + ", duration: " + duration + "s");
+        backendGuard.run(Backend.REDIS, () -> valueOperations.set(key, value, expireDuration));
     }
 
     public void deleteData(String key) {
-        template.delete(key);
+        backendGuard.call(Backend.REDIS, () -> template.delete(key));
+    }
+
+    // 바이너리 해시 필드 (StringRedisTemplate의 문자열 직렬화를 거치지 않음)
+    public void setHashBytesExpire(String key, Map<String, byte[]> fields, Duration ttl) {
+        byte[] rawKey = key.getBytes(StandardCharsets.UTF_8);
+        Map<byte[], byte[]> rawFields = new LinkedHashMap<>();
+        fields.forEach((field, value) -> rawFields.put(field.getBytes(StandardCharsets.UTF_8), value));
+        backendGuard.call(Backend.REDIS, () -> template.executePipelined((RedisCallback<Object>) connection -> {
+            connection.hashCommands().hMSet(rawKey, rawFields);
+            connection.keyCommands().expire(rawKey, ttl.toSeconds());
+            return null;
+        }));
+    }
+
+    public byte[] getHashBytes(String key, String field) {
+        return backendGuard.call(Backend.REDIS, () -> hashBytes(template, key, field));
+    }
+
+    // getDataFromReplica와 같은 조건으로 복제본 우선
+    public byte[] getHashBytesFromReplica(String key, String field) {
+        byte[] value = backendGuard.call(Backend.REDIS, () -> hashBytes(replicaReadTemplate, key, field));
+        return value != null ? value : getHashBytes(key, field);
+    }
+
+    private static byte[] hashBytes(StringRedisTemplate template, String key, String field) {
+        return template.execute((RedisCallback<byte[]>) connection -> connection.hashCommands()
+                .hGet(key.getBytes(StandardCharsets.UTF_8), field.getBytes(StandardCharsets.UTF_8)));
     }
 
     // 객체 저장
     public void setObjectDataExpire(String key, Object value, long duration) {
         ValueOperations<String, Object> ops = objectRedisTemplate.opsForValue();
-        ops.set(key, value, Duration.ofSeconds(duration));
+        backendGuard.run(Backend.REDIS, () -> ops.set(key, value, Duration.ofSeconds(duration)));
     }
 
-    public Object getObjectData(String key) {
-        return objectRedisTemplate.opsForValue().get(key);
+    // protobuf로 저장된 값은 그대로, 타입 정보 없이 JSON으로 저장된 기존 값(Map)은 type으로 변환
+    public <T> T getObjectData(String key, Class<T> type) {
+        Object value = backendGuard.call(Backend.REDIS, () -> objectRedisTemplate.opsForValue().get(key));
+        if (value == null || type.isInstance(value)) {
+            return type.cast(value);
+        }
+        return redisObjectMapper.convertValue(value, type);
     }
 }
@@ -0,0 +1,101 @@
+package com.example.authservice.config.redis;
+
+import com.example.authservice.util.TokenFingerprint;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+
+/**
+ * refreshToken 교환 조정용 Redis 키와 스크립트 (앱 RefreshCoordinator, token-reactive가 같이 사용).
+ * <ul>
+ *     <li>{owner}:refresh:{sid} - 세션의 현재 refreshToken 지문 (회전 = 교환할 때마다 바뀜)</li>
+ *     <li>{owner}:refresh-grace:{지문} - 그 refreshToken으로 발급한 토큰 쌍, 발급 중에는 "pending"(짧은 락)</li>
+ * </ul>
+ * 같은 refreshToken을 grace 안에 다시 교환하면 이미 발급한 쌍을 돌려주고,
+ * grace가 지난 뒤 세션의 현재 토큰이 아닌 refreshToken이 오면 재사용(탈취 의심)으로 본다.
+ */
+public final class RefreshRotation {
+
+    public static final String CLAIMED = "claimed";
+    public static final String REUSED = "reused";
+    public static final String PENDING = "pending";
+
+    // KEYS: 현재 지문, grace / ARGV: 교환할 토큰 지문, 락 ms, 재사용 검사(1/0)
+    // 반환: 발급된 쌍 | pending | reused | claimed(이 호출이 발급)
+    public static final RedisScript<String> CLAIM = RedisScript.of("""
+            local issued = redis.call('get', KEYS[2])
+            if issued then return issued end
+            if ARGV[3] == '1' then
+              local current = redis.call('get', KEYS[1])
+              if current and current ~= ARGV[1] then return 'reused' end
+            end
+            redis.call('set', KEYS[2], 'pending', 'px', ARGV[2])
+            return 'claimed'
+            """, String.class);
+
+    // KEYS: 새 세션의 현재 지문, grace / ARGV: 새 refreshToken 지문, 발급한 쌍, grace ms, 현재 지문 ttl ms
+    public static final RedisScript<Long> COMMIT = RedisScript.of("""
+            redis.call('set', KEYS[1], ARGV[1], 'px', ARGV[4])
+            redis.call('set', KEYS[2], ARGV[2], 'px', ARGV[3])
+            return 1
+            """, Long.class);
+
+    // 발급 실패 시 락만 풂 (이미 발급된 쌍은 지우지 않음)
+    public static final RedisScript<Long> RELEASE = RedisScript.of("""
+            if redis.call('get', KEYS[1]) == 'pending' then return redis.call('del', KEYS[1]) end
+            return 0
+            """, Long.class);
+
+    private static final int FINGERPRINT_BYTES = 16;
+
+    // 락을 잡은 뒤 COMMIT까지 Redis 왕복 수 상한 (세션 연장, 토큰 저장 2, COMMIT)
+    private static final int ISSUE_ROUND_TRIPS = 4;
+
+    private RefreshRotation() {
+    }
+
+    public record Pair(String accessToken, String refreshToken) {
+    }
+
+    // 발급 경로의 Redis 호출이 모두 명령 타임아웃까지 걸려도 COMMIT 전에 락이 풀려 두 번 발급되지 않도록
+    public static Duration lockTtl(Duration commandTimeout, Duration margin) {
+        return commandTimeout.multipliedBy(ISSUE_ROUND_TRIPS).plus(margin);
+    }
+
+    // sid 없는 기존 토큰은 현재 지문이 없으므로 grace 키를 그대로 넘김 (재사용 검사 없음)
+    public static List<String> claimKeys(String owner, String sessionId, String refreshToken) {
+        String grace = graceKey(owner, refreshToken);
+        return List.of(sessionId != null ? currentKey(owner, sessionId) : grace, grace);
+    }
+
+    public static List<String> commitKeys(String owner, String newSessionId, String refreshToken) {
+        return List.of(currentKey(owner, newSessionId), graceKey(owner, refreshToken));
+    }
+
+    // 다른 토큰 키와 같은 해시 태그 (redis.mode=cluster에서 한 슬롯)
+    public static String currentKey(String owner, String sessionId) {
+        return "{" + owner + "}:refresh:" + sessionId;
+    }
+
+    public static String graceKey(String owner, String refreshToken) {
+        return "{" + owner + "}:refresh-grace:" + fingerprint(refreshToken);
+    }
+
+    public static String fingerprint(String refreshToken) {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(Arrays.copyOf(TokenFingerprint.of(refreshToken), FINGERPRINT_BYTES));
+    }
+
+    // JWT에는 공백이 없음
+    public static String encode(Pair pair) {
+        return pair.accessToken() + " " + pair.refreshToken();
+    }
+
+    public static Pair decode(String value) {
+        int space = value.indexOf(' ');
+        return new Pair(value.substring(0, space), value.substring(space + 1));
+    }
+}
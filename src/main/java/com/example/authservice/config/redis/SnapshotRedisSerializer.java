@@ -0,0 +1,108 @@
+package com.example.authservice.config.redis;
+
+import com.example.authservice.cache.AddressSnapshot;
+import com.example.authservice.cache.SocialSnapshot;
+import com.example.authservice.cache.UserSnapshot;
+import com.example.authservice.model.Address;
+import com.example.authservice.model.Social;
+import com.example.authservice.model.User;
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.CodedOutputStream;
+import com.google.protobuf.MessageLite;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.io.IOException;
+
+/**
+ * objectRedisTemplate 값 직렬화.
+ * <p>
+ * User/Social/Address는 {@code [0xC1][버전][타입][protobuf]} 바이너리로 쓰고(cache.codec=protobuf),
+ * 그 외 타입이나 cache.codec=json이면 기존 JSON 직렬화를 그대로 쓴다.
+ * 읽을 때는 첫 바이트로 포맷을 구분하므로 기존 JSON 값도 계속 읽힌다.
+ * 0xC1은 UTF-8에 나올 수 없는 바이트라 JSON 값과 겹치지 않는다.
+ * <p>
+ * 기존 JSON 값에는 타입 정보가 없어 Map으로 읽히므로 타입 변환은 RedisUtil.getObjectData(key, type)에서 한다.
+ */
+public class SnapshotRedisSerializer implements RedisSerializer<Object> {
+
+    static final byte MAGIC = (byte) 0xC1;
+    static final byte VERSION = 1;
+    private static final int HEADER_SIZE = 3;
+
+    private static final byte TYPE_USER = 1;
+    private static final byte TYPE_SOCIAL = 2;
+    private static final byte TYPE_ADDRESS = 3;
+
+    private final RedisSerializer<Object> json;
+    private final CacheCodec writeCodec;
+    private final Counter binaryReads;
+    private final Counter jsonReads;
+
+    public SnapshotRedisSerializer(RedisSerializer<Object> json, CacheCodec writeCodec, MeterRegistry meterRegistry) {
+        this.json = json;
+        this.writeCodec = writeCodec;
+        // json 읽기가 0으로 떨어지면 기존 키가 모두 만료된 것
+        this.binaryReads = Counter.builder("redis.cache.codec.reads").tag("format", "protobuf").register(meterRegistry);
+        this.jsonReads = Counter.builder("redis.cache.codec.reads").tag("format", "json").register(meterRegistry);
+    }
+
+    @Override
+    public byte[] serialize(Object value) throws SerializationException {
+        if (writeCodec == CacheCodec.PROTOBUF) {
+            if (value instanceof User user) {
+                return encode(TYPE_USER, CacheSnapshots.toSnapshot(user));
+            }
+            if (value instanceof Social social) {
+                return encode(TYPE_SOCIAL, CacheSnapshots.toSnapshot(social));
+            }
+            if (value instanceof Address address) {
+                return encode(TYPE_ADDRESS, CacheSnapshots.toSnapshot(address));
+            }
+        }
+        return json.serialize(value);
+    }
+
+    @Override
+    public Object deserialize(byte[] bytes) throws SerializationException {
+        if (bytes == null || bytes.length == 0 || bytes[0] != MAGIC) {
+            Object value = json.deserialize(bytes);
+            if (value != null) {
+                jsonReads.increment();
+            }
+            return value;
+        }
+        if (bytes.length < HEADER_SIZE || bytes[1] != VERSION) {
+            throw new SerializationException("지원하지 않는 캐시 포맷 버전입니다: " + (bytes.length > 1 ? bytes[1] : -1));
+        }
+        binaryReads.increment();
+        CodedInputStream in = CodedInputStream.newInstance(bytes, HEADER_SIZE, bytes.length - HEADER_SIZE);
+        try {
+            return switch (bytes[2]) {
+                case TYPE_USER -> CacheSnapshots.fromSnapshot(UserSnapshot.parseFrom(in));
+                case TYPE_SOCIAL -> CacheSnapshots.fromSnapshot(SocialSnapshot.parseFrom(in));
+                case TYPE_ADDRESS -> CacheSnapshots.fromSnapshot(AddressSnapshot.parseFrom(in));
+                default -> throw new SerializationException("알 수 없는 캐시 타입입니다: " + bytes[2]);
+            };
+        } catch (IOException e) {
+            throw new SerializationException("캐시 값을 읽을 수 없습니다.", e);
+        }
+    }
+
+    private static byte[] encode(byte type, MessageLite message) {
+        byte[] bytes = new byte[HEADER_SIZE + message.getSerializedSize()];
+        bytes[0] = MAGIC;
+        bytes[1] = VERSION;
+        bytes[2] = type;
+        CodedOutputStream out = CodedOutputStream.newInstance(bytes, HEADER_SIZE, bytes.length - HEADER_SIZE);
+        try {
+            message.writeTo(out);
+            out.checkNoSpaceLeft();
+        } catch (IOException e) {
+            throw new SerializationException("캐시 값을 쓸 수 없습니다.", e);
+        }
+        return bytes;
+    }
+}
@@ -0,0 +1,57 @@
+package com.example.authservice.config.redis;
+
+import com.example.authservice.util.TokenFingerprint;
+
+import java.nio.ByteBuffer;
+import java.security.MessageDigest;
+import java.time.Instant;
+
+/**
+ * 토큰 세션의 compact 표현 (token.redis-session=compact).
+ * <p>
+ * 사용자당 해시 하나 {owner}:session 에 필드 a(accessToken) / r(refreshToken),
+ * 값은 지문 16바이트 + 만료 시각(epoch 초, 4바이트) = 20바이트.
+ * 필드 2개, 값 64바이트 미만이라 Redis 기본 설정(hash-max-listpack-entries 128 / value 64)에서
+ * listpack(6.x는 ziplist)으로 저장되어 해시 테이블/키 오버헤드가 없다.
+ * 키 TTL은 refreshToken 기준이고 accessToken 만료는 값의 만료 시각으로 판단한다.
+ */
+public final class TokenSession {
+
+    public static final String ACCESS_FIELD = "a";
+    public static final String REFRESH_FIELD = "r";
+
+    static final int DIGEST_LENGTH = 16;
+    static final int VALUE_LENGTH = DIGEST_LENGTH + Integer.BYTES;
+
+    private TokenSession() {
+    }
+
+    // 기존 문자열 키({owner}:accessToken)와 같은 해시 태그 (redis.mode=cluster)
+    public static String key(String owner) {
+        return "{" + owner + "}:session";
+    }
+
+    public static byte[] encode(String token, Instant expiresAt) {
+        return ByteBuffer.allocate(VALUE_LENGTH)
+                .put(TokenFingerprint.of(token), 0, DIGEST_LENGTH)
+                .putInt((int) expiresAt.getEpochSecond())
+                .array();
+    }
+
+    // TokenProviderService.validToken 상태 코드: 1 일치, 2 없음/만료, 3 불일치
+    public static int check(byte[] value, String token, Instant now) {
+        if (value == null || value.length != VALUE_LENGTH) {
+            return 2;
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(value);
+        byte[] digest = new byte[DIGEST_LENGTH];
+        buffer.get(digest);
+        long expiresAt = Integer.toUnsignedLong(buffer.getInt());
+        if (now.getEpochSecond() >= expiresAt) {
+            return 2;
+        }
+        byte[] expected = new byte[DIGEST_LENGTH];
+        System.arraycopy(TokenFingerprint.of(token), 0, expected, 0, DIGEST_LENGTH);
+        return MessageDigest.isEqual(digest, expected) ? 1 : 3;
+    }
+}
@@ -0,0 +1,87 @@
+package com.example.authservice.config.redis;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.composite.CompositeMeterRegistry;
+import org.springframework.cache.Cache;
+import org.springframework.cache.transaction.AbstractTransactionSupportingCacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheDecorator;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * {@link TwoLevelCache}를 만드는 CacheManager.
+ * <p>
+ * cache.specs에 있는 캐시는 기동 시, 그 외 이름은 처음 쓸 때 cache.defaults로 만든다.
+ * 트랜잭션 안의 put/evict는 커밋 후에 반영되므로(transactionAware) 커밋 전 값이 다른 요청에 다시 캐시되지 않는다.
+ * 다른 노드의 무효화 메시지({@link CacheInvalidationPublisher#CHANNEL})를 받아 L1을 지운다.
+ * 회원 변경 이벤트(UserEventListener)로도 해당 사용자의 L1을 지운다 (pub/sub 메시지를 놓친 경우).
+ */
+public class TwoLevelCacheManager extends AbstractTransactionSupportingCacheManager implements MessageListener {
+
+    // metrics=false인 캐시용 (등록된 레지스트리가 없는 composite는 no-op 미터를 돌려줌)
+    private static final MeterRegistry NO_METRICS = new CompositeMeterRegistry();
+
+    private final CacheProperties properties;
+    private final RedisTemplate<String, byte[]> redis;
+    private final RedisSerializer<Object> serializer;
+    private final CacheInvalidationPublisher publisher;
+    private final MeterRegistry meterRegistry;
+
+    public TwoLevelCacheManager(CacheProperties properties, RedisTemplate<String, byte[]> redis,
+                                RedisSerializer<Object> serializer, CacheInvalidationPublisher publisher,
+                                MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.redis = redis;
+        this.serializer = serializer;
+        this.publisher = publisher;
+        this.meterRegistry = meterRegistry;
+        setTransactionAware(true);
+    }
+
+    @Override
+    protected Collection<? extends Cache> loadCaches() {
+        List<Cache> caches = new ArrayList<>();
+        for (String name : properties.getSpecs().keySet()) {
+            caches.add(createCache(name));
+        }
+        return caches;
+    }
+
+    @Override
+    protected Cache getMissingCache(String name) {
+        return createCache(name);
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String[] parts = new String(message.getBody(), StandardCharsets.UTF_8).split("\n", 3);
+        if (parts.length < 2 || parts[0].equals(publisher.getNodeId())) {
+            return;
+        }
+        invalidateLocal(parts[1], parts.length == 3 ? parts[2] : null);
+    }
+
+    // 이 노드의 L1만 지움 (cacheKey가 null이면 전체), 아직 만들지 않은 캐시면 무시
+    public void invalidateLocal(String cacheName, String cacheKey) {
+        // 트랜잭션 데코레이터가 아닌 원본 캐시 (커밋을 기다릴 필요 없음)
+        Cache cache = lookupCache(cacheName);
+        if (cache instanceof TransactionAwareCacheDecorator decorator) {
+            cache = decorator.getTargetCache();
+        }
+        if (cache instanceof TwoLevelCache twoLevelCache) {
+            twoLevelCache.invalidateLocal(cacheKey);
+        }
+    }
+
+    private TwoLevelCache createCache(String name) {
+        CacheProperties.Spec spec = properties.spec(name);
+        return new TwoLevelCache(name, spec, redis, serializer, publisher, spec.isMetrics() ? meterRegistry : NO_METRICS);
+    }
+}
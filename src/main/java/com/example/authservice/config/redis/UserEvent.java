@@ -0,0 +1,89 @@
+package com.example.authservice.config.redis;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 세션/회원 변경 이벤트 (Redis Stream {@value #STREAM}).
+ * <p>
+ * 필드: t=종류, o=owner (USER:아이디, KAKAO:아이디 등 저장 토큰/세션 키와 같은 형식), 그 밖에 종류별로 s=세션 id, g=세대, u=uid.
+ * 발생 시각은 레코드 id(밀리초)로 대신한다. 다른 서비스는 서비스별 컨슈머 그룹으로 읽으면 되고,
+ * 모르는 종류나 필드는 건너뛴다 (종류/필드는 추가만 함).
+ */
+public record UserEvent(Type type, String owner, String sessionId, Long generation, Integer uid) {
+
+    public static final String STREAM = "user:events";
+
+    public enum Type {
+        // 한 기기 로그아웃 (s)
+        LOGOUT,
+        // 모든 기기 로그아웃, 이전 세대 토큰 폐기 (g)
+        LOGOUT_ALL,
+        // 회원 탈퇴 (u)
+        DELETE,
+        // 역할 변경 (u), 아직 역할을 바꾸는 API는 없음
+        ROLE_CHANGE,
+        // 회원 정보/주소 변경 (u)
+        PROFILE_UPDATE
+    }
+
+    public static UserEvent logout(String owner, String sessionId) {
+        return new UserEvent(Type.LOGOUT, owner, sessionId, null, null);
+    }
+
+    public static UserEvent logoutAll(String owner, long generation) {
+        return new UserEvent(Type.LOGOUT_ALL, owner, null, generation, null);
+    }
+
+    public static UserEvent deleted(String owner, Integer uid) {
+        return new UserEvent(Type.DELETE, owner, null, null, uid);
+    }
+
+    public static UserEvent profileUpdated(String owner, Integer uid) {
+        return new UserEvent(Type.PROFILE_UPDATE, owner, null, null, uid);
+    }
+
+    // USER:아이디면 true (소셜은 KAKAO:아이디 등)
+    public boolean isUser() {
+        return owner.startsWith("USER:");
+    }
+
+    // owner에서 아이디 부분
+    public String userId() {
+        return owner.substring(owner.indexOf(':') + 1);
+    }
+
+    public Map<String, String> toFields() {
+        Map<String, String> fields = new HashMap<>(8);
+        fields.put("t", type.name());
+        fields.put("o", owner);
+        if (sessionId != null) {
+            fields.put("s", sessionId);
+        }
+        if (generation != null) {
+            fields.put("g", generation.toString());
+        }
+        if (uid != null) {
+            fields.put("u", uid.toString());
+        }
+        return fields;
+    }
+
+    // 모르는 종류이거나 형식이 다르면 null
+    public static UserEvent of(Map<String, String> fields) {
+        String type = fields.get("t");
+        String owner = fields.get("o");
+        if (type == null || owner == null || owner.indexOf(':') <= 0) {
+            return null;
+        }
+        try {
+            String generation = fields.get("g");
+            String uid = fields.get("u");
+            return new UserEvent(Type.valueOf(type), owner, fields.get("s"),
+                    generation != null ? Long.valueOf(generation) : null,
+                    uid != null ? Integer.valueOf(uid) : null);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.example.authservice.config.redis;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+// 세션/회원 변경 이벤트 스트림 (UserEvent, UserEventPublisher, UserEventSubscription)
+@Getter
+@Setter
+@Component
+@ConfigurationProperties("user-events")
+public class UserEventProperties {
+
+    // 이벤트 발행 여부
+    private boolean enabled = true;
+
+    // 스트림 길이 상한 (XADD MAXLEN ~), 다른 서비스 컨슈머가 이만큼 밀리면 놓친 이벤트는 캐시 TTL로 정리
+    private long maxLength = 100_000;
+
+    // 이 프로세스의 로컬 캐시 무효화 (노드마다 {group-prefix}:{노드 id} 그룹으로 모든 이벤트를 받음)
+    private boolean listenerEnabled = true;
+
+    private String groupPrefix = "auth-service";
+
+    // XREADGROUP BLOCK, 명령 타임아웃(spring.data.redis.timeout)보다 짧게
+    private Duration pollTimeout = Duration.ofMillis(200);
+
+    private int batchSize = 100;
+}
@@ -0,0 +1,57 @@
+package com.example.authservice.config.redis;
+
+import com.example.authservice.config.resilience.Backend;
+import com.example.authservice.config.resilience.BackendGuard;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.RedisStreamCommands;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * {@link UserEvent}를 스트림에 추가 (XADD MAXLEN ~ user-events.max-length).
+ * <p>
+ * 트랜잭션 안에서 부르면 커밋 후에 보내므로 롤백된 변경은 알리지 않는다.
+ * 실패해도 요청은 계속 진행하고, 받는 쪽은 캐시 TTL 뒤에 새 값을 읽는다.
+ */
+@Slf4j
+@Component
+public class UserEventPublisher {
+
+    private final StringRedisTemplate redisTemplate;
+    private final UserEventProperties properties;
+    private final BackendGuard backendGuard;
+    private final RedisStreamCommands.XAddOptions options;
+
+    public UserEventPublisher(StringRedisTemplate redisTemplate, UserEventProperties properties, BackendGuard backendGuard) {
+        this.redisTemplate = redisTemplate;
+        this.properties = properties;
+        this.backendGuard = backendGuard;
+        this.options = RedisStreamCommands.XAddOptions.maxlen(properties.getMaxLength()).approximateTrimming(true);
+    }
+
+    public void publish(UserEvent event) {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    send(event);
+                }
+            });
+        } else {
+            send(event);
+        }
+    }
+
+    private void send(UserEvent event) {
+        try {
+            backendGuard.call(Backend.REDIS, () -> redisTemplate.opsForStream().add(UserEvent.STREAM, event.toFields(), options));
+        } catch (RuntimeException e) {
+            log.warn("회원 이벤트 전송 실패: type={}, owner={}", event.type(), event.owner(), e);
+        }
+    }
+}
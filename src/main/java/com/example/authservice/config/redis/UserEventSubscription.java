@@ -0,0 +1,142 @@
+package com.example.authservice.config.redis;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.connection.stream.Consumer;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.ReadOffset;
+import org.springframework.data.redis.connection.stream.StreamInfo;
+import org.springframework.data.redis.connection.stream.StreamOffset;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.stream.StreamListener;
+import org.springframework.data.redis.stream.StreamMessageListenerContainer;
+
+import java.util.UUID;
+
+/**
+ * {@link UserEvent} 스트림을 읽어 이 프로세스의 로컬 캐시를 지우는 리스너의 공통 부분 (앱 UserEventListener, token-reactive).
+ * <p>
+ * 모든 노드가 모든 이벤트를 받아야 하므로 노드마다 {group-prefix}:{노드 id} 그룹을 만들고(시작 시점부터 읽음) 종료 시 지운다.
+ * 비정상 종료로 남은 그룹은 스트림이 그 그룹의 마지막 전달 위치보다 앞까지 잘리면 다른 노드가 시작할 때 지운다.
+ * 읽기는 컨테이너 스레드에서 하므로 {@link #onEvent}는 블로킹해도 된다.
+ */
+@Slf4j
+public abstract class UserEventSubscription implements StreamListener<String, MapRecord<String, String, String>>, SmartLifecycle {
+
+    private final StringRedisTemplate redisTemplate;
+    private final UserEventProperties properties;
+    private final StreamMessageListenerContainer<String, MapRecord<String, String, String>> container;
+    private final String group;
+    private volatile boolean running;
+
+    protected UserEventSubscription(RedisConnectionFactory connectionFactory, StringRedisTemplate redisTemplate,
+                                    UserEventProperties properties) {
+        this.redisTemplate = redisTemplate;
+        this.properties = properties;
+        this.group = properties.getGroupPrefix() + ":" + UUID.randomUUID();
+        this.container = StreamMessageListenerContainer.create(connectionFactory,
+                StreamMessageListenerContainer.StreamMessageListenerContainerOptions.builder()
+                        .pollTimeout(properties.getPollTimeout())
+                        .batchSize(properties.getBatchSize())
+                        .build());
+    }
+
+    protected abstract void onEvent(UserEvent event);
+
+    @Override
+    public void start() {
+        if (!properties.isListenerEnabled()) {
+            return;
+        }
+        pruneAbandonedGroups();
+        createGroup();
+        // 그룹이 노드 전용이고 종료 시 지우므로 pending 목록이 필요 없음 (읽으면 바로 ack)
+        container.register(StreamMessageListenerContainer.StreamReadRequest
+                .builder(StreamOffset.create(UserEvent.STREAM, ReadOffset.lastConsumed()))
+                .consumer(Consumer.from(group, "listener"))
+                .autoAcknowledge(true)
+                .cancelOnError(e -> false)
+                .errorHandler(this::onError)
+                .build(), this);
+        container.start();
+        running = true;
+    }
+
+    @Override
+    public void stop() {
+        if (!running) {
+            return;
+        }
+        running = false;
+        container.stop();
+        try {
+            redisTemplate.opsForStream().destroyGroup(UserEvent.STREAM, group);
+        } catch (RuntimeException e) {
+            log.warn("회원 이벤트 그룹 삭제 실패: group={}", group, e);
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public void onMessage(MapRecord<String, String, String> record) {
+        UserEvent event = UserEvent.of(record.getValue());
+        if (event == null) {
+            log.debug("알 수 없는 회원 이벤트 무시: id={}", record.getId());
+            return;
+        }
+        onEvent(event);
+    }
+
+    // Redis 장애 중에는 읽기마다 실패하므로 debug, 재시작/failover로 그룹이 없어졌으면 다시 만듦
+    private void onError(Throwable e) {
+        if (String.valueOf(e.getMessage()).contains("NOGROUP")) {
+            createGroup();
+        } else {
+            log.debug("회원 이벤트 읽기 실패: {}", e.getMessage());
+        }
+    }
+
+    // 시작 시점 이후 이벤트만 읽음 (그 전 변경은 로컬 캐시가 비어 있으므로 상관없음)
+    private void createGroup() {
+        try {
+            redisTemplate.opsForStream().createGroup(UserEvent.STREAM, ReadOffset.latest(), group);
+            log.info("회원 이벤트 그룹 생성: group={}", group);
+        } catch (RuntimeException e) {
+            // 읽기에서 NOGROUP이 나면 다시 시도, 그동안은 캐시 TTL로만 갱신
+            log.warn("회원 이벤트 그룹 생성 실패: group={}, {}", group, e.getMessage());
+        }
+    }
+
+    private void pruneAbandonedGroups() {
+        try {
+            StreamInfo.XInfoStream info = redisTemplate.opsForStream().info(UserEvent.STREAM);
+            if (info.firstEntryId() == null) {
+                return;
+            }
+            for (StreamInfo.XInfoGroup candidate : redisTemplate.opsForStream().groups(UserEvent.STREAM)) {
+                String name = candidate.groupName();
+                if (name.startsWith(properties.getGroupPrefix() + ":")
+                        && compareIds(candidate.lastDeliveredId(), info.firstEntryId()) < 0) {
+                    redisTemplate.opsForStream().destroyGroup(UserEvent.STREAM, name);
+                    log.info("남은 회원 이벤트 그룹 삭제: group={}", name);
+                }
+            }
+        } catch (RuntimeException e) {
+            // 스트림이 아직 없거나 Redis를 쓸 수 없음, 다음 노드 시작 때 다시 정리
+            log.debug("회원 이벤트 그룹 정리 건너뜀: {}", e.getMessage());
+        }
+    }
+
+    // 스트림 id (밀리초-순번) 비교
+    private static int compareIds(String left, String right) {
+        int l = left.indexOf('-');
+        int r = right.indexOf('-');
+        int byTime = Long.compare(Long.parseLong(left.substring(0, l)), Long.parseLong(right.substring(0, r)));
+        return byTime != 0 ? byTime : Long.compare(Long.parseLong(left.substring(l + 1)), Long.parseLong(right.substring(r + 1)));
+    }
+}
@@ -0,0 +1,11 @@
+package com.example.authservice.config.resilience;
+
+// BackendGuard가 감싸는 외부 저장소 (resilience.backends.*, 메트릭/health의 name 태그)
+public enum Backend {
+    REDIS,
+    MYSQL;
+
+    public String id() {
+        return name().toLowerCase();
+    }
+}
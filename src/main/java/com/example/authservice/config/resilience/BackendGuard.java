@@ -0,0 +1,135 @@
+package com.example.authservice.config.resilience;
+
+import com.example.authservice.exception.BackendUnavailableException;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.micrometer.tagged.TaggedBulkheadMetrics;
+import io.github.resilience4j.micrometer.tagged.TaggedCircuitBreakerMetrics;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.dao.RecoverableDataAccessException;
+import org.springframework.dao.TransientDataAccessResourceException;
+import org.springframework.stereotype.Component;
+
+import java.sql.SQLNonTransientConnectionException;
+import java.sql.SQLRecoverableException;
+import java.sql.SQLTimeoutException;
+import java.sql.SQLTransientConnectionException;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Redis/MySQL 호출을 backend별 bulkhead + circuit breaker로 감싼다 (resilience4j, 어노테이션/AOP 없이 직접 호출).
+ * <p>
+ * bulkhead가 가득 차거나 breaker가 open이면 저장소를 부르지 않고 바로 {@link BackendUnavailableException}(503).
+ * 연결 실패/타임아웃만 실패로 세고(중복 키 같은 정상 응답 오류는 성공), slow-call-threshold보다 느린 호출도 센다.
+ * 연결 실패/타임아웃 예외도 BackendUnavailableException으로 바꿔 던진다.
+ * 상태는 resilience4j.circuitbreaker.* / resilience4j.bulkhead.* 메트릭과 health의 backends.
+ */
+@Slf4j
+@Component
+public class BackendGuard {
+
+    private final Map<Backend, Guard> guards = new EnumMap<>(Backend.class);
+
+    public BackendGuard(ResilienceProperties properties, MeterRegistry meterRegistry) {
+        CircuitBreakerRegistry circuitBreakers = CircuitBreakerRegistry.ofDefaults();
+        BulkheadRegistry bulkheads = BulkheadRegistry.ofDefaults();
+        for (Backend backend : Backend.values()) {
+            ResilienceProperties.Policy policy = properties.getBackends().get(backend);
+            CircuitBreaker circuitBreaker = circuitBreakers.circuitBreaker(backend.id(), CircuitBreakerConfig.custom()
+                    .slidingWindowType(CircuitBreakerConfig.SlidingWindowType.TIME_BASED)
+                    .slidingWindowSize((int) Math.max(1, policy.getSlidingWindow().toSeconds()))
+                    .minimumNumberOfCalls(policy.getMinimumCalls())
+                    .failureRateThreshold(policy.getFailureRateThreshold())
+                    .slowCallDurationThreshold(policy.getSlowCallThreshold())
+                    .slowCallRateThreshold(policy.getSlowCallRateThreshold())
+                    .waitDurationInOpenState(policy.getWaitInOpen())
+                    .permittedNumberOfCallsInHalfOpenState(policy.getPermittedCallsInHalfOpen())
+                    .automaticTransitionFromOpenToHalfOpenEnabled(true)
+                    .recordException(BackendGuard::isOutage)
+                    .build());
+            Bulkhead bulkhead = bulkheads.bulkhead(backend.id(), BulkheadConfig.custom()
+                    .maxConcurrentCalls(policy.getMaxConcurrentCalls())
+                    .maxWaitDuration(policy.getMaxWait())
+                    .build());
+            circuitBreaker.getEventPublisher().onStateTransition(event ->
+                    log.warn("{} circuit breaker {}", backend.id(), event.getStateTransition()));
+            guards.put(backend, new Guard(circuitBreaker, bulkhead));
+        }
+        TaggedCircuitBreakerMetrics.ofCircuitBreakerRegistry(circuitBreakers).bindTo(meterRegistry);
+        TaggedBulkheadMetrics.ofBulkheadRegistry(bulkheads).bindTo(meterRegistry);
+    }
+
+    private record Guard(CircuitBreaker circuitBreaker, Bulkhead bulkhead) {
+    }
+
+    public <T> T call(Backend backend, Supplier<T> call) {
+        Guard guard = guards.get(backend);
+        if (!guard.bulkhead.tryAcquirePermission()) {
+            throw new BackendUnavailableException(backend, backend.id() + " bulkhead full", null);
+        }
+        try {
+            if (!guard.circuitBreaker.tryAcquirePermission()) {
+                throw new BackendUnavailableException(backend, backend.id() + " circuit breaker open", null);
+            }
+            long start = System.nanoTime();
+            try {
+                T result = call.get();
+                guard.circuitBreaker.onResult(System.nanoTime() - start, TimeUnit.NANOSECONDS, result);
+                return result;
+            } catch (RuntimeException e) {
+                guard.circuitBreaker.onError(System.nanoTime() - start, TimeUnit.NANOSECONDS, e);
+                if (isOutage(e)) {
+                    throw new BackendUnavailableException(backend, backend.id() + " unavailable: " + e.getMessage(), e);
+                }
+                throw e;
+            }
+        } finally {
+            guard.bulkhead.onComplete();
+        }
+    }
+
+    public void run(Backend backend, Runnable call) {
+        call(backend, () -> {
+            call.run();
+            return null;
+        });
+    }
+
+    public CircuitBreaker circuitBreaker(Backend backend) {
+        return guards.get(backend).circuitBreaker;
+    }
+
+    public Bulkhead bulkhead(Backend backend) {
+        return guards.get(backend).bulkhead;
+    }
+
+    // 저장소에 닿지 못했거나 응답이 없었던 경우만 (Lettuce 타임아웃은 QueryTimeoutException, 연결 실패는 RedisConnectionFailureException)
+    static boolean isOutage(Throwable e) {
+        for (Throwable t = e; t != null; t = t.getCause()) {
+            if (t instanceof DataAccessResourceFailureException
+                    || t instanceof TransientDataAccessResourceException
+                    || t instanceof QueryTimeoutException
+                    || t instanceof RecoverableDataAccessException
+                    || t instanceof SQLTransientConnectionException
+                    || t instanceof SQLNonTransientConnectionException
+                    || t instanceof SQLRecoverableException
+                    || t instanceof SQLTimeoutException) {
+                return true;
+            }
+            if (t.getCause() == t) {
+                break;
+            }
+        }
+        return false;
+    }
+}
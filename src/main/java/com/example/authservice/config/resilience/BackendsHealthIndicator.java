@@ -0,0 +1,53 @@
+package com.example.authservice.config.resilience;
+
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.boot.actuate.health.Status;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * backend별 circuit breaker 상태 (health 이름: backends, readiness 그룹에 포함).
+ * <ul>
+ *     <li>UP - 모두 closed</li>
+ *     <li>DEGRADED(200) - MySQL open(토큰 검증은 계속), 또는 Redis open이지만 resilience.degraded-validation=true</li>
+ *     <li>OUT_OF_SERVICE(503) - Redis open이고 degraded-validation=false: 받을 수 있는 요청이 없으므로 트래픽에서 뺌</li>
+ * </ul>
+ * 모든 파드가 같은 저장소를 보므로 저장소 장애만으로 DOWN(재시작)으로 만들지 않는다.
+ */
+@Component
+@RequiredArgsConstructor
+public class BackendsHealthIndicator implements HealthIndicator {
+
+    static final Status DEGRADED = new Status("DEGRADED", "일부 저장소 장애, 토큰 검증만 제한적으로 처리");
+
+    private final BackendGuard backendGuard;
+    private final ResilienceProperties properties;
+
+    @Override
+    public Health health() {
+        Map<String, Object> details = new LinkedHashMap<>();
+        boolean redisOpen = false;
+        boolean anyOpen = false;
+        for (Backend backend : Backend.values()) {
+            CircuitBreaker circuitBreaker = backendGuard.circuitBreaker(backend);
+            CircuitBreaker.State state = circuitBreaker.getState();
+            boolean open = state == CircuitBreaker.State.OPEN || state == CircuitBreaker.State.FORCED_OPEN;
+            anyOpen |= open;
+            redisOpen |= open && backend == Backend.REDIS;
+            details.put(backend.id(), Map.of(
+                    "state", state.name(),
+                    "failureRate", circuitBreaker.getMetrics().getFailureRate(),
+                    "slowCallRate", circuitBreaker.getMetrics().getSlowCallRate(),
+                    "availableConcurrentCalls", backendGuard.bulkhead(backend).getMetrics().getAvailableConcurrentCalls()));
+        }
+        Status status = redisOpen && !properties.isDegradedValidation() ? Status.OUT_OF_SERVICE
+                : anyOpen ? DEGRADED
+                : Status.UP;
+        return Health.status(status).withDetails(details).build();
+    }
+}
@@ -0,0 +1,41 @@
+package com.example.authservice.config.resilience;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.apache.ibatis.annotations.Mapper;
+import org.springframework.aop.Advisor;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.aop.support.annotation.AnnotationMatchingPointcut;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Role;
+import org.springframework.core.Ordered;
+import org.springframework.util.function.SingletonSupplier;
+
+import java.lang.reflect.UndeclaredThrowableException;
+import java.util.function.Supplier;
+
+// @Mapper 메서드 호출을 MySQL BackendGuard로 감쌈
+// 캐시(@Cacheable)보다 안쪽(캐시 적중은 MySQL 호출이 아님), 복제본 라우팅(DataSourceConfig.readRoutingAdvisor)보다 바깥
+@Configuration(proxyBeanMethods = false)
+public class MapperGuardConfig {
+
+    @Bean
+    @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+    public static Advisor mapperGuardAdvisor(ObjectProvider<BackendGuard> backendGuard) {
+        Supplier<BackendGuard> guard = SingletonSupplier.of(backendGuard::getObject);
+        MethodInterceptor interceptor = invocation -> guard.get().call(Backend.MYSQL, () -> {
+            try {
+                return invocation.proceed();
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable t) {
+                throw new UndeclaredThrowableException(t);
+            }
+        });
+        DefaultPointcutAdvisor advisor = new DefaultPointcutAdvisor(new AnnotationMatchingPointcut(Mapper.class, true), interceptor);
+        advisor.setOrder(Ordered.LOWEST_PRECEDENCE - 1);
+        return advisor;
+    }
+}
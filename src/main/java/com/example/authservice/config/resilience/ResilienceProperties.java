@@ -0,0 +1,56 @@
+package com.example.authservice.config.resilience;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+
+// Redis/MySQL 호출 bulkhead + circuit breaker (BackendGuard)
+@Getter
+@Setter
+@Component
+@ConfigurationProperties("resilience")
+public class ResilienceProperties {
+
+    // Redis를 쓸 수 없을 때 자체 발급 JWT는 서명/만료만으로 검증 (세션 세대/활성 확인 생략)
+    // false면 Redis 장애 동안 모든 검증이 503
+    private boolean degradedValidation = true;
+
+    private Map<Backend, Policy> backends = defaults();
+
+    @Getter
+    @Setter
+    public static class Policy {
+        // 동시에 호출할 수 있는 수, 넘으면 max-wait만큼 기다린 뒤 거절
+        private int maxConcurrentCalls;
+        private Duration maxWait = Duration.ZERO;
+        // 최근 sliding-window 동안 실패(연결/타임아웃)나 느린 호출 비율이 임계치를 넘으면 open
+        private Duration slidingWindow = Duration.ofSeconds(10);
+        private int minimumCalls = 20;
+        private float failureRateThreshold = 50;
+        private Duration slowCallThreshold;
+        private float slowCallRateThreshold = 80;
+        // open 유지 시간, 이후 half-open에서 permitted-calls-in-half-open만큼 시험 호출
+        private Duration waitInOpen = Duration.ofSeconds(10);
+        private int permittedCallsInHalfOpen = 5;
+
+        Policy() {
+        }
+
+        Policy(int maxConcurrentCalls, Duration slowCallThreshold) {
+            this.maxConcurrentCalls = maxConcurrentCalls;
+            this.slowCallThreshold = slowCallThreshold;
+        }
+    }
+
+    private static Map<Backend, Policy> defaults() {
+        Map<Backend, Policy> backends = new EnumMap<>(Backend.class);
+        backends.put(Backend.REDIS, new Policy(150, Duration.ofMillis(200)));
+        backends.put(Backend.MYSQL, new Policy(20, Duration.ofSeconds(1)));
+        return backends;
+    }
+}
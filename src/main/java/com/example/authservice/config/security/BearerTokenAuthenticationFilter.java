@@ -0,0 +1,68 @@
+package com.example.authservice.config.security;
+
+import com.example.authservice.dto.ClaimsResponseDTO;
+import com.example.authservice.service.TokenProviderService;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * 관리용 actuator 엔드포인트(/actuator/**)의 인증.
+ * <p>
+ * Authorization: Bearer 로 받은 자체 발급 accessToken을 /auths/validToken과 같은 기준(서명, 만료, 세션 세대)으로 검증하고
+ * 토큰의 role을 권한으로 넣는다. 토큰이 없거나 유효하지 않으면 인증 없이 넘겨서 SecurityConfig 규칙에 따라 403.
+ * 서블릿 필터로 따로 등록되지 않도록 빈으로 만들지 않음 (SecurityConfig에서 생성).
+ */
+@Slf4j
+public class BearerTokenAuthenticationFilter extends OncePerRequestFilter {
+
+    private static final String BEARER = "Bearer ";
+
+    private final TokenProviderService tokenProviderService;
+
+    public BearerTokenAuthenticationFilter(TokenProviderService tokenProviderService) {
+        this.tokenProviderService = tokenProviderService;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !request.getRequestURI().startsWith("/actuator/");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        String header = request.getHeader(HttpHeaders.AUTHORIZATION);
+        if (header != null && header.startsWith(BEARER)) {
+            authenticate(header.substring(BEARER.length()).trim());
+        }
+        chain.doFilter(request, response);
+    }
+
+    // 소셜 토큰은 역할을 담지 않으므로 제외
+    private void authenticate(String token) {
+        if (token.isEmpty() || token.indexOf(':') >= 0) {
+            return;
+        }
+        try {
+            if (tokenProviderService.validToken("accessToken", token) != 1) {
+                return;
+            }
+            ClaimsResponseDTO claims = tokenProviderService.getAuthentication(token);
+            SecurityContextHolder.getContext().setAuthentication(UsernamePasswordAuthenticationToken.authenticated(
+                    claims.getUserId(), null,
+                    claims.getRoles().stream().map(SimpleGrantedAuthority::new).toList()));
+        } catch (RuntimeException e) {
+            log.debug("actuator 토큰 인증 실패: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.example.authservice.config.security;
+
+import com.example.authservice.config.metrics.AuthMetrics;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+// AuthenticationManager(DaoAuthenticationProvider)가 사용하는 BCrypt 비용을 측정
+public class MeteredBCryptPasswordEncoder extends BCryptPasswordEncoder {
+
+    private final AuthMetrics authMetrics;
+
+    public MeteredBCryptPasswordEncoder(AuthMetrics authMetrics) {
+        this.authMetrics = authMetrics;
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        long start = System.nanoTime();
+        String encoded = super.encode(rawPassword);
+        authMetrics.recordBcrypt("encode", "success", System.nanoTime() - start);
+        return encoded;
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        long start = System.nanoTime();
+        boolean matched = super.matches(rawPassword, encodedPassword);
+        authMetrics.recordBcrypt("matches", matched ? "match" : "mismatch", System.nanoTime() - start);
+        return matched;
+    }
+}
@@ -0,0 +1,25 @@
+package com.example.authservice.config.singleflight;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 같은 키로 동시에 호출되면 한 번만 실행하는 @Cacheable 매퍼 조회 ({@link SingleFlight}).
+ * <p>
+ * 캐시보다 바깥에서 합치고, 기다린 요청은 leader가 채운 캐시에서 다시 읽는다 (TwoLevelCache처럼 조회마다 새 객체, 가변 객체를 공유하지 않음).
+ * leader 결과가 null이면 그대로 null.
+ * value/key가 같은 {@link com.example.authservice.config.datasource.ReadYourWrites} 쓰기 뒤(커밋 후 포함)에는
+ * 그 전에 시작한 조회에 합류하지 않는다 ({@link SingleFlight#forget}).
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface CoalescedRead {
+
+    // single-flight 이름 (@Cacheable과 같은 CacheNames 이름, single-flight.timeouts 키)
+    String value();
+
+    // SpEL (#p0 등), @Cacheable key와 같게
+    String key();
+}
@@ -0,0 +1,96 @@
+package com.example.authservice.config.singleflight;
+
+import com.example.authservice.config.datasource.ReadYourWrites;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.context.expression.MethodBasedEvaluationContext;
+import org.springframework.core.DefaultParameterNameDiscoverer;
+import org.springframework.core.ParameterNameDiscoverer;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.expression.Expression;
+import org.springframework.expression.spel.standard.SpelExpressionParser;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.UndeclaredThrowableException;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+// @CoalescedRead 매퍼 메서드 처리, @ReadYourWrites 쓰기 뒤에는 같은 이름/키의 진행 중인 조회에서 떼어 냄
+class CoalescedReadInterceptor implements MethodInterceptor {
+
+    private static final ParameterNameDiscoverer PARAMETER_NAMES = new DefaultParameterNameDiscoverer();
+
+    private final Supplier<SingleFlight> singleFlight;
+    private final SpelExpressionParser parser = new SpelExpressionParser();
+    private final ConcurrentMap<Method, Coalescing> coalescings = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, Expression> expressions = new ConcurrentHashMap<>();
+
+    CoalescedReadInterceptor(Supplier<SingleFlight> singleFlight) {
+        this.singleFlight = singleFlight;
+    }
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        Coalescing coalescing = coalescings.computeIfAbsent(invocation.getMethod(), Coalescing::of);
+        if (coalescing.read == null) {
+            Object written = invocation.proceed();
+            forget(coalescing.writes, invocation);
+            return written;
+        }
+        CoalescedRead read = coalescing.read;
+        Object key = key(read.key(), invocation);
+        SingleFlight.Result<Object> result = singleFlight.get().join(read.value(), key, () -> proceed(invocation));
+        if (result.shared() && result.value() != null) {
+            // leader가 캐시에 넣은 값을 새 객체로 다시 읽음
+            return invocation.proceed();
+        }
+        return result.value();
+    }
+
+    // 트랜잭션 안이면 커밋 전에 시작한 조회도 예전 값을 읽으므로 커밋 후에 한 번 더
+    private void forget(Set<ReadYourWrites> writes, MethodInvocation invocation) {
+        for (ReadYourWrites write : writes) {
+            Object key = key(write.key(), invocation);
+            if (key == null) {
+                continue;
+            }
+            singleFlight.get().forget(write.value(), key);
+            if (TransactionSynchronizationManager.isSynchronizationActive()) {
+                TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                    @Override
+                    public void afterCommit() {
+                        singleFlight.get().forget(write.value(), key);
+                    }
+                });
+            }
+        }
+    }
+
+    private Object key(String spel, MethodInvocation invocation) {
+        MethodBasedEvaluationContext context = new MethodBasedEvaluationContext(
+                null, invocation.getMethod(), invocation.getArguments(), PARAMETER_NAMES);
+        return expressions.computeIfAbsent(spel, parser::parseExpression).getValue(context);
+    }
+
+    private record Coalescing(CoalescedRead read, Set<ReadYourWrites> writes) {
+        static Coalescing of(Method method) {
+            return new Coalescing(
+                    AnnotatedElementUtils.findMergedAnnotation(method, CoalescedRead.class),
+                    AnnotatedElementUtils.findMergedRepeatableAnnotations(method, ReadYourWrites.class));
+        }
+    }
+
+    private static Object proceed(MethodInvocation invocation) {
+        try {
+            return invocation.proceed();
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable t) {
+            throw new UndeclaredThrowableException(t);
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package com.example.authservice.config.singleflight;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * 같은 (이름, 키) 조회가 동시에 들어오면 먼저 온 요청(leader)만 저장소를 부르고 나머지는 그 결과를 기다린다.
+ * <p>
+ * leader는 자기 스레드에서 조회하고, 끝나면(성공/예외 모두) 기다리던 요청에 같은 결과를 넘긴 뒤 항목을 지운다.
+ * 결과는 캐시하지 않는다 (조회가 끝난 뒤 들어온 요청은 새로 조회).
+ * 기다림이 single-flight.timeouts(이름별)를 넘으면 직접 조회한다.
+ * 같은 키를 쓴 뒤에는 {@link #forget}으로 진행 중인 조회에서 떼어 내서, 쓰기 이후의 요청이 쓰기 전에 시작한 조회 결과를 받지 않게 한다.
+ * singleflight.calls{name, result=leader|coalesced|timeout}
+ */
+@Component
+public class SingleFlight {
+
+    private final SingleFlightProperties properties;
+    private final ConcurrentMap<Flight, CompletableFuture<Object>> inflight = new ConcurrentHashMap<>();
+    private final Meter.MeterProvider<Counter> calls;
+
+    public SingleFlight(SingleFlightProperties properties, MeterRegistry registry) {
+        this.properties = properties;
+        this.calls = Counter.builder("singleflight.calls")
+                .description("조회 합치기 (leader=직접 조회, coalesced=다른 요청 결과 사용, timeout=기다리다 직접 조회)")
+                .withRegistry(registry);
+        Gauge.builder("singleflight.inflight", inflight, ConcurrentMap::size)
+                .description("진행 중인 조회 키 수")
+                .register(registry);
+    }
+
+    // shared: 다른 요청이 조회한 결과를 받았는지 (결과 객체를 그 요청과 같이 씀)
+    public record Result<T>(T value, boolean shared) {
+    }
+
+    private record Flight(String name, Object key) {
+    }
+
+    public <T> T execute(String name, Object key, Supplier<T> loader) {
+        return join(name, key, loader).value();
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T> Result<T> join(String name, Object key, Supplier<T> loader) {
+        if (!properties.isEnabled() || key == null) {
+            return new Result<>(loader.get(), false);
+        }
+        Flight flight = new Flight(name, key);
+        CompletableFuture<Object> future = new CompletableFuture<>();
+        CompletableFuture<Object> existing = inflight.putIfAbsent(flight, future);
+        if (existing == null) {
+            return new Result<>((T) lead(flight, future, loader), false);
+        }
+        try {
+            Object value = existing.get(properties.timeout(name).toNanos(), TimeUnit.NANOSECONDS);
+            calls.withTags(Tags.of("name", name, "result", "coalesced")).increment();
+            return new Result<>((T) value, true);
+        } catch (TimeoutException e) {
+            calls.withTags(Tags.of("name", name, "result", "timeout")).increment();
+            return new Result<>(loader.get(), false);
+        } catch (ExecutionException e) {
+            calls.withTags(Tags.of("name", name, "result", "coalesced")).increment();
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("single-flight 대기 중 인터럽트: " + name, e);
+        }
+    }
+
+    // 쓰기 직후 호출: 이후 요청은 새로 조회 (진행 중인 조회와 이미 기다리던 요청은 그대로 끝남)
+    public void forget(String name, Object key) {
+        if (key != null) {
+            inflight.remove(new Flight(name, key));
+        }
+    }
+
+    private Object lead(Flight flight, CompletableFuture<Object> future, Supplier<?> loader) {
+        calls.withTags(Tags.of("name", flight.name(), "result", "leader")).increment();
+        try {
+            Object value = loader.get();
+            future.complete(value);
+            return value;
+        } catch (RuntimeException | Error e) {
+            future.completeExceptionally(e);
+            throw e;
+        } finally {
+            inflight.remove(flight, future);
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.example.authservice.config.singleflight;
+
+import com.example.authservice.config.datasource.ReadYourWrites;
+import org.springframework.aop.Advisor;
+import org.springframework.aop.support.ComposablePointcut;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.aop.support.annotation.AnnotationMatchingPointcut;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Role;
+import org.springframework.core.Ordered;
+import org.springframework.util.function.SingletonSupplier;
+
+// @CoalescedRead: 캐시(@Cacheable)보다 바깥에서 실행 (CacheConfig)
+// @ReadYourWrites 쓰기도 거쳐서, 쓰기 이후 요청이 쓰기 전에 시작한 조회에 합류하지 않도록 함
+@Configuration(proxyBeanMethods = false)
+public class SingleFlightConfig {
+
+    @Bean
+    @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+    public static Advisor coalescedReadAdvisor(ObjectProvider<SingleFlight> singleFlight) {
+        DefaultPointcutAdvisor advisor = new DefaultPointcutAdvisor(
+                new ComposablePointcut(new AnnotationMatchingPointcut(null, CoalescedRead.class, true))
+                        .union(new AnnotationMatchingPointcut(null, ReadYourWrites.class, true))
+                        .union(new AnnotationMatchingPointcut(null, ReadYourWrites.List.class, true)),
+                new CoalescedReadInterceptor(SingletonSupplier.of(singleFlight::getObject)));
+        advisor.setOrder(Ordered.LOWEST_PRECEDENCE - 3);
+        return advisor;
+    }
+}
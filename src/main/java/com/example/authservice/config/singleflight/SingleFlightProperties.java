@@ -0,0 +1,30 @@
+package com.example.authservice.config.singleflight;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+// 같은 키의 동시 조회 합치기 (SingleFlight)
+@Getter
+@Setter
+@Component
+@ConfigurationProperties("single-flight")
+public class SingleFlightProperties {
+
+    private boolean enabled = true;
+
+    // 먼저 시작한 조회를 기다리는 최대 시간, 넘으면 직접 조회 (멈춘 조회 하나에 모두 묶이지 않도록)
+    private Duration timeout = Duration.ofSeconds(1);
+
+    // 이름별 대기 시간 (CacheNames 이름, access-token 등)
+    private Map<String, Duration> timeouts = new HashMap<>();
+
+    Duration timeout(String name) {
+        return timeouts.getOrDefault(name, timeout);
+    }
+}
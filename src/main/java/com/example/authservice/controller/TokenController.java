@@ -1,14 +1,22 @@
 package com.example.authservice.controller;
 
+import com.example.authservice.config.logging.LogSampling;
 import com.example.authservice.dto.*;
 import com.example.authservice.service.TokenService;
+import com.example.authservice.util.LogMasking;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.time.Duration;
+import java.util.Map;
+
 @Slf4j
 @RestController
 @RequiredArgsConstructor
@@ -18,25 +26,36 @@ public class TokenController {
 
     @PostMapping("/refresh")
     public RefreshTokenResponseDTO refreshToken(@RequestBody RefreshRequestDTO refreshRequestDTO) {
-        log.info("Refresh token request ");
+        log.info(LogSampling.REFRESH, "Refresh token request");
         return tokenService.refreshToken(refreshRequestDTO.getRefreshToken());
     }
 
     @PostMapping("/validToken")
     public ValidTokenResponseDTO validToken(@RequestBody ValidTokenRequestDTO validTokenRequestDTO) {
-        log.info("Validate token request :: {}", validTokenRequestDTO.getToken());
+        log.atInfo()
+                .addMarker(LogSampling.VALID_TOKEN)
+                .addKeyValue("token", LogMasking.token(validTokenRequestDTO.getToken()))
+                .log("Validate token request");
         return tokenService.validateToken(validTokenRequestDTO.getToken());
     }
 
     @PostMapping("/claims")
     public ClaimsResponseDTO claims(@RequestBody ClaimsRequestDTO claimsRequestDTO) {
-        log.info("Claims request ");
+        log.info(LogSampling.CLAIMS, "Claims request");
         return tokenService.getAuthentication(claimsRequestDTO.getToken());
     }
 
+    // 키 교체 시 새 kid는 auth-client가 모르는 kid를 만나면 다시 받아감
+    @GetMapping("/jwks")
+    public ResponseEntity<Map<String, Object>> jwks() {
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.maxAge(Duration.ofMinutes(5)).cachePublic())
+                .body(tokenService.getJwks());
+    }
+
     @PostMapping("/re/tokens")
     public RefreshTokenResponseDTO updateTokens(@RequestBody OAuthUpdateTokensDTO oAuthUpdateTokensDTO){
-        log.info("Update tokens request ");
+        log.info("Update tokens request");
         return tokenService.updateTokens(oAuthUpdateTokensDTO.getAccessToken(), oAuthUpdateTokensDTO.getRefreshToken());
     }
 
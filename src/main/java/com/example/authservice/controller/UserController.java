@@ -1,7 +1,9 @@
 package com.example.authservice.controller;
 
+import com.example.authservice.config.logging.LogSampling;
 import com.example.authservice.dto.*;
 import com.example.authservice.service.UserService;
+import com.example.authservice.util.LogMasking;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -25,27 +27,27 @@ public class UserController {
 
     @PostMapping("/login")
     public UserLoginResponseDTO login(@RequestBody UserLoginRequestDTO userLoginRequestDTO) {
-        log.info("login");
+        log.atInfo().addKeyValue("userId", userLoginRequestDTO.getUserId()).log("login");
         return userService.login(userLoginRequestDTO.getUserId(), userLoginRequestDTO.getPassword());
     }
 
     @GetMapping("/check-id")
     public ResponseEntity<Map<String,Boolean>> checkUserId(@RequestParam String userId) {
         boolean exists = userService.existsByUserId(userId);
-        log.info("check-id: " + userId);
+        log.info("check-id: {}", userId);
         return ResponseEntity.ok(Collections.singletonMap("exists", exists));
     }
     // ROLL이 MANAGER인 유저정보(USER_UID,USER_ID,USER_NAME)가져오기
     @GetMapping("/managers")
     public ResponseEntity<List<ManagerResponseDTO>> getManagers() {
         List<ManagerResponseDTO> managers = userService.getManagers();
-        log.info("managers : " + managers);
+        log.info("managers : {}", managers.size());
         return ResponseEntity.ok(managers);
     }
 
     @PostMapping("/join")
     public ResponseEntity<UserJoinResponseDTO> join(@RequestBody @Valid UserJoinRequestDTO userJoinRequestDTO) {
-        log.info("join :: {} {}", userJoinRequestDTO.getUserName(), userJoinRequestDTO.getEmail());
+        log.info("join :: {} {}", userJoinRequestDTO.getUserId(), LogMasking.email(userJoinRequestDTO.getEmail()));
         // 1.회원 정보/주소 저장 + UID 생성(여기까지가 트랜잭션)
         UserJoinResponseDTO response = userService.join(userJoinRequestDTO);
         // 2.트랜잭션 커밋 후 알러지 정보 전송
@@ -56,28 +58,28 @@ public class UserController {
 
     @PostMapping("/login/oauth")
     public OAuthLoginResponseDTO socialLogin(@RequestBody OAuthLoginRequestDTO oauthLoginRequestDTO) {
-        log.info("oauth login :: {}", oauthLoginRequestDTO.getAccessToken());
+        log.info("oauth login :: {}", LogMasking.token(oauthLoginRequestDTO.getAccessToken()));
         return userService.oauthLogin(oauthLoginRequestDTO);
     }
 
     @PostMapping("/user/info")
     public UserInfoResponseDTO getUserInfo(HttpServletRequest request){
         String token = request.getHeader("Authorization").substring(7);
-        log.info("user info :: {}", token);
+        log.info(LogSampling.USER_INFO, "user info :: {}", LogMasking.token(token));
         return userService.getUserInfo(token);
     }
 
     @PostMapping("/profile")
     public ProfileResponseDTO getUserProfile(HttpServletRequest request){
         String token = request.getHeader("Authorization").substring(7);
-        log.info("user profile :: {}", token);
+        log.info(LogSampling.PROFILE, "user profile :: {}", LogMasking.token(token));
         return userService.getUserProfile(token);
     }
 
     @PutMapping("/profile")
     public boolean updateUserProfile(HttpServletRequest request, @RequestBody UpdateProfileRequestDTO updateProfileRequestDTO){
         String token = request.getHeader("Authorization").substring(7);
-        log.info("user update profile :: {}", token);
+        log.info("user update profile :: {}", LogMasking.token(token));
         boolean result = userService.updateUserProfile(token, updateProfileRequestDTO);
         userService.modifyAllergy(updateProfileRequestDTO, token);
         return result;
@@ -86,14 +88,22 @@ public class UserController {
     @PostMapping("/logout")
     public LogoutResponseDTO logout(HttpServletRequest request){
         String token = request.getHeader("Authorization").substring(7);
-        log.info("logout :: {}",token);
+        log.info("logout :: {}", LogMasking.token(token));
         return userService.logout(token);
     }
 
+    // 모든 기기에서 로그아웃
+    @PostMapping("/logout/all")
+    public LogoutResponseDTO logoutAll(HttpServletRequest request){
+        String token = request.getHeader("Authorization").substring(7);
+        log.info("logout all :: {}", LogMasking.token(token));
+        return userService.logoutAll(token);
+    }
+
     @DeleteMapping("/user")
     public LogoutResponseDTO deleteAccount(HttpServletRequest request){
         String token = request.getHeader("Authorization").substring(7);
-        log.info("delete account :: {}", token);
+        log.info("delete account :: {}", LogMasking.token(token));
         return userService.deleteAccount(token);
     }
 
@@ -0,0 +1,18 @@
+package com.example.authservice.exception;
+
+import com.example.authservice.config.resilience.Backend;
+
+// Redis/MySQL 장애 또는 circuit breaker/bulkhead 거절 (BackendGuard), 503으로 응답
+public class BackendUnavailableException extends RuntimeException {
+
+    private final Backend backend;
+
+    public BackendUnavailableException(Backend backend, String message, Throwable cause) {
+        super(message, cause);
+        this.backend = backend;
+    }
+
+    public Backend getBackend() {
+        return backend;
+    }
+}
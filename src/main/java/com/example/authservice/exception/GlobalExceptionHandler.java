@@ -1,5 +1,6 @@
 package com.example.authservice.exception;
 
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
@@ -43,5 +44,14 @@ public class GlobalExceptionHandler {
                 .body(Collections.singletonMap("message", ex.getMessage()));
     }
 
+    //Redis/MySQL 장애, circuit breaker open시 503처리
+    @ExceptionHandler(BackendUnavailableException.class)
+    public ResponseEntity<Map<String,String>> handleBackendUnavailable(BackendUnavailableException ex) {
+        return ResponseEntity
+                .status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(Collections.singletonMap("message", "일시적으로 처리할 수 없습니다. 잠시 후 다시 시도해 주세요."));
+    }
+
 }
 
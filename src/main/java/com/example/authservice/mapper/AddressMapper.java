@@ -1,12 +1,20 @@
 package com.example.authservice.mapper;
 
+import com.example.authservice.config.datasource.ReadYourWrites;
+import com.example.authservice.config.datasource.ReplicaRead;
+import com.example.authservice.config.redis.CacheNames;
+import com.example.authservice.config.singleflight.CoalescedRead;
 import com.example.authservice.model.Address;
 import org.apache.ibatis.annotations.Mapper;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
 
 @Mapper
 public interface AddressMapper {
 
     // 실제 데이터 삽입을 수행하는 메서드 (반환타입은 void나 int)
+    @ReadYourWrites(value = CacheNames.USER_ADDRESSES, key = "#p0.userUid")
+    @ReadYourWrites(value = CacheNames.SOCIAL_ADDRESSES, key = "#p0.socialUid")
     int insertAddress(Address address);
 
     // 기존의 save 메서드를 default 메서드로 구현하여 파라미터 객체를 반환
@@ -15,10 +23,26 @@ public interface AddressMapper {
         return address;
     }
 
+    // 주소가 없는 회원(null)은 캐시하지 않으므로 insert 시 evict 불필요
+    @Cacheable(cacheNames = CacheNames.USER_ADDRESSES, key = "#p0", unless = "#result == null")
+    @ReplicaRead(value = CacheNames.USER_ADDRESSES, key = "#p0")
+    @CoalescedRead(value = CacheNames.USER_ADDRESSES, key = "#p0")
     Address findByUserUid(Integer userUid);
+
+    @Cacheable(cacheNames = CacheNames.SOCIAL_ADDRESSES, key = "#p0", unless = "#result == null")
+    @ReplicaRead(value = CacheNames.SOCIAL_ADDRESSES, key = "#p0")
+    @CoalescedRead(value = CacheNames.SOCIAL_ADDRESSES, key = "#p0")
     Address findBySocialUid(Integer socialUid);
+
+    @CacheEvict(cacheNames = CacheNames.USER_ADDRESSES, key = "#p0.userUid")
+    @ReadYourWrites(value = CacheNames.USER_ADDRESSES, key = "#p0.userUid")
     int updateAddressByUserUid(Address address);
+
+    @CacheEvict(cacheNames = CacheNames.SOCIAL_ADDRESSES, key = "#p0.socialUid")
+    @ReadYourWrites(value = CacheNames.SOCIAL_ADDRESSES, key = "#p0.socialUid")
     int updateAddressBySocialUid(Address address);
 
+    @CacheEvict(cacheNames = CacheNames.USER_ADDRESSES, key = "#p0")
+    @ReadYourWrites(value = CacheNames.USER_ADDRESSES, key = "#p0")
     void finalDeleteUserAddress(int userId);
 }
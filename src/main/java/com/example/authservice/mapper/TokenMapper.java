@@ -2,15 +2,28 @@ package com.example.authservice.mapper;
 
 import com.example.authservice.model.Token;
 import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
 
 @Mapper
 public interface TokenMapper {
-    int saveUserToken(Token token);
-    int saveSocialToken(Token token);
-    Token findTokenByUserUid(int userUid);
-    Token findTokenBySocialUid(int socialUid);
-    int updateUserToken(Token token);
-    int updateSocialToken(Token token);
+    // 회원당 한 행 (uk_token_user_uid / uk_token_social_uid), 조회 없이 INSERT ... ON DUPLICATE KEY UPDATE 한 번
+    int upsertUserToken(Token token);
+    int upsertSocialToken(Token token);
     int deleteTokenByUserUid(int userUid);
     int deleteTokenBySocialUid(int socialUid);
+
+    // 지문 마이그레이션 (TokenFingerprintMigration): uid 순 keyset 배치
+    List<Token> findRawTokens(@Param("afterUid") int afterUid, @Param("limit") int limit,
+                              @Param("includeFingerprinted") boolean includeFingerprinted);
+    int updateTokenFingerprint(Token token);
+
+    // 정리 대상 (TokenJanitor): uid 순 keyset, 읽기는 락 없이 하고 삭제는 PK 목록 + 같은 조건으로 (그 사이 갱신된 행은 남김)
+    List<Integer> findExpiredTokenUids(@Param("afterUid") int afterUid, @Param("now") LocalDateTime now,
+                                       @Param("limit") int limit);
+    List<Integer> findOrphanedTokenUids(@Param("afterUid") int afterUid, @Param("limit") int limit);
+    int deleteExpiredTokens(@Param("uids") List<Integer> uids, @Param("now") LocalDateTime now);
+    int deleteOrphanedTokens(@Param("uids") List<Integer> uids);
 }
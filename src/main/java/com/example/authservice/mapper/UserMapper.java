@@ -1,10 +1,18 @@
 package com.example.authservice.mapper;
 
+import com.example.authservice.config.datasource.ReadYourWrites;
+import com.example.authservice.config.datasource.ReplicaRead;
+import com.example.authservice.config.redis.CacheNames;
+import com.example.authservice.config.singleflight.CoalescedRead;
 import com.example.authservice.dto.ManagerResponseDTO;
 import com.example.authservice.model.Social;
 import com.example.authservice.model.User;
-import feign.Param;
+import com.example.authservice.type.Type;
 import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.Caching;
 
 import java.util.List;
 
@@ -12,6 +20,8 @@ import java.util.List;
 public interface UserMapper {
 
     // 실제 데이터 삽입을 수행하는 메서드 (반환타입은 void나 int)
+    // 가입 직후 조회가 복제 지연으로 빈 결과를 보지 않도록 primary 고정
+    @ReadYourWrites(value = CacheNames.USERS, key = "#p0.userId")
     int insertUser(User user);
 
     // 기존의 save 메서드를 default 메서드로 구현하여 파라미터 객체를 반환
@@ -21,16 +31,90 @@ public interface UserMapper {
     }
 
     int countByEmail(@Param("email") String email);
+
+    // 캐시 키는 파라미터 이름 대신 #p0 (매퍼 인터페이스는 -parameters 정보에 의존하지 않도록)
+    // 없는 아이디(null)는 캐시하지 않으므로 insert 시 evict 불필요
+    @Cacheable(cacheNames = CacheNames.USERS, key = "#p0", unless = "#result == null")
+    @ReplicaRead(value = CacheNames.USERS, key = "#p0")
+    @CoalescedRead(value = CacheNames.USERS, key = "#p0")
     User findUserByUserId(String userId);
+
+    // 로그인(UserDetailService)용, password 포함이므로 캐시하지 않음 (L2는 다른 서비스도 읽는 Redis)
+    @ReplicaRead(value = CacheNames.USERS, key = "#p0")
+    User findCredentialsByUserId(String userId);
+
     User findUserByUserUid(int uid);
-    Social findSocialByUserName(String userName);
+
+    @Cacheable(cacheNames = CacheNames.SOCIALS, key = "#p0", unless = "#result == null")
+    @ReplicaRead(value = CacheNames.SOCIALS, key = "#p0")
+    @CoalescedRead(value = CacheNames.SOCIALS, key = "#p0")
     Social findSocialByUserId(String userId);
-    int saveSocial(Social social);
+
+    // 소셜 로그인 계정 조회: (제공자, 제공자 회원번호) -> uk_social_user_id_type 단건 조회
+    @Cacheable(cacheNames = CacheNames.SOCIAL_IDENTITIES, key = "#p0.name() + ':' + #p1", unless = "#result == null")
+    @ReplicaRead(value = CacheNames.SOCIAL_IDENTITIES, key = "#p0.name() + ':' + #p1")
+    Social findSocialByTypeAndUserId(@Param("type") Type type, @Param("userId") String userId);
+
+    // 첫 소셜 로그인: 없으면 insert, 같은 식별자가 있으면(동시 요청, 탈퇴 후 재가입) active로 되돌림
+    // 어느 쪽이든 uid는 생성 키로 채워짐 (LAST_INSERT_ID(uid)), 다시 조회하지 않음
+    // 가입 직후 재로그인이 복제본에서 빈 결과를 보지 않도록 primary 고정
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheNames.SOCIALS, key = "#p0.userId"),
+            @CacheEvict(cacheNames = CacheNames.SOCIAL_IDENTITIES, key = "#p0.type.name() + ':' + #p0.userId")
+    })
+    @ReadYourWrites(value = CacheNames.SOCIALS, key = "#p0.userId")
+    @ReadYourWrites(value = CacheNames.SOCIAL_IDENTITIES, key = "#p0.type.name() + ':' + #p0.userId")
+    int upsertSocial(Social social);
+
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheNames.USERS, key = "#p0"),
+            @CacheEvict(cacheNames = CacheNames.MANAGERS, allEntries = true)
+    })
+    @ReadYourWrites(value = CacheNames.USERS, key = "#p0")
+    @ReadYourWrites(value = CacheNames.MANAGERS, key = "'all'")
     int deleteUser(String userId);
-    int deleteSocial(String userId);
-    int activeSocial(String userId);
+
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheNames.SOCIALS, key = "#p1"),
+            @CacheEvict(cacheNames = CacheNames.SOCIAL_IDENTITIES, key = "#p0.name() + ':' + #p1")
+    })
+    @ReadYourWrites(value = CacheNames.SOCIALS, key = "#p1")
+    @ReadYourWrites(value = CacheNames.SOCIAL_IDENTITIES, key = "#p0.name() + ':' + #p1")
+    int deleteSocial(@Param("type") Type type, @Param("userId") String userId);
+
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheNames.SOCIALS, key = "#p1"),
+            @CacheEvict(cacheNames = CacheNames.SOCIAL_IDENTITIES, key = "#p0.name() + ':' + #p1")
+    })
+    @ReadYourWrites(value = CacheNames.SOCIALS, key = "#p1")
+    @ReadYourWrites(value = CacheNames.SOCIAL_IDENTITIES, key = "#p0.name() + ':' + #p1")
+    int activeSocial(@Param("type") Type type, @Param("userId") String userId);
+
+    // type이 있어야 식별자 캐시를 지울 수 있음
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheNames.SOCIALS, key = "#p0.userId"),
+            @CacheEvict(cacheNames = CacheNames.SOCIAL_IDENTITIES, key = "#p0.type.name() + ':' + #p0.userId")
+    })
+    @ReadYourWrites(value = CacheNames.SOCIALS, key = "#p0.userId")
+    @ReadYourWrites(value = CacheNames.SOCIAL_IDENTITIES, key = "#p0.type.name() + ':' + #p0.userId")
     int updateSocial(Social social);
+
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheNames.USERS, key = "#p0.userId"),
+            @CacheEvict(cacheNames = CacheNames.MANAGERS, allEntries = true)
+    })
+    @ReadYourWrites(value = CacheNames.USERS, key = "#p0.userId")
+    @ReadYourWrites(value = CacheNames.MANAGERS, key = "'all'")
     int updateUser(User user);
+
+    @Cacheable(cacheNames = CacheNames.MANAGERS, key = "'all'")
+    @ReplicaRead(value = CacheNames.MANAGERS, key = "'all'")
     List<ManagerResponseDTO> findManagers();
+
+    // uid로만 삭제하므로 userId 키를 알 수 없음 (가입 직후 AI 전송 실패 시에만 호출)
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheNames.USERS, allEntries = true),
+            @CacheEvict(cacheNames = CacheNames.MANAGERS, allEntries = true)
+    })
     void finalDeleteUser(int userId);
 }
@@ -4,11 +4,13 @@ import com.example.authservice.type.Role;
 import com.example.authservice.type.Type;
 import lombok.Builder;
 import lombok.Getter;
+import lombok.extern.jackson.Jacksonized;
 
 import java.time.LocalDateTime;
 
 @Getter
 @Builder
+@Jacksonized // Redis에 JSON으로 캐시된 값을 타입으로 변환할 때 빌더 사용
 public class Social {
     private int uid;
     private String userId;
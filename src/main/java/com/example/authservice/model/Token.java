@@ -1,14 +1,24 @@
 package com.example.authservice.model;
 
-import lombok.Builder;
-import lombok.Getter;
+import lombok.*;
+
+import java.time.LocalDateTime;
 
 @Getter
+@Setter
 @Builder
+@NoArgsConstructor
+@AllArgsConstructor
 public class Token {
     private int uid;
     private Integer userUid;
     private Integer socialUid;
+    // token.storage=fingerprint면 NULL
     private String accessToken;
     private String refreshToken;
+    // SHA-256 (TokenFingerprint), BINARY(32)
+    private byte[] accessTokenHash;
+    private byte[] refreshTokenHash;
+    private LocalDateTime accessExpiresAt;
+    private LocalDateTime refreshExpiresAt;
 }
@@ -3,11 +3,13 @@ package com.example.authservice.model;
 import com.example.authservice.type.Role;
 import lombok.Builder;
 import lombok.Getter;
+import lombok.extern.jackson.Jacksonized;
 
 import java.time.LocalDateTime;
 
 @Getter
 @Builder
+@Jacksonized // Redis에 JSON으로 캐시된 값을 타입으로 변환할 때 빌더 사용
 public class User {
     private int uid;
     private String userId;
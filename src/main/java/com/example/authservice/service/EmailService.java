@@ -1,13 +1,16 @@
 package com.example.authservice.service;
 
 import com.example.authservice.config.redis.RedisUtil;
+import com.example.authservice.util.LogMasking;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
 import java.time.LocalDateTime;
 
+@Slf4j
 @RequiredArgsConstructor
 @Service
 public class EmailService {
@@ -15,13 +18,13 @@ public class EmailService {
 
     // 1) Front에서 받은 코드를 저장
     public void storeCode(String email, String code) {
-        System.out.println("✅ storeCode() 호출됨 - email: " + email + ", code: " + code);
+        log.debug("storeCode - email: {}", LogMasking.email(email));
         redisUtil.setDataExpire(email, code, 60 * 30L);
     }
 
     // 2) 검증 로직만 남김
     public boolean verifyEmailCode(String email, String code) {
-        String stored = redisUtil.getData(email);
+        String stored = redisUtil.getDataFromReplica(email);
         if (stored == null || !stored.equals(code)) return false;
         redisUtil.setDataExpire(email + ":verified", "true", 600L);
         redisUtil.deleteData(email);
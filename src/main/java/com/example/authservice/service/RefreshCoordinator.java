@@ -0,0 +1,138 @@
+package com.example.authservice.service;
+
+import com.example.authservice.config.jwt.SessionProperties;
+import com.example.authservice.config.metrics.AuthMetrics;
+import com.example.authservice.config.redis.RefreshRotation;
+import com.example.authservice.config.resilience.Backend;
+import com.example.authservice.config.resilience.BackendGuard;
+import com.example.authservice.exception.BackendUnavailableException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * 자체 발급 refreshToken 교환을 노드 간에 한 번으로 맞춘다 (키/스크립트는 {@link RefreshRotation}).
+ * <ul>
+ *     <li>같은 refreshToken의 첫 요청만 발급(서명, 세션 연장, Redis 저장)하고, 발급 중인 동안 온 요청은 결과를 기다림</li>
+ *     <li>session.refresh-grace 안에 같은 refreshToken이 다시 오면 이미 발급한 쌍을 그대로 돌려줌 (그 사이 로그아웃/모든 기기 로그아웃이면 만료(2))</li>
+ *     <li>그 뒤에 세션의 현재 refreshToken이 아닌 토큰이 오면 재사용으로 보고 세션을 닫음 (그 세션의 refreshToken은 모두 만료(2))</li>
+ * </ul>
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RefreshCoordinator {
+
+    private static final Duration POLL_INTERVAL = Duration.ofMillis(20);
+
+    private final StringRedisTemplate redisTemplate;
+    private final SessionRegistry sessionRegistry;
+    private final SessionProperties properties;
+    private final BackendGuard backendGuard;
+    private final AuthMetrics authMetrics;
+
+    // 발급 경로 Redis 호출의 응답 대기 상한 (RedisConfig와 같은 값), 락 ttl의 기준
+    @Value("${spring.data.redis.timeout:2s}")
+    private Duration commandTimeout;
+
+    // 발급 결과: 토큰 쌍과 그 쌍이 속한 세션(sid 없는 기존 토큰이면 새로 연 세션), refreshToken 만료 시각
+    public record Issued(SessionRegistry.Session session, RefreshRotation.Pair pair, Instant expiresAt) {
+    }
+
+    // null이면 만료(2): 재사용 감지로 세션을 닫았거나, grace 쌍을 돌려주기 전에 세션/세대가 끝남
+    // generation은 교환할 refreshToken의 세대 (gen 클레임 없는 기존 토큰은 0)
+    public RefreshRotation.Pair exchange(String owner, String sessionId, long generation, String refreshToken,
+                                         Supplier<Issued> issue) {
+        List<String> keys = RefreshRotation.claimKeys(owner, sessionId, refreshToken);
+        String fingerprint = RefreshRotation.fingerprint(refreshToken);
+        String lockMillis = String.valueOf(
+                RefreshRotation.lockTtl(commandTimeout, properties.getRefreshLockMargin()).toMillis());
+        String reuseDetection = properties.isRefreshReuseDetection() ? "1" : "0";
+        long deadline = System.nanoTime() + properties.getRefreshLockWait().toNanos();
+        while (true) {
+            String claim = backendGuard.call(Backend.REDIS, () -> redisTemplate.execute(
+                    RefreshRotation.CLAIM, keys, fingerprint, lockMillis, reuseDetection));
+            if (RefreshRotation.CLAIMED.equals(claim)) {
+                return issue(owner, refreshToken, keys.get(1), issue);
+            }
+            if (RefreshRotation.REUSED.equals(claim)) {
+                revoke(owner, sessionId);
+                return null;
+            }
+            if (!RefreshRotation.PENDING.equals(claim)) {
+                if (!stillValid(owner, sessionId, generation)) {
+                    authMetrics.recordRefresh("revoked");
+                    return null;
+                }
+                authMetrics.recordRefresh("grace");
+                return RefreshRotation.decode(claim);
+            }
+            if (System.nanoTime() > deadline) {
+                authMetrics.recordRefresh("contended");
+                throw new BackendUnavailableException(Backend.REDIS, "refreshToken 발급 대기 시간 초과", null);
+            }
+            sleep();
+        }
+    }
+
+    private RefreshRotation.Pair issue(String owner, String refreshToken, String graceKey, Supplier<Issued> issue) {
+        Issued issued;
+        try {
+            issued = issue.get();
+        } catch (RuntimeException e) {
+            release(graceKey);
+            throw e;
+        }
+        RefreshRotation.Pair pair = issued.pair();
+        long ttlMillis = Math.max(1, Duration.between(Instant.now(), issued.expiresAt()).toMillis());
+        backendGuard.call(Backend.REDIS, () -> redisTemplate.execute(RefreshRotation.COMMIT,
+                RefreshRotation.commitKeys(owner, issued.session().id(), refreshToken),
+                RefreshRotation.fingerprint(pair.refreshToken()),
+                RefreshRotation.encode(pair),
+                String.valueOf(properties.getRefreshGrace().toMillis()),
+                String.valueOf(ttlMillis)));
+        authMetrics.recordRefresh("rotated");
+        return pair;
+    }
+
+    // grace 쌍은 앞선 검증 뒤에 로그아웃돼도 남아 있으므로 돌려주기 전에 다시 확인
+    // 모든 기기 로그아웃은 세대를 올리고 세션 목록도 지움
+    private boolean stillValid(String owner, String sessionId, long generation) {
+        if (generation < sessionRegistry.generation(owner)) {
+            return false;
+        }
+        return sessionId == null || sessionRegistry.isActive(owner, sessionId);
+    }
+
+    private void revoke(String owner, String sessionId) {
+        log.warn("refreshToken 재사용 감지, 세션 종료 : {} / {}", owner, sessionId);
+        authMetrics.recordRefresh("reused");
+        sessionRegistry.close(owner, sessionId);
+        backendGuard.call(Backend.REDIS, () -> redisTemplate.delete(RefreshRotation.currentKey(owner, sessionId)));
+    }
+
+    // 락이 ttl로 풀릴 때까지 다른 요청이 기다리지 않도록
+    private void release(String graceKey) {
+        try {
+            redisTemplate.execute(RefreshRotation.RELEASE, List.of(graceKey));
+        } catch (RuntimeException e) {
+            log.warn("refreshToken 락 해제 실패 : {}", e.getMessage());
+        }
+    }
+
+    private static void sleep() {
+        try {
+            Thread.sleep(POLL_INTERVAL);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("refreshToken 발급 대기 중 인터럽트", e);
+        }
+    }
+}
@@ -0,0 +1,139 @@
+package com.example.authservice.service;
+
+import com.example.authservice.config.jwt.SessionProperties;
+import com.example.authservice.config.redis.UserEvent;
+import com.example.authservice.config.redis.UserEventPublisher;
+import com.example.authservice.config.resilience.Backend;
+import com.example.authservice.config.resilience.BackendGuard;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.SecureRandom;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.List;
+
+/**
+ * 사용자(USER:아이디)별 로그인 세션 목록과 세션 세대.
+ * <ul>
+ *     <li>{owner}:sessions - sorted set, 멤버는 세션 id(JWT sid), 점수는 refreshToken 만료 시각(epoch 초)</li>
+ *     <li>{owner}:gen - 세대 카운터, 발급하는 JWT의 gen 클레임에 넣음</li>
+ * </ul>
+ * 모든 기기 로그아웃은 세대를 1 올리는 것으로 끝나고(스캔 없음), 이전 세대로 발급된 토큰은 검증에서 만료로 처리된다.
+ * 세대는 매 검증마다 읽으므로 로컬 캐시(session.generation-cache-ttl)를 거친다.
+ * 세대를 올리면 {@link UserEvent.Type#LOGOUT_ALL} 이벤트로 다른 노드의 세대 캐시를 바로 올린다.
+ * Redis 호출은 BackendGuard를 거친다 (장애 시 BackendUnavailableException).
+ */
+@Service
+public class SessionRegistry {
+
+    private static final SecureRandom RANDOM = new SecureRandom();
+
+    private final StringRedisTemplate redisTemplate;
+    private final SessionProperties properties;
+    private final BackendGuard backendGuard;
+    private final UserEventPublisher userEventPublisher;
+    private final LoadingCache<String, Long> generations;
+
+    public SessionRegistry(StringRedisTemplate redisTemplate, SessionProperties properties, BackendGuard backendGuard,
+                           UserEventPublisher userEventPublisher) {
+        this.redisTemplate = redisTemplate;
+        this.properties = properties;
+        this.backendGuard = backendGuard;
+        this.userEventPublisher = userEventPublisher;
+        this.generations = Caffeine.newBuilder()
+                .expireAfterWrite(properties.getGenerationCacheTtl())
+                .maximumSize(properties.getGenerationCacheMaxSize())
+                .build(this::loadGeneration);
+    }
+
+    public record Session(String id, long generation) {
+    }
+
+    // 새 기기 로그인
+    public Session open(String owner, Instant expiresAt) {
+        byte[] id = new byte[12];
+        RANDOM.nextBytes(id);
+        return touch(owner, Base64.getUrlEncoder().withoutPadding().encodeToString(id), expiresAt);
+    }
+
+    // 세션 등록/연장 (재발급 시 같은 id로 만료만 갱신), 만료된 세션과 max-per-user 초과분 정리
+    public Session touch(String owner, String sessionId, Instant expiresAt) {
+        byte[] key = bytes(sessionsKey(owner));
+        long now = Instant.now().getEpochSecond();
+        int max = properties.getMaxPerUser();
+        List<Object> results = backendGuard.call(Backend.REDIS, () -> redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            connection.zSetCommands().zAdd(key, expiresAt.getEpochSecond(), bytes(sessionId));
+            connection.zSetCommands().zRemRangeByScore(key, Double.NEGATIVE_INFINITY, now);
+            connection.zSetCommands().zRemRange(key, 0, -(max + 1));
+            connection.keyCommands().expireAt(key, expiresAt.getEpochSecond());
+            connection.stringCommands().get(bytes(generationKey(owner)));
+            return null;
+        }));
+        long generation = parse((String) results.get(results.size() - 1));
+        generations.put(owner, generation);
+        return new Session(sessionId, generation);
+    }
+
+    // refreshToken 검증용 (accessToken 검증에는 쓰지 않음)
+    public boolean isActive(String owner, String sessionId) {
+        Double expiresAt = backendGuard.call(Backend.REDIS, () -> redisTemplate.opsForZSet().score(sessionsKey(owner), sessionId));
+        return expiresAt != null && expiresAt > Instant.now().getEpochSecond();
+    }
+
+    public void close(String owner, String sessionId) {
+        backendGuard.call(Backend.REDIS, () -> redisTemplate.opsForZSet().remove(sessionsKey(owner), sessionId));
+    }
+
+    // 모든 기기 로그아웃: 세대 +1, 세션 목록 삭제
+    public long closeAll(String owner) {
+        Long generation = backendGuard.call(Backend.REDIS, () -> {
+            Long next = redisTemplate.opsForValue().increment(generationKey(owner));
+            redisTemplate.delete(sessionsKey(owner));
+            return next;
+        });
+        long current = generation != null ? generation : 0;
+        generations.put(owner, current);
+        userEventPublisher.publish(UserEvent.logoutAll(owner, current));
+        return current;
+    }
+
+    // 다른 노드의 모든 기기 로그아웃 (UserEventListener), 세대는 올라가기만 하므로 큰 값으로 합침
+    public void advance(String owner, long generation) {
+        generations.asMap().merge(owner, generation, Math::max);
+    }
+
+    // 탈퇴 등으로 세대를 다시 읽어야 할 때
+    public void evict(String owner) {
+        generations.invalidate(owner);
+    }
+
+    public long generation(String owner) {
+        return generations.get(owner);
+    }
+
+    private Long loadGeneration(String owner) {
+        return parse(backendGuard.call(Backend.REDIS, () -> redisTemplate.opsForValue().get(generationKey(owner))));
+    }
+
+    private static long parse(String generation) {
+        return generation != null ? Long.parseLong(generation) : 0;
+    }
+
+    // 다른 토큰 키와 같은 해시 태그 (redis.mode=cluster에서 한 슬롯)
+    private static String sessionsKey(String owner) {
+        return "{" + owner + "}:sessions";
+    }
+
+    private static String generationKey(String owner) {
+        return "{" + owner + "}:gen";
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+}
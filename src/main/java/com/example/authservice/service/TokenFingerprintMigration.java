@@ -0,0 +1,178 @@
+package com.example.authservice.service;
+
+import com.example.authservice.config.jwt.TokenStorage;
+import com.example.authservice.config.jwt.TokenStorageProperties;
+import com.example.authservice.config.redis.RedisLock;
+import com.example.authservice.mapper.TokenMapper;
+import com.example.authservice.model.Token;
+import com.example.authservice.util.TokenFingerprint;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.ibatis.session.ExecutorType;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.mybatis.spring.SqlSessionTemplate;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 기존 token 행에 지문/만료 시각을 채운다 (token.migration.enabled=true일 때 기동 후 1회).
+ * <p>
+ * ApplicationReadyEvent 뒤 백그라운드 스레드에서 돌아 기동/readiness를 막지 않고, 종료 시 진행 중인 배치까지만 하고 멈춘다.
+ * uid 순으로 batch-size만큼 읽고 같은 트랜잭션에서 JDBC 배치로 갱신하므로
+ * 전체를 메모리에 올리거나 긴 트랜잭션/락을 잡지 않는다. 중간에 멈춰도 다시 실행하면 이어서 변환된다.
+ * token.storage=fingerprint면 원문 컬럼도 NULL로 비운다.
+ * 여러 파드에서 켜져 있어도 Redis 락(lock:token-fingerprint-migration)을 잡은 한 곳만 실행하고, 나머지는 기다리지 않고 건너뛴다.
+ * 메트릭: token.migration.rows, token.migration.running, token.migration.runs{outcome}
+ */
+@Slf4j
+@Service
+public class TokenFingerprintMigration {
+
+    private static final String LOCK = "token-fingerprint-migration";
+    // 배치마다 연장하므로 배치 하나가 이 안에 끝나면 됨
+    private static final Duration LOCK_TTL = Duration.ofMinutes(5);
+    private static final Duration SHUTDOWN_TIMEOUT = Duration.ofSeconds(10);
+
+    // 같은 트랜잭션 안에서는 ExecutorType을 섞을 수 없으므로 조회도 배치 세션으로
+    private final TokenMapper batchTokenMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final TokenStorageProperties properties;
+    private final RedisLock redisLock;
+    private final MeterRegistry meterRegistry;
+    private final Counter rows;
+    private final AtomicInteger running = new AtomicInteger();
+    private volatile boolean stopping;
+    private ExecutorService executor;
+
+    public TokenFingerprintMigration(SqlSessionFactory sqlSessionFactory, PlatformTransactionManager transactionManager,
+                                     TokenStorageProperties properties, RedisLock redisLock, MeterRegistry meterRegistry) {
+        this.batchTokenMapper = new SqlSessionTemplate(sqlSessionFactory, ExecutorType.BATCH).getMapper(TokenMapper.class);
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.properties = properties;
+        this.redisLock = redisLock;
+        this.meterRegistry = meterRegistry;
+        this.rows = Counter.builder("token.migration.rows")
+                .description("지문으로 변환한 token 행 수")
+                .register(meterRegistry);
+        Gauge.builder("token.migration.running", running, AtomicInteger::get)
+                .description("이 노드에서 지문 변환 실행 중이면 1")
+                .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void start() {
+        if (!properties.getMigration().isEnabled() || executor != null) {
+            return;
+        }
+        executor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "token-fingerprint-migration");
+            thread.setDaemon(true);
+            return thread;
+        });
+        executor.execute(this::run);
+    }
+
+    @PreDestroy
+    public synchronized void stop() throws InterruptedException {
+        stopping = true;
+        if (executor == null) {
+            return;
+        }
+        executor.shutdown();
+        if (!executor.awaitTermination(SHUTDOWN_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS)) {
+            log.warn("token 지문 변환: 종료 대기 시간 초과");
+        }
+    }
+
+    private void run() {
+        Optional<RedisLock.Lease> lease;
+        try {
+            lease = redisLock.tryAcquire(LOCK, LOCK_TTL);
+        } catch (RuntimeException e) {
+            outcome("failed");
+            log.warn("token 지문 변환: 락 획득 실패", e);
+            return;
+        }
+        if (lease.isEmpty()) {
+            outcome("skipped");
+            log.info("token 지문 변환: 다른 노드에서 실행 중, 건너뜀");
+            return;
+        }
+        running.set(1);
+        try (RedisLock.Lease held = lease.get()) {
+            outcome(migrate(held));
+        } catch (RuntimeException e) {
+            outcome("failed");
+            log.warn("token 지문 변환 실패, 다음 기동에서 이어서 변환", e);
+        } finally {
+            running.set(0);
+        }
+    }
+
+    private String migrate(RedisLock.Lease lease) {
+        boolean clearRaw = properties.getStorage() == TokenStorage.FINGERPRINT;
+        int batchSize = properties.getMigration().getBatchSize();
+        long migrated = 0;
+        int afterUid = 0;
+        while (!stopping) {
+            int from = afterUid;
+            List<Token> batch = transactionTemplate.execute(status -> migrateBatch(from, batchSize, clearRaw));
+            if (batch == null || batch.isEmpty()) {
+                log.info("token 지문 변환 완료: {}행, 원문 삭제={}", migrated, clearRaw);
+                return "completed";
+            }
+            migrated += batch.size();
+            rows.increment(batch.size());
+            afterUid = batch.get(batch.size() - 1).getUid();
+            log.info("token 지문 변환: {}행 (uid <= {})", migrated, afterUid);
+            if (!lease.extend(LOCK_TTL)) {
+                // 락이 만료되어 다른 노드가 이어받았을 수 있음, 남은 행은 그쪽이나 다음 실행에서 변환
+                log.warn("token 지문 변환 중단: 락 유실 (uid <= {})", afterUid);
+                return "lock_lost";
+            }
+        }
+        log.info("token 지문 변환 중단: 종료 중 (uid <= {}), 다음 기동에서 이어서 변환", afterUid);
+        return "stopped";
+    }
+
+    private void outcome(String outcome) {
+        meterRegistry.counter("token.migration.runs", "outcome", outcome).increment();
+    }
+
+    private List<Token> migrateBatch(int afterUid, int batchSize, boolean clearRaw) {
+        List<Token> batch = batchTokenMapper.findRawTokens(afterUid, batchSize, clearRaw);
+        for (Token token : batch) {
+            batchTokenMapper.updateTokenFingerprint(Token.builder()
+                    .uid(token.getUid())
+                    .accessToken(clearRaw ? null : token.getAccessToken())
+                    .refreshToken(clearRaw ? null : token.getRefreshToken())
+                    .accessTokenHash(fingerprint(token.getAccessTokenHash(), token.getAccessToken()))
+                    .refreshTokenHash(fingerprint(token.getRefreshTokenHash(), token.getRefreshToken()))
+                    .accessExpiresAt(token.getAccessExpiresAt() != null
+                            ? token.getAccessExpiresAt() : TokenFingerprint.expiry(token.getAccessToken()))
+                    .refreshExpiresAt(token.getRefreshExpiresAt() != null
+                            ? token.getRefreshExpiresAt() : TokenFingerprint.expiry(token.getRefreshToken()))
+                    .build());
+        }
+        // 배치는 트랜잭션 커밋 시 한 번에 실행됨
+        return batch;
+    }
+
+    private static byte[] fingerprint(byte[] existing, String raw) {
+        return existing != null ? existing : TokenFingerprint.of(raw);
+    }
+}
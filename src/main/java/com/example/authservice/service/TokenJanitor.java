@@ -0,0 +1,124 @@
+package com.example.authservice.service;
+
+import com.example.authservice.config.jwt.TokenStorageProperties;
+import com.example.authservice.config.redis.RedisLock;
+import com.example.authservice.mapper.TokenMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.IntFunction;
+import java.util.function.ToIntFunction;
+
+/**
+ * 로그아웃 없이 버려진 token 행 정리 (token.janitor.*).
+ * <ul>
+ *     <li>expired: refreshToken 만료 시각이 지난 행</li>
+ *     <li>orphaned: 회원 행이 없거나 탈퇴한 회원의 행</li>
+ * </ul>
+ * uid 순으로 batch-size개씩 찾아 PK와 같은 조건으로 지우고(그 사이 로그인으로 갱신된 행은 남김) 배치 사이에 pause만큼 쉰다 (자동 커밋, 배치당 짧은 행 락).
+ * 여러 파드 중 Redis 락(lock:token-janitor)을 잡은 한 곳만 실행하고, 한 번에 max-duration까지만 돈다.
+ * 메트릭: token.janitor.purged{reason}, token.janitor.batch{reason}, token.janitor.runs{outcome}
+ */
+@Slf4j
+@Service
+public class TokenJanitor {
+
+    private static final String LOCK = "token-janitor";
+
+    private final TokenMapper tokenMapper;
+    private final RedisLock redisLock;
+    private final TokenStorageProperties properties;
+    private final MeterRegistry meterRegistry;
+
+    public TokenJanitor(TokenMapper tokenMapper, RedisLock redisLock, TokenStorageProperties properties,
+                        MeterRegistry meterRegistry) {
+        this.tokenMapper = tokenMapper;
+        this.redisLock = redisLock;
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Scheduled(initialDelayString = "${token.janitor.interval:10m}", fixedDelayString = "${token.janitor.interval:10m}")
+    public void purge() {
+        TokenStorageProperties.Janitor janitor = properties.getJanitor();
+        if (!janitor.isEnabled()) {
+            return;
+        }
+        // 실행 시간 제한보다 길게 잡아 실행 중에 락이 풀리지 않도록
+        Optional<RedisLock.Lease> lease = redisLock.tryAcquire(LOCK, janitor.getMaxDuration().multipliedBy(2));
+        if (lease.isEmpty()) {
+            run("skipped");
+            return;
+        }
+        try (RedisLock.Lease ignored = lease.get()) {
+            long deadline = System.nanoTime() + janitor.getMaxDuration().toNanos();
+            LocalDateTime now = LocalDateTime.now();
+            long expired = purge("expired", deadline, janitor,
+                    afterUid -> tokenMapper.findExpiredTokenUids(afterUid, now, janitor.getBatchSize()),
+                    uids -> tokenMapper.deleteExpiredTokens(uids, now));
+            long orphaned = purge("orphaned", deadline, janitor,
+                    afterUid -> tokenMapper.findOrphanedTokenUids(afterUid, janitor.getBatchSize()),
+                    tokenMapper::deleteOrphanedTokens);
+            run(System.nanoTime() < deadline ? "completed" : "timed_out");
+            if (expired + orphaned > 0) {
+                log.info("token 정리: expired={}, orphaned={}", expired, orphaned);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (RuntimeException e) {
+            run("failed");
+            log.warn("token 정리 실패", e);
+        }
+    }
+
+    private long purge(String reason, long deadline, TokenStorageProperties.Janitor janitor,
+                       IntFunction<List<Integer>> findAfter,
+                       ToIntFunction<List<Integer>> delete) throws InterruptedException {
+        Counter purged = Counter.builder("token.janitor.purged")
+                .description("정리된 token 행 수")
+                .tag("reason", reason)
+                .register(meterRegistry);
+        Timer batchTimer = Timer.builder("token.janitor.batch")
+                .description("정리 배치(조회 + 삭제) 시간")
+                .tag("reason", reason)
+                .register(meterRegistry);
+        long total = 0;
+        int afterUid = 0;
+        while (System.nanoTime() < deadline) {
+            int from = afterUid;
+            Timer.Sample sample = Timer.start(meterRegistry);
+            List<Integer> uids = findAfter.apply(from);
+            int deleted = uids.isEmpty() ? 0 : delete.applyAsInt(uids);
+            sample.stop(batchTimer);
+            if (uids.isEmpty()) {
+                break;
+            }
+            purged.increment(deleted);
+            total += deleted;
+            afterUid = uids.get(uids.size() - 1);
+            if (uids.size() < janitor.getBatchSize()) {
+                break;
+            }
+            sleep(janitor.getPause());
+        }
+        return total;
+    }
+
+    private void run(String outcome) {
+        meterRegistry.counter("token.janitor.runs", "outcome", outcome).increment();
+    }
+
+    private static void sleep(Duration pause) throws InterruptedException {
+        if (!pause.isZero()) {
+            Thread.sleep(pause.toMillis());
+        }
+    }
+}
@@ -1,50 +1,94 @@
 package com.example.authservice.service;
 
+import com.example.authservice.config.jwt.JwtCodec;
 import com.example.authservice.config.jwt.JwtProperties;
+import com.example.authservice.config.jwt.RedisSessionEncoding;
+import com.example.authservice.config.jwt.TokenStorage;
+import com.example.authservice.config.jwt.TokenClaims;
+import com.example.authservice.config.jwt.TokenStorageProperties;
+import com.example.authservice.config.logging.LogSampling;
+import com.example.authservice.config.metrics.AuthMetrics;
+import com.example.authservice.config.redis.RedisUtil;
+import com.example.authservice.config.redis.TokenSession;
+import com.example.authservice.config.resilience.Backend;
+import com.example.authservice.config.resilience.BackendGuard;
+import com.example.authservice.config.resilience.ResilienceProperties;
+import com.example.authservice.config.singleflight.SingleFlight;
 import com.example.authservice.dto.ClaimsResponseDTO;
+import com.example.authservice.exception.BackendUnavailableException;
 import com.example.authservice.mapper.TokenMapper;
 import com.example.authservice.model.Token;
 import com.example.authservice.model.User;
 import com.example.authservice.type.Role;
-import io.jsonwebtoken.Claims;
+import com.example.authservice.util.TokenFingerprint;
 import io.jsonwebtoken.ExpiredJwtException;
-import io.jsonwebtoken.Jwts;
-import io.jsonwebtoken.security.Keys;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import javax.crypto.SecretKey;
+import java.security.SecureRandom;
 import java.time.Duration;
+import java.time.Instant;
 import java.util.Base64;
 import java.util.Date;
 import java.util.List;
-
-import static io.jsonwebtoken.Header.JWT_TYPE;
-import static io.jsonwebtoken.Header.TYPE;
-import static io.jsonwebtoken.SignatureAlgorithm.HS512;
+import java.util.Map;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class TokenProviderService {
 
+    private static final String ACCESS_TOKEN = "accessToken";
+    private static final String REFRESH_TOKEN = "refreshToken";
+    // SingleFlight 이름 (single-flight.timeouts 키)
+    private static final String ACCESS_TOKEN_FLIGHT = "access-token";
+    private static final String ACCESS_TOKEN_SESSION_FLIGHT = "access-token-session";
+    private static final Duration ACCESS_TOKEN_TTL = Duration.ofHours(2);
+    private static final Duration REFRESH_TOKEN_TTL = Duration.ofDays(7);
+    private static final SecureRandom RANDOM = new SecureRandom();
+
     private final JwtProperties jwtProperties;
+    private final TokenStorageProperties tokenStorageProperties;
     private final TokenMapper tokenMapper;
     private final StringRedisTemplate redisTemplate;
+    private final RedisUtil redisUtil;
+    private final AuthMetrics authMetrics;
+    private final SessionRegistry sessionRegistry;
+    private final BackendGuard backendGuard;
+    private final ResilienceProperties resilienceProperties;
+    private final SingleFlight singleFlight;
+    private final JwtCodec jwtCodec;
 
     public String generateToken(User user, Duration expiration) {
+        return generateToken(user, expiration, null);
+    }
+
+    // session이 있으면 sid/gen 클레임 포함 (SessionRegistry)
+    public String generateToken(User user, Duration expiration, SessionRegistry.Session session) {
         Date now = new Date();
 
         return makeToken(
                 new Date(now.getTime() + expiration.toMillis()),
-                user
+                user,
+                session
         );
     }
 
     public int validToken(String tokenType, String token) {
+        long start = System.nanoTime();
+        int status = checkToken(tokenType, token);
+        authMetrics.recordValidation(tokenType, isSocialToken(token), status, System.nanoTime() - start);
+        return status;
+    }
+
+    private boolean isSocialToken(String token) {
+        return token.startsWith("naver:") || token.startsWith("kakao:") || token.startsWith("google:");
+    }
+
+    private int checkToken(String tokenType, String token) {
         // 소셜로그인 토큰인지 사이트 자체 토큰인지 구분하는 코드가 필요함
         // 소셜로그인 토큰이라면 redis에 해당 토큰있는지 찾아보고 있다면 DB에서 이름으로 사용자 찾아야함
         // 토큰만받는다면 결국에 그 토큰이 누구껀지 모름
@@ -63,137 +107,199 @@ public class TokenProviderService {
                             splitTokenArr[0].equals("kakao") ||
                             splitTokenArr[0].equals("google")
             ){
-                String findTokenFromRedis;
-
-                if(tokenType.equals("accessToken")){
-                    findTokenFromRedis = getAccessTokenFromRedis(splitTokenArr[0].toUpperCase() + ":" + splitTokenArr[1]);
-                }else if(tokenType.equals("refreshToken")){
-                    findTokenFromRedis = getRefreshTokenFromRedis(splitTokenArr[0].toUpperCase() + ":" + splitTokenArr[1]);
-                }else{
-                    findTokenFromRedis = null;
-                }
-                System.out.println("line 75 "+tokenType);
-                System.out.println("line 76 "+findTokenFromRedis);
-                System.out.println("line 77 "+token);
-                if(findTokenFromRedis == null){
-                    return 2;
-                }else if(findTokenFromRedis.equals(token)){
-                    return 1;
-                }else{
-                    return 3;
-                }
+                return storedTokenStatus(splitTokenArr[0].toUpperCase() + ":" + splitTokenArr[1], tokenType, token);
             }else{
                 // 기존의 자체 사이트 가입자 토큰 검증 로직
                 // redis에서 토큰 찾는 로직 추가해야 함
+                TokenClaims claims;
                 try{
-                    Jwts.parserBuilder()
-                            .setSigningKey(getSecretKey())
-                            .build()
-                            .parseClaimsJws(token)
-                            .getBody();
-                    return 1;
+                    claims = getClaims(token);
                 }catch (ExpiredJwtException e){
                     // 토큰이 만료된 경우
-                    log.info("Token이 만료되었습니다.");
+                    log.info(LogSampling.VALID_TOKEN, "Token이 만료되었습니다.");
                     return 2;
                 }catch (Exception e){
                     // 복호화 과정에서 에러가 나면 유효하지 않은 토큰
-                    System.out.println("Token 복호화 에러 : " + e.getMessage());
+                    log.info(LogSampling.VALID_TOKEN, "Token 복호화 에러 : {}", e.getMessage());
                     return 3;
                 }
+                return sessionStatus(tokenType, claims);
             }
         }
     }
 
+    // 모든 기기 로그아웃 이전 세대의 토큰, 로그아웃/밀려난 세션의 refreshToken은 만료(2)로 처리
+    // sid/gen 클레임이 없는 기존 토큰은 세대 0, 세션 확인 없음
+    // Redis를 쓸 수 없으면 resilience.degraded-validation에 따라 서명/만료 검증 결과(1)로 응답
+    private int sessionStatus(String tokenType, TokenClaims claims) {
+        try {
+            return storedSessionStatus(tokenType, claims);
+        } catch (BackendUnavailableException e) {
+            if (!resilienceProperties.isDegradedValidation()) {
+                throw e;
+            }
+            authMetrics.recordDegradedValidation(tokenType);
+            log.info(LogSampling.VALID_TOKEN, "Redis 장애로 세션 확인 없이 검증 : {}", e.getMessage());
+            return 1;
+        }
+    }
+
+    private int storedSessionStatus(String tokenType, TokenClaims claims) {
+        String owner = "USER:" + claims.subject();
+        long generation = claims.generation() != null ? claims.generation() : 0;
+        if (generation < sessionRegistry.generation(owner)) {
+            log.info(LogSampling.VALID_TOKEN, "폐기된 세대의 Token입니다.");
+            return 2;
+        }
+        String sessionId = claims.sessionId();
+        if (REFRESH_TOKEN.equals(tokenType) && sessionId != null && !sessionRegistry.isActive(owner, sessionId)) {
+            log.info(LogSampling.VALID_TOKEN, "종료된 세션의 Token입니다.");
+            return 2;
+        }
+        return 1;
+    }
+
+    public String getSessionId(String token) {
+        return getClaims(token).sessionId();
+    }
+
+    // gen 클레임 없는 기존 토큰은 0
+    public long getGeneration(String token) {
+        Long generation = getClaims(token).generation();
+        return generation != null ? generation : 0;
+    }
+
     public User getTokenDetails(String token) {
-        Claims claims = getClaims(token);
+        TokenClaims claims = getClaims(token);
         return User.builder()
-                .uid(claims.get("uid", Integer.class))
-                .userId(claims.getSubject())
-                .userName(claims.get("userName", String.class))
-                .role(Role.valueOf(claims.get("role",String.class)))
+                .uid(claims.uid())
+                .userId(claims.subject())
+                .userName(claims.userName())
+                .role(Role.valueOf(claims.role()))
                 .build();
     }
 
     public ClaimsResponseDTO getAuthentication(String token) {
-        Claims claims = getClaims(token);
+        TokenClaims claims = getClaims(token);
         return ClaimsResponseDTO.builder()
-                .userId(claims.getSubject())
-                .roles(List.of(claims.get("role", String.class)))
+                .userId(claims.subject())
+                .roles(List.of(claims.role()))
                 .build();
     }
 
     // Redis에 accessToken과 refreshToken을 저장
     public void saveTokensToRedis(String userId, String accessToken, String refreshToken) {
-        // accessToken 저장 + 2시간 만료
-        redisTemplate.opsForValue().set(userId + ":accessToken", accessToken, Duration.ofHours(2));
+        if (tokenStorageProperties.getRedisSession() == RedisSessionEncoding.COMPACT) {
+            Instant now = Instant.now();
+            redisUtil.setHashBytesExpire(TokenSession.key(userId), Map.of(
+                    TokenSession.ACCESS_FIELD, TokenSession.encode(accessToken, now.plus(ACCESS_TOKEN_TTL)),
+                    TokenSession.REFRESH_FIELD, TokenSession.encode(refreshToken, now.plus(REFRESH_TOKEN_TTL))
+            ), REFRESH_TOKEN_TTL);
+        } else {
+            backendGuard.run(Backend.REDIS, () -> {
+                // accessToken 저장 + 2시간 만료
+                redisTemplate.opsForValue().set(tokenKey(userId, ACCESS_TOKEN), accessToken, ACCESS_TOKEN_TTL);
 
-        // refreshToken 저장 + 7일 만료
-        redisTemplate.opsForValue().set(userId + ":refreshToken", refreshToken, Duration.ofDays(7));
+                // refreshToken 저장 + 7일 만료
+                redisTemplate.opsForValue().set(tokenKey(userId, REFRESH_TOKEN), refreshToken, REFRESH_TOKEN_TTL);
+            });
+        }
+        forgetAccessTokenReads(userId);
+    }
+
+    // 저장/삭제 이후 요청이 그 전에 시작한 조회 결과(이전 토큰)를 받지 않도록
+    private void forgetAccessTokenReads(String owner) {
+        singleFlight.forget(ACCESS_TOKEN_FLIGHT, owner);
+        singleFlight.forget(ACCESS_TOKEN_SESSION_FLIGHT, owner);
+    }
+
+    // 1 일치, 2 없음/만료, 3 불일치
+    private int storedTokenStatus(String owner, String tokenType, String token) {
+        boolean refresh = REFRESH_TOKEN.equals(tokenType);
+        if (!refresh && !ACCESS_TOKEN.equals(tokenType)) {
+            return 2;
+        }
+        if (tokenStorageProperties.getRedisSession() == RedisSessionEncoding.COMPACT) {
+            byte[] value = refresh
+                    ? redisUtil.getHashBytesFromReplica(TokenSession.key(owner), TokenSession.REFRESH_FIELD)
+                    : singleFlight.execute(ACCESS_TOKEN_SESSION_FLIGHT, owner,
+                            () -> redisUtil.getHashBytes(TokenSession.key(owner), TokenSession.ACCESS_FIELD));
+            if (value != null) {
+                return TokenSession.check(value, token, Instant.now());
+            }
+        }
+        String findTokenFromRedis = refresh ? getRefreshTokenFromRedis(owner) : getAccessTokenFromRedis(owner);
+        if(findTokenFromRedis == null){
+            return 2;
+        }else if(findTokenFromRedis.equals(token)){
+            return 1;
+        }else{
+            return 3;
+        }
     }
 
-    // Redis에서 accessToken과 refreshToken을 조회
+    // Redis에서 accessToken과 refreshToken을 조회 (token.redis-session=compact면 원문을 저장하지 않으므로 전환 전 세션만)
+    // 게이트웨이가 같은 토큰을 동시에 검증하는 경우가 많아 같은 사용자의 동시 조회는 한 번만 (SingleFlight)
     public String getAccessTokenFromRedis(String userId) {
-        return (String) redisTemplate.opsForValue().get(userId + ":accessToken");
+        return singleFlight.execute(ACCESS_TOKEN_FLIGHT, userId, () -> backendGuard.call(Backend.REDIS, () -> {
+            String token = redisTemplate.opsForValue().get(tokenKey(userId, ACCESS_TOKEN));
+            return token != null ? token : redisTemplate.opsForValue().get(legacyTokenKey(userId, ACCESS_TOKEN));
+        }));
     }
 
+    // 재발급 요청 빈도가 낮고 복제 지연(ms 단위) 동안 예전 값이 보여도 되므로 복제본 우선
     public String getRefreshTokenFromRedis(String userId) {
-        return (String) redisTemplate.opsForValue().get(userId + ":refreshToken");
+        String token = redisUtil.getDataFromReplica(tokenKey(userId, REFRESH_TOKEN));
+        return token != null ? token : redisUtil.getDataFromReplica(legacyTokenKey(userId, REFRESH_TOKEN));
     }
 
+    // 반환: 1 저장됨, 0 실패 (upsert의 affected rows 2(갱신)도 1로)
     public int saveTokenToDatabase(String type, int uid, String accessToken, String refreshToken) {
-        System.out.println("uid is :: " + uid);
+        int rows;
         if("social".equals(type)){
-            Token findToken = tokenMapper.findTokenBySocialUid(uid);
-
-            if (findToken != null) {
-                System.out.println("update token DB");
-                return tokenMapper.updateSocialToken(
-                        Token.builder()
-                                .socialUid(uid)
-                                .accessToken(accessToken)
-                                .refreshToken(refreshToken)
-                                .build()
-                );
-            }else{
-                System.out.println("save token DB");
-                return tokenMapper.saveSocialToken(
-                        Token.builder()
-                                .socialUid(uid)
-                                .accessToken(accessToken)
-                                .refreshToken(refreshToken)
-                                .build()
-                );
-            }
+            log.debug("upsert token DB - socialUid: {}", uid);
+            rows = tokenMapper.upsertSocialToken(tokenRow(accessToken, refreshToken).socialUid(uid).build());
         }else{
-            Token findToken = tokenMapper.findTokenByUserUid(uid);
-
-            if (findToken != null) {
-                return tokenMapper.updateUserToken(
-                        Token.builder()
-                                .userUid(uid)
-                                .accessToken(accessToken)
-                                .refreshToken(refreshToken)
-                                .build()
-                );
-            }else{
-                return tokenMapper.saveUserToken(
-                        Token.builder()
-                                .userUid(uid)
-                                .accessToken(accessToken)
-                                .refreshToken(refreshToken)
-                                .build()
-                );
-            }
+            rows = tokenMapper.upsertUserToken(tokenRow(accessToken, refreshToken).userUid(uid).build());
         }
+        return rows > 0 ? 1 : 0;
+    }
+
+    // 지문/만료 시각은 항상 저장, 원문은 token.storage=raw일 때만
+    private Token.TokenBuilder tokenRow(String accessToken, String refreshToken) {
+        boolean raw = tokenStorageProperties.getStorage() == TokenStorage.RAW;
+        return Token.builder()
+                .accessToken(raw ? accessToken : null)
+                .refreshToken(raw ? refreshToken : null)
+                .accessTokenHash(TokenFingerprint.of(accessToken))
+                .refreshTokenHash(TokenFingerprint.of(refreshToken))
+                .accessExpiresAt(TokenFingerprint.expiry(accessToken))
+                .refreshExpiresAt(TokenFingerprint.expiry(refreshToken));
     }
 
     @Transactional
     public boolean deleteTokenToRedis(String type, String userid){
-        boolean resultAccessToken = redisTemplate.delete(type + ":" + userid + ":accessToken");
-        boolean resultRefreshToken = redisTemplate.delete(type + ":" + userid + ":refreshToken");
+        String owner = type + ":" + userid;
+        // 같은 해시 슬롯이므로 클러스터에서도 DEL 한 번
+        Long deleted = backendGuard.call(Backend.REDIS, () -> redisTemplate.delete(List.of(
+                tokenKey(owner, ACCESS_TOKEN), tokenKey(owner, REFRESH_TOKEN), TokenSession.key(owner))));
+        Long legacyDeleted = backendGuard.call(Backend.REDIS, () -> redisTemplate.delete(
+                List.of(legacyTokenKey(owner, ACCESS_TOKEN), legacyTokenKey(owner, REFRESH_TOKEN))));
+        forgetAccessTokenReads(owner);
+
+        // 문자열 키는 2개, compact 세션은 해시 1개
+        return deleted + legacyDeleted >= 2
+                || tokenStorageProperties.getRedisSession() == RedisSessionEncoding.COMPACT && deleted >= 1;
+    }
 
-        return resultAccessToken && resultRefreshToken;
+    // 한 사용자(USER:아이디, NAVER:아이디 등)의 토큰 키는 {owner} 해시 태그로 같은 슬롯에 둠 (redis.mode=cluster)
+    private static String tokenKey(String owner, String kind) {
+        return "{" + owner + "}:" + kind;
+    }
+
+    // 해시 태그 도입 전 키, 기존 refreshToken이 만료되는(최대 7일) 동안만 읽기/삭제에 사용
+    private static String legacyTokenKey(String owner, String kind) {
+        return owner + ":" + kind;
     }
 
     public boolean deleteTokenToDatabase(String type, int uid){
@@ -204,33 +310,31 @@ public class TokenProviderService {
         }
     }
 
-    private String makeToken(Date expire, User user) {
+    private String makeToken(Date expire, User user, SessionRegistry.Session session) {
         Date now = new Date();
 
-        return Jwts.builder()
-                .setHeaderParam(TYPE, JWT_TYPE)
-                .setIssuer(jwtProperties.getIssuer())
-                .setIssuedAt(now)
-                .setExpiration(expire)
-                .setSubject(user.getUserId())
-                .claim("uid", user.getUid())
-                .claim("role",user.getRole().name())
-                .claim("userName",user.getUserName())
-                .signWith(getSecretKey(), HS512)
-                .compact();
-    }
-
-    private Claims getClaims(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(getSecretKey())
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
-    }
-
-    private SecretKey getSecretKey() {
-        byte[] keyBytes = Base64.getDecoder().decode(jwtProperties.getSecretKey());
-        return Keys.hmacShaKeyFor(keyBytes);
+        return authMetrics.jwtSign().record(() -> jwtCodec.encode(new TokenClaims(
+                jwtProperties.getIssuer(),
+                now.getTime() / 1000,
+                expire.getTime() / 1000,
+                user.getUserId(),
+                user.getUid(),
+                user.getRole().name(),
+                user.getUserName(),
+                session != null ? session.id() : null,
+                session != null ? session.generation() : null,
+                // 같은 초에 같은 세션으로 발급해도 토큰이 달라야 refreshToken 회전/재사용 판단이 됨 (RefreshCoordinator)
+                newTokenId())));
+    }
+
+    private static String newTokenId() {
+        byte[] id = new byte[12];
+        RANDOM.nextBytes(id);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(id);
+    }
+
+    private TokenClaims getClaims(String token) {
+        return authMetrics.jwtParse().record(() -> jwtCodec.decode(token));
     }
 
 }
@@ -1,5 +1,7 @@
 package com.example.authservice.service;
 
+import com.example.authservice.config.jwt.JwtCodec;
+import com.example.authservice.config.redis.RefreshRotation;
 import com.example.authservice.dto.ClaimsResponseDTO;
 import com.example.authservice.dto.RefreshTokenResponseDTO;
 import com.example.authservice.dto.ValidTokenResponseDTO;
@@ -7,25 +9,32 @@ import com.example.authservice.mapper.TokenMapper;
 import com.example.authservice.mapper.UserMapper;
 import com.example.authservice.model.Social;
 import com.example.authservice.model.User;
+import com.example.authservice.type.Type;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
 
 import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class TokenService {
 
     private final TokenProviderService tokenProviderService;
     private final UserMapper userMapper;
+    private final SessionRegistry sessionRegistry;
+    private final RefreshCoordinator refreshCoordinator;
+    private final JwtCodec jwtCodec;
 
     public RefreshTokenResponseDTO refreshToken(String refreshToken) {
         int result = tokenProviderService.validToken("refreshToken", refreshToken);
         // oauth와 자체가입자의 로직 구분해야함
         // oauth 토큰 재발행을 프론트에서 해야함
-        System.out.println("result : " + result);
-        System.out.println("refreshToken is :: " + refreshToken);
+        log.debug("refresh token result : {}", result);
 
         String[] splitTokens = refreshToken.split(":");
 
@@ -34,15 +43,36 @@ public class TokenService {
 
         if(result == 1) {
             if("naver".equals(splitTokens[0]) || "kakao".equals(splitTokens[0]) || "google".equals(splitTokens[0]) ) {
-                newAccessToken = tokenProviderService.getAccessTokenFromRedis(splitTokens[1]);
-                newRefreshToken = tokenProviderService.getRefreshTokenFromRedis(splitTokens[1]);
+                String owner = splitTokens[0].toUpperCase() + ":" + splitTokens[1];
+                newAccessToken = tokenProviderService.getAccessTokenFromRedis(owner);
+                newRefreshToken = tokenProviderService.getRefreshTokenFromRedis(owner);
             }else{
                 User user = tokenProviderService.getTokenDetails(refreshToken);
 
-                newAccessToken = tokenProviderService.generateToken(user, Duration.ofHours(2));
-                newRefreshToken = tokenProviderService.generateToken(user, Duration.ofDays(2));
-
-                tokenProviderService.saveTokensToRedis("USER:"+user.getUserId(), newAccessToken, newRefreshToken);
+                String owner = "USER:" + user.getUserId();
+                String sessionId = tokenProviderService.getSessionId(refreshToken);
+                long generation = tokenProviderService.getGeneration(refreshToken);
+                // 같은 refreshToken의 동시/반복 교환은 한 번만 발급 (RefreshCoordinator)
+                RefreshRotation.Pair pair = refreshCoordinator.exchange(owner, sessionId, generation, refreshToken, () -> {
+                    // 같은 세션(기기)의 만료만 연장, sid 없는 기존 토큰은 새 세션으로 등록
+                    Instant expiresAt = Instant.now().plus(Duration.ofDays(2));
+                    SessionRegistry.Session session = sessionId != null
+                            ? sessionRegistry.touch(owner, sessionId, expiresAt)
+                            : sessionRegistry.open(owner, expiresAt);
+
+                    String accessToken = tokenProviderService.generateToken(user, Duration.ofHours(2), session);
+                    String rotatedRefreshToken = tokenProviderService.generateToken(user, Duration.ofDays(2), session);
+
+                    tokenProviderService.saveTokensToRedis(owner, accessToken, rotatedRefreshToken);
+                    return new RefreshCoordinator.Issued(session, new RefreshRotation.Pair(accessToken, rotatedRefreshToken), expiresAt);
+                });
+                if (pair == null) {
+                    // 회전된 refreshToken 재사용(세션 종료) 또는 교환 중 로그아웃: 다시 로그인해야 함
+                    result = 2;
+                } else {
+                    newAccessToken = pair.accessToken();
+                    newRefreshToken = pair.refreshToken();
+                }
             }
         }
 
@@ -57,9 +87,14 @@ public class TokenService {
         return tokenProviderService.getAuthentication(token);
     }
 
+    // 서명 공개키 (JWK Set), 다른 서비스가 자체 발급 토큰을 로컬에서 검증할 때 사용 (auth-client)
+    public Map<String, Object> getJwks() {
+        return jwtCodec.jwks();
+    }
+
     public ValidTokenResponseDTO validateToken(String token) {
         int result = tokenProviderService.validToken("accessToken", token);
-        System.out.println("validate token result "+result);
+        log.debug("validate token result : {}", result);
         return ValidTokenResponseDTO.builder()
                 .statusNum(result)
                 .build();
@@ -70,9 +105,9 @@ public class TokenService {
 
         tokenProviderService.saveTokensToRedis(splitTokens[0].toUpperCase() + ":" + splitTokens[1], accessToken, refreshToken);
 
-        Social findSocial = userMapper.findSocialByUserName(splitTokens[1]);
+        Social findSocial = userMapper.findSocialByTypeAndUserId(Type.valueOf(splitTokens[0].toUpperCase()), splitTokens[1]);
 
-        int result = tokenProviderService.saveTokenToDatabase(splitTokens[0], findSocial.getUid(), accessToken, refreshToken);
+        int result = tokenProviderService.saveTokenToDatabase("social", findSocial.getUid(), accessToken, refreshToken);
 
         if(result == 1){
             return RefreshTokenResponseDTO.builder()
@@ -19,7 +19,7 @@ public class UserDetailService implements UserDetailsService {
 
     @Override
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
-        User userByUserId = userMapper.findUserByUserId(username);
+        User userByUserId = userMapper.findCredentialsByUserId(username);
 
         if (userByUserId == null) {
             throw new UsernameNotFoundException("사용자를 찾을 수 없습니다: " + username);
@@ -0,0 +1,70 @@
+package com.example.authservice.service;
+
+import com.example.authservice.config.redis.CacheNames;
+import com.example.authservice.config.redis.TwoLevelCacheManager;
+import com.example.authservice.config.redis.UserEvent;
+import com.example.authservice.config.redis.UserEventProperties;
+import com.example.authservice.config.redis.UserEventSubscription;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+
+/**
+ * 회원 변경 이벤트({@link UserEvent})로 이 노드의 로컬 캐시를 지운다.
+ * <ul>
+ *     <li>LOGOUT_ALL: SessionRegistry 세대 캐시를 바로 올림 (session.generation-cache-ttl을 기다리지 않음)</li>
+ *     <li>DELETE: 세대 캐시와 회원/주소 L1 캐시 삭제</li>
+ *     <li>ROLE_CHANGE, PROFILE_UPDATE: 회원/주소 L1 캐시 삭제 (pub/sub 무효화 메시지를 놓친 경우)</li>
+ * </ul>
+ */
+@Service
+public class UserEventListener extends UserEventSubscription {
+
+    private final SessionRegistry sessionRegistry;
+    private final TwoLevelCacheManager cacheManager;
+
+    public UserEventListener(RedisConnectionFactory connectionFactory, StringRedisTemplate redisTemplate,
+                             UserEventProperties properties, SessionRegistry sessionRegistry,
+                             TwoLevelCacheManager cacheManager) {
+        super(connectionFactory, redisTemplate, properties);
+        this.sessionRegistry = sessionRegistry;
+        this.cacheManager = cacheManager;
+    }
+
+    @Override
+    protected void onEvent(UserEvent event) {
+        switch (event.type()) {
+            case LOGOUT_ALL -> {
+                if (event.generation() != null) {
+                    sessionRegistry.advance(event.owner(), event.generation());
+                }
+            }
+            case DELETE -> {
+                sessionRegistry.evict(event.owner());
+                invalidateUser(event);
+            }
+            case ROLE_CHANGE, PROFILE_UPDATE -> invalidateUser(event);
+            // 세션 목록은 매번 Redis에서 읽으므로 지울 로컬 상태 없음
+            case LOGOUT -> {
+            }
+        }
+    }
+
+    // 매퍼 @CacheEvict와 같은 키
+    private void invalidateUser(UserEvent event) {
+        String uid = event.uid() != null ? event.uid().toString() : null;
+        if (event.isUser()) {
+            cacheManager.invalidateLocal(CacheNames.USERS, event.userId());
+            cacheManager.invalidateLocal(CacheNames.MANAGERS, null);
+            if (uid != null) {
+                cacheManager.invalidateLocal(CacheNames.USER_ADDRESSES, uid);
+            }
+        } else {
+            cacheManager.invalidateLocal(CacheNames.SOCIALS, event.userId());
+            cacheManager.invalidateLocal(CacheNames.SOCIAL_IDENTITIES, event.owner());
+            if (uid != null) {
+                cacheManager.invalidateLocal(CacheNames.SOCIAL_ADDRESSES, uid);
+            }
+        }
+    }
+}
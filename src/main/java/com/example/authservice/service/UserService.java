@@ -2,6 +2,8 @@ package com.example.authservice.service;
 
 import com.example.authservice.client.AiGrpcClient;
 import com.example.authservice.config.redis.RedisUtil;
+import com.example.authservice.config.redis.UserEvent;
+import com.example.authservice.config.redis.UserEventPublisher;
 import com.example.authservice.config.security.CustomUserDetails;
 import com.example.authservice.dto.*;
 import com.example.authservice.exception.EmailNotVerifiedException;
@@ -10,6 +12,7 @@ import com.example.authservice.mapper.UserMapper;
 import com.example.authservice.model.Address;
 import com.example.authservice.model.Social;
 import com.example.authservice.model.User;
+import com.example.authservice.type.Type;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.dao.DuplicateKeyException;
@@ -22,6 +25,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.Duration;
+import java.time.Instant;
 import java.util.List;
 
 import static com.example.authservice.type.Role.ROLE_USER;
@@ -36,24 +40,24 @@ public class UserService {
     private final AddressMapper addressMapper;
     private final AuthenticationManager authenticationManager;
     private final TokenProviderService tokenProviderService;
+    private final SessionRegistry sessionRegistry;
+    private final UserEventPublisher userEventPublisher;
     private final EmailService emailService;
     private final RedisUtil redisUtil;
     private final AiGrpcClient aiGrpcClient;
+    private final BCryptPasswordEncoder bCryptPasswordEncoder;
 
     @Transactional
     public UserLoginResponseDTO login(String username, String password) {
-        System.out.println("login info is :: " + username + " " + password);
-
         Authentication authenticate = authenticationManager.authenticate(new UsernamePasswordAuthenticationToken(username, password));
         SecurityContextHolder.getContext().setAuthentication(authenticate);
 
         User user = ((CustomUserDetails) authenticate.getPrincipal()).getUser();
 
-        String accessToken = tokenProviderService.generateToken(user, Duration.ofHours(2));
-        String refreshToken = tokenProviderService.generateToken(user, Duration.ofDays(2));
-
-        System.out.println("accessToken is :: " + accessToken);
-        System.out.println("refreshToken is :: " + refreshToken);
+        // 기기마다 세션 하나 (다른 기기의 세션은 유지)
+        SessionRegistry.Session session = sessionRegistry.open("USER:" + user.getUserId(), Instant.now().plus(Duration.ofDays(2)));
+        String accessToken = tokenProviderService.generateToken(user, Duration.ofHours(2), session);
+        String refreshToken = tokenProviderService.generateToken(user, Duration.ofDays(2), session);
 
         // redis에 저장
         tokenProviderService.saveTokensToRedis("USER:"+user.getUserId(), accessToken, refreshToken);
@@ -70,7 +74,7 @@ public class UserService {
                 .build();
     }
 
-    @Transactional
+    @Transactional(readOnly = true)
     public boolean existsByUserId(String userId) {
         return userMapper.findUserByUserId(userId) != null;
     }
@@ -79,8 +83,7 @@ public class UserService {
     public UserJoinResponseDTO join(UserJoinRequestDTO userJoinRequestDTO) {
         // 1) 이메일 인증 체크
         String email = userJoinRequestDTO.getEmail();
-        if (!redisUtil.existData(email + ":verified") ||
-                !"true".equals(redisUtil.getData(email + ":verified"))) {
+        if (!"true".equals(redisUtil.getDataFromReplica(email + ":verified"))) {
             throw new EmailNotVerifiedException("이메일 인증이 필요합니다.");
         }
 
@@ -92,7 +95,7 @@ public class UserService {
         }
 
         // 3) User/Address 엔티티 변환 및 저장
-        User user = userJoinRequestDTO.toUser(new BCryptPasswordEncoder()); // toUser()는 DTO에서 엔티티로 변환하는 메서드
+        User user = userJoinRequestDTO.toUser(bCryptPasswordEncoder); // toUser()는 DTO에서 엔티티로 변환하는 메서드
         try {
             userMapper.insertUser(user);
         } catch (DuplicateKeyException ex) {
@@ -144,15 +147,14 @@ public class UserService {
         
         String[] tokens = oauthDTO.getAccessToken().split(":");
 
-        Social findSocial;
+        Type type;
 
         if("naver".equals(tokens[0])){
-            findSocial = userMapper.findSocialByUserName(oauthDTO.getName());
+            type = NAVER;
         }else if("google".equals(tokens[0])){
-            findSocial = userMapper.findSocialByUserName(oauthDTO.getName());
+            type = GOOGLE;
         }else if("kakao".equals(tokens[0])){
-            // 지금은 정보요청 권한이 없어서 닉네임만 받아올수 있음
-            findSocial = userMapper.findSocialByUserName(oauthDTO.getNickname());
+            type = KAKAO;
         }else{
             return OAuthLoginResponseDTO.builder()
                     .loggedIn(false)
@@ -160,21 +162,25 @@ public class UserService {
                     .build();
         }
 
+        // 이름/닉네임은 중복될 수 있으므로 제공자 회원번호로 조회
+        Social findSocial = userMapper.findSocialByTypeAndUserId(type, oauthDTO.getId());
+
         if(findSocial == null){
             // 회원정보 저장 후 로그인 처리
             Social newSocial = buildNewSocialObj(tokens[0], oauthDTO);
 
             if(newSocial != null){
-                int result = userMapper.saveSocial(newSocial);
-                System.out.println("DB 회원정보 저장함");
-                if(result == 1){
-                    Social social = userMapper.findSocialByUserId(newSocial.getUserId());
+                // 동시 요청(더블 클릭)이 먼저 insert 했으면 그 행을 그대로 사용 (uid는 생성 키로 채워짐)
+                int result = userMapper.upsertSocial(newSocial);
+                log.debug("DB 회원정보 저장함 - userId: {}", newSocial.getUserId());
+                if(result > 0){
+                    int socialUid = newSocial.getUid() > 0
+                            ? newSocial.getUid()
+                            : userMapper.findSocialByTypeAndUserId(type, newSocial.getUserId()).getUid();
                     // redis에 저장
                     tokenProviderService.saveTokensToRedis(tokens[0].toUpperCase()+":"+oauthDTO.getId(), oauthDTO.getAccessToken(), oauthDTO.getRefreshToken());
-                    System.out.println("redis 토큰 저장함");
-                    // DB에 저장
-                    tokenProviderService.saveTokenToDatabase("social",social.getUid(),oauthDTO.getAccessToken(),oauthDTO.getRefreshToken());
-                    System.out.println("DB 토큰 저장함");
+                    // DB에 저장 (같은 트랜잭션, 조회 없이 upsert)
+                    tokenProviderService.saveTokenToDatabase("social",socialUid,oauthDTO.getAccessToken(),oauthDTO.getRefreshToken());
                     return OAuthLoginResponseDTO.builder()
                             .loggedIn(true)
                             .type(newSocial.getType())
@@ -197,37 +203,26 @@ public class UserService {
                         .build();
             }
         }else{
-            // accessToken의 타입 잘라서 타입이 일치하면 로그인 처리
-            // 다른 타입이면 이미 가입한 계정이 있다고 응답
-            System.out.println("find type is :: " + findSocial.getType().name());
-            System.out.println("tokens type is :: " + tokens[0]);
-            if(findSocial.getType().name().toLowerCase().equals(tokens[0])){
-                if(findSocial.getStatus().equals("deleted")){
-                    userMapper.activeSocial(findSocial.getUserId());
-                }
-                // redis에 저장
-                tokenProviderService.saveTokensToRedis(findSocial.getType().name()+":"+oauthDTO.getId(), oauthDTO.getAccessToken(), oauthDTO.getRefreshToken());
+            // 같은 제공자의 같은 회원번호로 찾았으므로 타입은 항상 일치 (탈퇴 상태면 복구 후 로그인)
+            if(findSocial.getStatus().equals("deleted")){
+                userMapper.activeSocial(findSocial.getType(), findSocial.getUserId());
+            }
+            // redis에 저장
+            tokenProviderService.saveTokensToRedis(findSocial.getType().name()+":"+oauthDTO.getId(), oauthDTO.getAccessToken(), oauthDTO.getRefreshToken());
 
-                // DB에 저장
-                tokenProviderService.saveTokenToDatabase("social",findSocial.getUid(),oauthDTO.getAccessToken(),oauthDTO.getRefreshToken());
-                
-                return OAuthLoginResponseDTO.builder()
-                            .loggedIn(true)
-                            .type(findSocial.getType())
-                            .userName(findSocial.getUserName())
-                            .email(findSocial.getEmail())
-                            .mobile(findSocial.getPhone())
-                            .role(findSocial.getRole())
-                            .accessToken(oauthDTO.getAccessToken())
-                            .refreshToken(oauthDTO.getRefreshToken())
-                            .build();
-            }else{
-                return OAuthLoginResponseDTO.builder()
-                        .loggedIn(false)
+            // DB에 저장
+            tokenProviderService.saveTokenToDatabase("social",findSocial.getUid(),oauthDTO.getAccessToken(),oauthDTO.getRefreshToken());
+
+            return OAuthLoginResponseDTO.builder()
+                        .loggedIn(true)
                         .type(findSocial.getType())
-                        .message("AlreadyExists")
+                        .userName(findSocial.getUserName())
+                        .email(findSocial.getEmail())
+                        .mobile(findSocial.getPhone())
+                        .role(findSocial.getRole())
+                        .accessToken(oauthDTO.getAccessToken())
+                        .refreshToken(oauthDTO.getRefreshToken())
                         .build();
-            }
         }
     }
 
@@ -283,14 +278,20 @@ public class UserService {
 
         if(isSocial){
             redisResult = tokenProviderService.deleteTokenToRedis(splitArr[0].toUpperCase(),splitArr[1]);
-            System.out.println("userId is :: " + splitArr[1]);
             Social findSocial = userMapper.findSocialByUserId(splitArr[1]);
             dbResult = tokenProviderService.deleteTokenToDatabase("social",findSocial.getUid());
+            userEventPublisher.publish(UserEvent.logout(splitArr[0].toUpperCase() + ":" + splitArr[1], null));
         }else{
             String resultUserId = tokenProviderService.getTokenDetails(token).getUserId();
+            // 이 기기의 세션만 종료 (sid 없는 기존 토큰은 종료할 세션 없음)
+            String sessionId = tokenProviderService.getSessionId(token);
+            if (sessionId != null) {
+                sessionRegistry.close("USER:" + resultUserId, sessionId);
+            }
             redisResult = tokenProviderService.deleteTokenToRedis("USER",resultUserId);
             User user = userMapper.findUserByUserId(resultUserId);
             dbResult = tokenProviderService.deleteTokenToDatabase("user",user.getUid());
+            userEventPublisher.publish(UserEvent.logout("USER:" + resultUserId, sessionId));
         }
         return redisResult&&dbResult?
                 LogoutResponseDTO.builder()
@@ -301,6 +302,23 @@ public class UserService {
                         .build();
     }
 
+    // 모든 기기 로그아웃: 세션 세대를 올려 이미 발급된 토큰 전부를 만료 처리
+    // 소셜 토큰은 세대 클레임이 없으므로 저장된 토큰 삭제(logout)와 같음
+    public LogoutResponseDTO logoutAll(String token) {
+        String[] splitArr = token.split(":");
+
+        boolean isSocial = splitArr[0].equals("kakao")
+                || splitArr[0].equals("naver")
+                || splitArr[0].equals("google");
+
+        if(!isSocial){
+            String userId = tokenProviderService.getTokenDetails(token).getUserId();
+            long generation = sessionRegistry.closeAll("USER:" + userId);
+            log.info("logout all - userId: {}, generation: {}", userId, generation);
+        }
+        return logout(token);
+    }
+
     public UserInfoResponseDTO getUserInfo(String token) {
         String[] splitArr = token.split(":");
 
@@ -407,9 +425,19 @@ public class UserService {
                 || splitArr[0].equals("naver")
                 || splitArr[0].equals("google");
 
-        int result = isSocial
-                ? userMapper.deleteSocial(splitArr[1])
-                : userMapper.deleteUser(tokenProviderService.getTokenDetails(token).getUserId());
+        int result;
+        if (isSocial) {
+            // 다른 제공자의 같은 회원번호를 집지 않도록 (제공자, 회원번호)로 조회
+            Type type = Type.valueOf(splitArr[0].toUpperCase());
+            Social findSocial = userMapper.findSocialByTypeAndUserId(type, splitArr[1]);
+            result = userMapper.deleteSocial(type, splitArr[1]);
+            userEventPublisher.publish(UserEvent.deleted(type.name() + ":" + splitArr[1],
+                    findSocial != null ? findSocial.getUid() : null));
+        } else {
+            User tokenUser = tokenProviderService.getTokenDetails(token);
+            result = userMapper.deleteUser(tokenUser.getUserId());
+            userEventPublisher.publish(UserEvent.deleted("USER:" + tokenUser.getUserId(), tokenUser.getUid()));
+        }
 
         return LogoutResponseDTO.builder()
                 .successed((result>0)&& removeTokenResult.isSuccessed())
@@ -426,15 +454,19 @@ public class UserService {
 
         // DB에서 기존 주소 불러오기
         Address address;
+        String owner;
 
         if (isSocial) {
             int socialUid = userMapper.findSocialByUserId(parts[1]).getUid();
             address = addressMapper.findBySocialUid(socialUid);
             address.setSocialUid(socialUid);
+            owner = parts[0].toUpperCase() + ":" + parts[1];
         } else {
-            int userUid = tokenProviderService.getTokenDetails(token).getUid();
+            User tokenUser = tokenProviderService.getTokenDetails(token);
+            int userUid = tokenUser.getUid();
             address = addressMapper.findByUserUid(userUid);
             address.setUserUid(userUid);
+            owner = "USER:" + tokenUser.getUserId();
         }
 
         // Address 엔티티에 변경 사항 반영 - null 또는 0.0 아닐 때만 set
@@ -458,6 +490,9 @@ public class UserService {
 
 
         boolean success = (updatedRows > 0);
+        if (success) {
+            userEventPublisher.publish(UserEvent.profileUpdated(owner, isSocial ? address.getSocialUid() : address.getUserUid()));
+        }
 
         if (updatedRows == 0) {
             log.warn("주소 업데이트 실패: uid={}, isSocial={}, address={}",
@@ -490,6 +525,7 @@ public class UserService {
             boolean socialResult = userMapper.updateSocial(
                     Social.builder()
                             .userId(splitArr[1])
+                            .type(findSocial.getType())
                             .userName(updateProfileRequestDTO.getUserName())
                             .email(updateProfileRequestDTO.getEmail())
                             .emailyn(updateProfileRequestDTO.getEmailyn())
@@ -530,13 +566,14 @@ public class UserService {
                                 .sub2Lan(updateProfileRequestDTO.getSubLan2())
                                 .build()) > 0 ;
             }
+            userEventPublisher.publish(UserEvent.profileUpdated(splitArr[0].toUpperCase() + ":" + splitArr[1], findSocial.getUid()));
             return socialResult && addressResult;
         }else{
-            log.info("before excute user profile update");
+            log.debug("before excute user profile update");
             User findUser = tokenProviderService.getTokenDetails(token);
-            log.info("defore save redis user info");
+            log.debug("before save redis user info");
             redisUtil.setObjectDataExpire("userInfo:"+findUser.getUid(), findUser, 60 * 30L);
-            log.info("after save redis user info");
+            log.debug("after save redis user info");
             boolean userResult =  userMapper.updateUser(
                     User.builder()
                             .userId(findUser.getUserId())
@@ -546,9 +583,9 @@ public class UserService {
                             .phone(updateProfileRequestDTO.getPhone())
                             .phoneyn(updateProfileRequestDTO.getPhoneyn())
                             .build()) > 0 ;
-            log.info("before excute address update");
+            log.debug("before excute address update");
             Address findAddress = addressMapper.findByUserUid(findUser.getUid());
-            log.info("before save redis address update");
+            log.debug("before save redis address update");
             redisUtil.setObjectDataExpire("userAddressInfo:"+findUser.getUid(), findAddress, 60 * 30L);
 
             boolean addressResult = addressMapper.updateAddressByUserUid(
@@ -564,6 +601,7 @@ public class UserService {
                             .sub2Lat(updateProfileRequestDTO.getSubLat2())
                             .sub2Lan(updateProfileRequestDTO.getSubLan2())
                             .build()) > 0;
+            userEventPublisher.publish(UserEvent.profileUpdated("USER:" + findUser.getUserId(), findUser.getUid()));
             return userResult && addressResult;
         }
     }
@@ -583,13 +621,13 @@ public class UserService {
             log.warn("알러지 수정 실패: {} 복구 시도", e.getMessage());
 
             if (isSocial) {
-                Social backup = (Social) redisUtil.getObjectData("socialInfo" + dto.getUid());
-                Address address = (Address) redisUtil.getObjectData("socialAddressInfo" + dto.getUid());
+                Social backup = redisUtil.getObjectData("socialInfo:" + dto.getUid(), Social.class);
+                Address address = redisUtil.getObjectData("socialAddressInfo:" + dto.getUid(), Address.class);
                 userMapper.updateSocial(backup);
                 addressMapper.updateAddressBySocialUid(address);
             } else {
-                User backup = (User) redisUtil.getObjectData("userInfo" + dto.getUid());
-                Address address = (Address) redisUtil.getObjectData("userAddressInfo" + dto.getUid());
+                User backup = redisUtil.getObjectData("userInfo:" + dto.getUid(), User.class);
+                Address address = redisUtil.getObjectData("userAddressInfo:" + dto.getUid(), Address.class);
                 userMapper.updateUser(backup);
                 addressMapper.updateAddressByUserUid(address);
             }
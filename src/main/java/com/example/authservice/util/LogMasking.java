@@ -0,0 +1,37 @@
+package com.example.authservice.util;
+
+// 로그에 토큰/이메일 원문이 남지 않도록 마스킹
+public final class LogMasking {
+
+    private static final int VISIBLE_TAIL = 6;
+
+    private LogMasking() {
+    }
+
+    // JWT: ***<서명 끝 6자>(len=N), 소셜 토큰: naver:***<끝 6자>(len=N)
+    public static String token(String token) {
+        if (token == null || token.isEmpty()) {
+            return String.valueOf(token);
+        }
+        String prefix = "";
+        if (token.startsWith("naver:") || token.startsWith("kakao:") || token.startsWith("google:")) {
+            prefix = token.substring(0, token.indexOf(':') + 1);
+        }
+        String tail = token.length() > VISIBLE_TAIL * 2
+                ? token.substring(token.length() - VISIBLE_TAIL)
+                : "";
+        return prefix + "***" + tail + "(len=" + token.length() + ")";
+    }
+
+    // abcdef@example.com -> ab***@example.com
+    public static String email(String email) {
+        if (email == null) {
+            return "null";
+        }
+        int at = email.indexOf('@');
+        if (at <= 0) {
+            return "***";
+        }
+        return email.substring(0, Math.min(2, at)) + "***" + email.substring(at);
+    }
+}
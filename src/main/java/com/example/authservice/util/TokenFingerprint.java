@@ -0,0 +1,55 @@
+package com.example.authservice.util;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Base64;
+
+// DB/Redis에 토큰 원문 대신 저장하는 고정 길이 지문 (SHA-256, 32바이트)
+public final class TokenFingerprint {
+
+    public static final int LENGTH = 32;
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private TokenFingerprint() {
+    }
+
+    public static byte[] of(String token) {
+        if (token == null) {
+            return null;
+        }
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    // 직접 발급한 JWT의 exp (서명 검증 없이 payload만 읽음), 소셜 토큰 등 JWT가 아니면 null
+    public static LocalDateTime expiry(String token) {
+        if (token == null) {
+            return null;
+        }
+        int first = token.indexOf('.');
+        int second = token.indexOf('.', first + 1);
+        if (first < 0 || second < 0) {
+            return null;
+        }
+        try {
+            byte[] payload = Base64.getUrlDecoder().decode(token.substring(first + 1, second));
+            JsonNode exp = OBJECT_MAPPER.readTree(payload).get("exp");
+            return exp != null && exp.canConvertToLong()
+                    ? LocalDateTime.ofInstant(Instant.ofEpochSecond(exp.asLong()), ZoneId.systemDefault())
+                    : null;
+        } catch (Exception e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,8 @@
+-- 소셜 로그인 식별자 (type, 제공자 회원번호) 유니크 인덱스. 앱 배포 전에 실행.
+-- 소셜 로그인/토큰 갱신은 UserMapper.findSocialByTypeAndUserId로 이 인덱스 단건 조회 (기존 user_name 조회는 풀 스캔 + 동명이인 오매칭)
+-- user_id를 앞에 두어 user_id만으로 찾는 기존 조회(findSocialByUserId, 탈퇴/프로필 수정)도 같은 인덱스를 사용
+-- 중복 행이 있으면 실패하므로 먼저 확인:
+--   SELECT user_id, type, COUNT(*) FROM social GROUP BY user_id, type HAVING COUNT(*) > 1;
+ALTER TABLE social
+    ADD UNIQUE INDEX uk_social_user_id_type (user_id, type),
+    ALGORITHM = INPLACE, LOCK = NONE;
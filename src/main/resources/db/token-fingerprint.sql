@@ -0,0 +1,14 @@
+-- token 테이블 지문 저장 (token.storage) 스키마 변경. 앱 배포 전에 실행.
+-- 1) 컬럼/인덱스 추가 후 token.storage=raw로 배포 (새 로그인은 원문 + 지문 저장)
+-- 2) token.storage=fingerprint, token.migration.enabled=true로 배포해 기존 행 변환 및 원문 삭제 (기동 후 백그라운드, token.migration.runs{outcome=completed} 확인)
+-- 3) 이후 migration.enabled=false (원문 컬럼 DROP은 롤백 필요성이 없어진 뒤 별도로)
+ALTER TABLE token
+    MODIFY access_token  VARCHAR(1024) NULL,
+    MODIFY refresh_token VARCHAR(1024) NULL,
+    ADD COLUMN access_token_hash  BINARY(32) NULL,
+    ADD COLUMN refresh_token_hash BINARY(32) NULL,
+    ADD COLUMN access_expires_at  DATETIME   NULL,
+    ADD COLUMN refresh_expires_at DATETIME   NULL,
+    ADD INDEX idx_token_user_uid (user_uid),
+    ADD INDEX idx_token_social_uid (social_uid),
+    ALGORITHM = INPLACE, LOCK = NONE;
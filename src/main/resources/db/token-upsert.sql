@@ -0,0 +1,14 @@
+-- token 행 upsert (INSERT ... ON DUPLICATE KEY UPDATE) 용 유니크 인덱스. 앱 배포 전에 실행 (db/token-fingerprint.sql 이후).
+-- 기존 조회 후 insert 방식은 동시 로그인 시 같은 회원의 행이 여러 개 생길 수 있었으므로 최신(uid 최대) 행만 남긴다.
+-- user_uid/social_uid 중 하나는 항상 NULL이고, NULL은 유니크 인덱스에서 서로 충돌하지 않는다.
+DELETE t FROM token t
+    JOIN token newer ON newer.user_uid = t.user_uid AND newer.uid > t.uid;
+DELETE t FROM token t
+    JOIN token newer ON newer.social_uid = t.social_uid AND newer.uid > t.uid;
+
+ALTER TABLE token
+    DROP INDEX idx_token_user_uid,
+    DROP INDEX idx_token_social_uid,
+    ADD UNIQUE INDEX uk_token_user_uid (user_uid),
+    ADD UNIQUE INDEX uk_token_social_uid (social_uid),
+    ALGORITHM = INPLACE, LOCK = NONE;
@@ -0,0 +1,299 @@
+package com.example.authservice.config.jwt;
+
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.MalformedJwtException;
+import io.jsonwebtoken.PrematureJwtException;
+import io.jsonwebtoken.UnsupportedJwtException;
+import io.jsonwebtoken.io.DecodingException;
+import io.jsonwebtoken.security.Keys;
+import io.jsonwebtoken.security.SignatureException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import javax.crypto.Mac;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.SecureRandom;
+import java.time.Instant;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+// FastJwtCodec 발급/검증이 jjwt(jwt.codec=jjwt)와 같은 토큰, 같은 결과/예외를 내는지
+class FastJwtCodecTest {
+
+    private static final String HEADER = "{\"typ\":\"JWT\",\"alg\":\"HS512\"}";
+    private static final Base64.Encoder BASE64URL = Base64.getUrlEncoder().withoutPadding();
+
+    private byte[] keyBytes;
+    private FastJwtCodec fast;
+    // jwt.codec=jjwt, jwt.codec=fast
+    private JwtCodec jjwtCodec;
+    private JwtCodec fastCodec;
+
+    @BeforeEach
+    void setUp() {
+        keyBytes = new byte[64];
+        new SecureRandom().nextBytes(keyBytes);
+        fast = new FastJwtCodec(Keys.hmacShaKeyFor(keyBytes));
+        jjwtCodec = codec(JwtCodecType.JJWT, keyBytes);
+        fastCodec = codec(JwtCodecType.FAST, keyBytes);
+    }
+
+    @Test
+    void jjwt가_기본_구현() {
+        assertThat(new JwtProperties().getCodec()).isEqualTo(JwtCodecType.JJWT);
+    }
+
+    @Test
+    void 모든_클레임이_jjwt와_같은_토큰으로_발급되고_서로_검증된다() {
+        TokenClaims claims = claims("user01", "홍길동");
+
+        String token = fast.encode(claims);
+
+        assertThat(token).isEqualTo(jjwtCodec.encode(claims));
+        assertThat(fast.decode(token)).isEqualTo(claims);
+        assertThat(jjwtCodec.decode(token)).isEqualTo(claims);
+        assertThat(fast.decode(jjwtCodec.encode(claims))).isEqualTo(claims);
+    }
+
+    @Test
+    void 없는_클레임은_쓰지_않는다() {
+        TokenClaims claims = new TokenClaims(null, 0, future(), "user01", null, "ROLE_USER", null, null, null, null);
+
+        String token = fast.encode(claims);
+
+        assertThat(token).isEqualTo(jjwtCodec.encode(claims));
+        assertThat(fast.decode(token)).isEqualTo(claims);
+        assertThat(jjwtCodec.decode(token)).isEqualTo(claims);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "따옴표\" 역슬래시\\ 슬래시/",
+            "제어 문자 \b\t\n\f\r \u0000\u0001\u001f",
+            "é ß ñ 한글 ߿ ࠀ ￿",
+            "이모지 😀 🇰🇷",
+            "짝 없는 서로게이트 \uD83D \uDE00",
+            "  "})
+    void 문자열_이스케이프와_유니코드가_jjwt와_같다(String userName) {
+        TokenClaims claims = claims(userName, userName);
+
+        String token = fast.encode(claims);
+
+        assertThat(token).isEqualTo(jjwtCodec.encode(claims));
+        assertThat(fast.decode(token)).isEqualTo(claims);
+        assertThat(jjwtCodec.decode(token)).isEqualTo(claims);
+    }
+
+    @Test
+    void Jackson이_쓰지_않는_이스케이프도_읽는다() {
+        String payload = "{\"sub\":\"a\\/b\\u0041\\uD55C\",\"exp\":" + future() + ",\"userName\":\"\\\"\\\\\\n\"}";
+        String token = sign(HEADER, payload);
+
+        TokenClaims claims = fast.decode(token);
+
+        assertThat(claims).isNotNull();
+        assertThat(claims.subject()).isEqualTo("a/bA한");
+        assertThat(claims.userName()).isEqualTo("\"\\\n");
+        assertThat(claims).isEqualTo(jjwtCodec.decode(token));
+    }
+
+    @Test
+    void 만료된_토큰은_ExpiredJwtException() {
+        TokenClaims claims = new TokenClaims("auth", past() - 60, past(), "user01", 1, "ROLE_USER", null, null, null, null);
+        String token = jjwtCodec.encode(claims);
+
+        assertThatThrownBy(() -> fast.decode(token)).isInstanceOf(ExpiredJwtException.class);
+        assertThatThrownBy(() -> fastCodec.decode(token)).isInstanceOf(ExpiredJwtException.class);
+        assertThatThrownBy(() -> jjwtCodec.decode(token)).isInstanceOf(ExpiredJwtException.class);
+    }
+
+    @Test
+    void 아직_유효하지_않은_토큰은_jjwt로_넘겨_PrematureJwtException() {
+        String token = sign(HEADER, "{\"sub\":\"user01\",\"exp\":" + future() + ",\"nbf\":" + (future() - 60) + "}");
+
+        assertThat(fast.decode(token)).isNull();
+        assertThatThrownBy(() -> fastCodec.decode(token)).isInstanceOf(PrematureJwtException.class);
+        assertThatThrownBy(() -> jjwtCodec.decode(token)).isInstanceOf(PrematureJwtException.class);
+    }
+
+    @Test
+    void 서명을_바꾸면_SignatureException() {
+        String token = fast.encode(claims("user01", "홍길동"));
+        String[] parts = token.split("\\.");
+        byte[] signature = Base64.getUrlDecoder().decode(parts[2]);
+        signature[0] ^= 1;
+        String tampered = parts[0] + "." + parts[1] + "." + BASE64URL.encodeToString(signature);
+
+        assertThatThrownBy(() -> fast.decode(tampered)).isInstanceOf(SignatureException.class);
+        assertSameOutcome(tampered);
+    }
+
+    @Test
+    void 클레임을_바꾸면_SignatureException() {
+        String[] parts = fast.encode(claims("user01", "홍길동")).split("\\.");
+        String payload = BASE64URL.encodeToString(new String(Base64.getUrlDecoder().decode(parts[1]), StandardCharsets.UTF_8)
+                .replace("ROLE_USER", "ROLE_ADMIN").getBytes(StandardCharsets.UTF_8));
+        String tampered = parts[0] + "." + payload + "." + parts[2];
+
+        assertThatThrownBy(() -> fast.decode(tampered)).isInstanceOf(SignatureException.class);
+        assertSameOutcome(tampered);
+    }
+
+    @Test
+    void 헤더를_바꾸면_jjwt로_넘겨_거절() {
+        String[] parts = fast.encode(claims("user01", "홍길동")).split("\\.");
+        String header = BASE64URL.encodeToString("{\"typ\":\"JWT\",\"alg\":\"HS512\",\"kid\":\"x\"}".getBytes(StandardCharsets.UTF_8));
+        String tampered = header + "." + parts[1] + "." + parts[2];
+
+        // kid가 있으면 ES256만 받음 (JwtCodec)
+        assertThat(fast.decode(tampered)).isNull();
+        assertThatThrownBy(() -> fastCodec.decode(tampered)).isInstanceOf(UnsupportedJwtException.class);
+        assertSameOutcome(tampered);
+    }
+
+    @Test
+    void 서명_없는_alg_none은_거절() {
+        String[] parts = fast.encode(claims("user01", "홍길동")).split("\\.");
+        String header = BASE64URL.encodeToString("{\"alg\":\"none\"}".getBytes(StandardCharsets.UTF_8));
+        String unsigned = header + "." + parts[1] + ".";
+
+        assertThat(fast.decode(unsigned)).isNull();
+        assertThatThrownBy(() -> fastCodec.decode(unsigned)).isInstanceOf(UnsupportedJwtException.class);
+        assertSameOutcome(unsigned);
+    }
+
+    @Test
+    void 다른_alg와_키로_서명한_토큰은_거절() throws GeneralSecurityException {
+        byte[] otherKey = new byte[32];
+        new SecureRandom().nextBytes(otherKey);
+        String header = BASE64URL.encodeToString("{\"typ\":\"JWT\",\"alg\":\"HS256\"}".getBytes(StandardCharsets.UTF_8));
+        String payload = BASE64URL.encodeToString(("{\"sub\":\"user01\",\"exp\":" + future() + "}").getBytes(StandardCharsets.UTF_8));
+        Mac mac = Mac.getInstance("HmacSHA256");
+        mac.init(Keys.hmacShaKeyFor(otherKey));
+        String token = header + "." + payload + "."
+                + BASE64URL.encodeToString(mac.doFinal((header + "." + payload).getBytes(StandardCharsets.US_ASCII)));
+
+        // kid가 없으면 HS512만 받음 (JwtCodec)
+        assertThat(fast.decode(token)).isNull();
+        assertThatThrownBy(() -> fastCodec.decode(token)).isInstanceOf(UnsupportedJwtException.class);
+        assertSameOutcome(token);
+    }
+
+    @Test
+    void 정규형이_아닌_Base64는_jjwt로_넘긴다() {
+        String[] parts = fast.encode(claims("user01", "홍길동")).split("\\.");
+        // 86자 서명의 마지막 문자는 4비트만 쓰므로 남는 비트를 채우면 정규형이 아님
+        char last = parts[2].charAt(parts[2].length() - 1);
+        String signature = parts[2].substring(0, parts[2].length() - 1) + (char) (last == 'A' ? 'B' : last ^ 1);
+        String nonCanonical = parts[0] + "." + parts[1] + "." + signature;
+        String invalidPayload = sign(HEADER, null, parts[1].substring(0, 10) + "*" + parts[1].substring(11));
+
+        assertThat(fast.decode(nonCanonical)).isNull();
+        assertSameOutcome(nonCanonical);
+        assertThat(fast.decode(invalidPayload)).isNull();
+        assertThatThrownBy(() -> fastCodec.decode(invalidPayload)).isInstanceOf(DecodingException.class);
+        assertSameOutcome(invalidPayload);
+    }
+
+    @Test
+    void 비ASCII_문자가_있는_토큰은_jjwt로_넘긴다() {
+        String token = fast.encode(claims("user01", "홍길동"));
+        String broken = token.substring(0, 40) + "한" + token.substring(41);
+
+        assertThat(fast.decode(broken)).isNull();
+        assertSameOutcome(broken);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 2, 4})
+    void 세그먼트_수가_3이_아니면_jjwt로_넘긴다(int segments) {
+        String[] parts = fast.encode(claims("user01", "홍길동")).split("\\.");
+        String token = switch (segments) {
+            case 1 -> parts[0];
+            case 2 -> parts[0] + "." + parts[1];
+            default -> parts[0] + "." + parts[1] + "." + parts[2] + "." + parts[2];
+        };
+
+        assertThat(fast.decode(token)).isNull();
+        assertThatThrownBy(() -> fastCodec.decode(token)).isInstanceOf(MalformedJwtException.class);
+        assertSameOutcome(token);
+    }
+
+    @Test
+    void 처리하지_않는_클레임이_있으면_jjwt로_검증한다() {
+        String payload = "{\"iss\":\"auth\",\"exp\":" + future() + ",\"sub\":\"user01\",\"uid\":7,"
+                + "\"roles\":[\"ROLE_USER\"],\"profile\":{\"age\":1},\"score\":1.5}";
+        String token = sign(HEADER, payload);
+
+        assertThat(fast.decode(token)).isNull();
+        TokenClaims claims = fastCodec.decode(token);
+        assertThat(claims).isEqualTo(jjwtCodec.decode(token));
+        assertThat(claims.subject()).isEqualTo("user01");
+        assertThat(claims.uid()).isEqualTo(7);
+    }
+
+    @Test
+    void 모르는_단순_클레임은_건너뛰고_읽는다() {
+        String payload = "{ \"sub\" : \"user01\", \"exp\" : " + future() + ", \"admin\" : false, \"n\" : -1.5e3, \"x\" : null }";
+        String token = sign(HEADER, payload);
+
+        assertThat(fast.decode(token)).isEqualTo(jjwtCodec.decode(token));
+    }
+
+    // jwt.codec=fast와 jwt.codec=jjwt가 같은 클레임을 돌려주거나 같은 타입의 예외를 던지는지
+    private void assertSameOutcome(String token) {
+        assertThat(outcome(fastCodec, token)).isEqualTo(outcome(jjwtCodec, token));
+    }
+
+    // 클레임 또는 예외 클래스
+    private static Object outcome(JwtCodec codec, String token) {
+        try {
+            return codec.decode(token);
+        } catch (RuntimeException e) {
+            return e.getClass();
+        }
+    }
+
+    private String sign(String header, String payload) {
+        return sign(header, payload, null);
+    }
+
+    // encodedPayload가 있으면 payload 대신 그대로 사용 (잘못된 Base64)
+    private String sign(String header, String payload, String encodedPayload) {
+        try {
+            String content = BASE64URL.encodeToString(header.getBytes(StandardCharsets.UTF_8)) + "."
+                    + (encodedPayload != null ? encodedPayload : BASE64URL.encodeToString(payload.getBytes(StandardCharsets.UTF_8)));
+            Mac mac = Mac.getInstance("HmacSHA512");
+            mac.init(Keys.hmacShaKeyFor(keyBytes));
+            return content + "." + BASE64URL.encodeToString(mac.doFinal(content.getBytes(StandardCharsets.US_ASCII)));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static JwtCodec codec(JwtCodecType type, byte[] keyBytes) {
+        JwtProperties properties = new JwtProperties();
+        properties.setIssuer("auth");
+        properties.setSecretKey(Base64.getEncoder().encodeToString(keyBytes));
+        properties.setCodec(type);
+        return new JwtCodec(properties);
+    }
+
+    private static TokenClaims claims(String subject, String userName) {
+        long now = Instant.now().getEpochSecond();
+        return new TokenClaims("auth", now, now + 3600, subject, 42, "ROLE_USER", userName, "c2Vzc2lvbg", 3L, "jti-1");
+    }
+
+    private static long future() {
+        return Instant.now().getEpochSecond() + 3600;
+    }
+
+    private static long past() {
+        return Instant.now().getEpochSecond() - 60;
+    }
+}
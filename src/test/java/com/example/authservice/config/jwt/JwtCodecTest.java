@@ -0,0 +1,190 @@
+package com.example.authservice.config.jwt;
+
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.UnsupportedJwtException;
+import io.jsonwebtoken.security.Keys;
+import io.jsonwebtoken.security.SignatureException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.SecureRandom;
+import java.security.Signature;
+import java.security.interfaces.ECPublicKey;
+import java.security.spec.ECGenParameterSpec;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+
+import static io.jsonwebtoken.SignatureAlgorithm.HS512;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+// jwt.signing(ES256 + kid) 서명/검증, JWKS, HS512 토큰과의 공존
+class JwtCodecTest {
+
+    private String secretKey;
+    private KeyPair current;
+    private KeyPair previous;
+
+    @BeforeEach
+    void setUp() throws GeneralSecurityException {
+        byte[] secret = new byte[64];
+        new SecureRandom().nextBytes(secret);
+        secretKey = Base64.getEncoder().encodeToString(secret);
+        current = p256();
+        previous = p256();
+    }
+
+    @Test
+    void kid가_있으면_ES256으로_서명하고_헤더에_kid를_넣는다() {
+        JwtCodec codec = codec("k2", current, null, null, JwtCodecType.JJWT);
+        TokenClaims claims = claims();
+
+        String token = codec.encode(claims);
+
+        String header = new String(Base64.getUrlDecoder().decode(token.substring(0, token.indexOf('.'))), StandardCharsets.UTF_8);
+        assertThat(header).contains("\"kid\":\"k2\"").contains("\"alg\":\"ES256\"");
+        assertThat(codec.decode(token)).isEqualTo(claims);
+    }
+
+    @Test
+    void JWKS_공개키로_서명을_검증할_수_있다() throws GeneralSecurityException {
+        JwtCodec codec = codec("k2", current, "k1", previous, JwtCodecType.JJWT);
+        String token = codec.encode(claims());
+
+        @SuppressWarnings("unchecked")
+        List<Map<String, String>> keys = (List<Map<String, String>>) codec.jwks().get("keys");
+
+        assertThat(keys).extracting(key -> key.get("kid")).containsExactly("k2", "k1");
+        Map<String, String> jwk = keys.get(0);
+        assertThat(jwk).containsEntry("kty", "EC").containsEntry("crv", "P-256").containsEntry("alg", "ES256");
+        ECPublicKey publicKey = (ECPublicKey) current.getPublic();
+        assertThat(new BigInteger(1, Base64.getUrlDecoder().decode(jwk.get("x")))).isEqualTo(publicKey.getW().getAffineX());
+        assertThat(new BigInteger(1, Base64.getUrlDecoder().decode(jwk.get("y")))).isEqualTo(publicKey.getW().getAffineY());
+        // auth-client와 같은 방식 (P1363 형식 서명)
+        int dot = token.lastIndexOf('.');
+        Signature verifier = Signature.getInstance("SHA256withECDSAinP1363Format");
+        verifier.initVerify(publicKey);
+        verifier.update(token.substring(0, dot).getBytes(StandardCharsets.US_ASCII));
+        assertThat(verifier.verify(Base64.getUrlDecoder().decode(token.substring(dot + 1)))).isTrue();
+    }
+
+    @Test
+    void kid가_없으면_JWKS는_비어_있다() {
+        assertThat(codec(null, null, null, null, JwtCodecType.JJWT).jwks()).isEqualTo(Map.of("keys", List.of()));
+    }
+
+    @Test
+    void 교체_전_키와_HS512로_발급한_토큰도_검증한다() {
+        TokenClaims claims = claims();
+        String legacy = codec(null, null, null, null, JwtCodecType.JJWT).encode(claims);
+        String beforeRotation = codec("k1", previous, null, null, JwtCodecType.JJWT).encode(claims);
+
+        for (JwtCodecType type : JwtCodecType.values()) {
+            JwtCodec codec = codec("k2", current, "k1", previous, type);
+            assertThat(codec.decode(legacy)).isEqualTo(claims);
+            assertThat(codec.decode(beforeRotation)).isEqualTo(claims);
+        }
+    }
+
+    @Test
+    void 모르는_kid는_거절() {
+        String token = codec("k9", p256Unchecked(), null, null, JwtCodecType.JJWT).encode(claims());
+
+        assertThatThrownBy(() -> codec("k2", current, null, null, JwtCodecType.JJWT).decode(token))
+                .isInstanceOf(SignatureException.class);
+    }
+
+    @Test
+    void kid가_있는_HS512_토큰은_거절() {
+        // 공개된 값(kid)만 바꿔 HMAC 검증으로 넘어가지 않도록
+        String token = Jwts.builder()
+                .setHeaderParam("kid", "k2")
+                .setSubject("user01")
+                .setExpiration(Date.from(Instant.now().plusSeconds(60)))
+                .signWith(Keys.hmacShaKeyFor(Base64.getDecoder().decode(secretKey)), HS512)
+                .compact();
+
+        assertThatThrownBy(() -> codec("k2", current, null, null, JwtCodecType.JJWT).decode(token))
+                .isInstanceOf(UnsupportedJwtException.class);
+    }
+
+    @Test
+    void 서명을_바꾼_ES256_토큰은_거절() {
+        JwtCodec codec = codec("k2", current, null, null, JwtCodecType.JJWT);
+        String token = codec.encode(claims());
+        String other = codec.encode(new TokenClaims("auth", 1, Instant.now().getEpochSecond() + 60, "admin",
+                1, "ROLE_ADMIN", null, null, null, null));
+        String tampered = other.substring(0, other.lastIndexOf('.')) + token.substring(token.lastIndexOf('.'));
+
+        assertThatThrownBy(() -> codec.decode(tampered)).isInstanceOf(SignatureException.class);
+    }
+
+    @Test
+    void 한_쌍이_아닌_키는_기동_시에_실패() {
+        JwtProperties properties = properties("k2", current, null, null, JwtCodecType.JJWT);
+        properties.getSigning().setPublicKey(pem(previous.getPublic().getEncoded()));
+
+        assertThatThrownBy(() -> new JwtCodec(properties)).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void PEM과_Base64_DER을_모두_읽는다() {
+        JwtProperties properties = properties("k2", current, null, null, JwtCodecType.JJWT);
+        properties.getSigning().setPrivateKey(pem(current.getPrivate().getEncoded()));
+
+        assertThat(new JwtCodec(properties).decode(new JwtCodec(properties).encode(claims()))).isEqualTo(claims());
+    }
+
+    private JwtCodec codec(String kid, KeyPair keyPair, String previousKid, KeyPair previousKeyPair, JwtCodecType type) {
+        return new JwtCodec(properties(kid, keyPair, previousKid, previousKeyPair, type));
+    }
+
+    private JwtProperties properties(String kid, KeyPair keyPair, String previousKid, KeyPair previousKeyPair, JwtCodecType type) {
+        JwtProperties properties = new JwtProperties();
+        properties.setIssuer("auth");
+        properties.setSecretKey(secretKey);
+        properties.setCodec(type);
+        if (kid != null) {
+            properties.getSigning().setKid(kid);
+            properties.getSigning().setPrivateKey(Base64.getEncoder().encodeToString(keyPair.getPrivate().getEncoded()));
+            properties.getSigning().setPublicKey(Base64.getEncoder().encodeToString(keyPair.getPublic().getEncoded()));
+        }
+        if (previousKid != null) {
+            properties.getSigning().setPreviousKid(previousKid);
+            properties.getSigning().setPreviousPublicKey(Base64.getEncoder().encodeToString(previousKeyPair.getPublic().getEncoded()));
+        }
+        return properties;
+    }
+
+    private static String pem(byte[] der) {
+        return "-----BEGIN KEY-----\n" + Base64.getMimeEncoder(64, "\n".getBytes(StandardCharsets.US_ASCII)).encodeToString(der)
+                + "\n-----END KEY-----\n";
+    }
+
+    private static KeyPair p256() throws GeneralSecurityException {
+        KeyPairGenerator generator = KeyPairGenerator.getInstance("EC");
+        generator.initialize(new ECGenParameterSpec("secp256r1"));
+        return generator.generateKeyPair();
+    }
+
+    private static KeyPair p256Unchecked() {
+        try {
+            return p256();
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static TokenClaims claims() {
+        long now = Instant.now().getEpochSecond();
+        return new TokenClaims("auth", now, now + 3600, "user01", 42, "ROLE_USER", "홍길동", "c2Vzc2lvbg", 3L, "jti-1");
+    }
+}
@@ -0,0 +1,115 @@
+package com.example.authservice.reactive;
+
+import com.example.authservice.config.jwt.SessionProperties;
+import com.example.authservice.config.metrics.AuthMetrics;
+import com.example.authservice.config.redis.RefreshRotation;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * 앱 RefreshCoordinator의 reactive 버전 (같은 키/스크립트, RefreshRotation).
+ * 두 스택에 같은 refreshToken이 동시에 와도 한 번만 발급되고, 회전/재사용 판단도 같이 맞는다.
+ * 발급 대기는 스레드를 재우지 않고 Mono.delay로 다시 확인한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ReactiveRefreshCoordinator {
+
+    private static final Duration POLL_INTERVAL = Duration.ofMillis(20);
+
+    private final ReactiveStringRedisTemplate redisTemplate;
+    private final ReactiveSessionRegistry sessionRegistry;
+    private final SessionProperties properties;
+    private final AuthMetrics authMetrics;
+
+    // 발급 경로 Redis 호출의 응답 대기 상한, 락 ttl의 기준 (RefreshRotation.lockTtl)
+    @Value("${spring.data.redis.timeout:2s}")
+    private Duration commandTimeout;
+
+    public record Issued(ReactiveSessionRegistry.Session session, RefreshRotation.Pair pair, Instant expiresAt) {
+    }
+
+    // 비어 있으면 만료(2): 재사용 감지로 세션을 닫았거나, grace 쌍을 돌려주기 전에 세션/세대가 끝남
+    public Mono<RefreshRotation.Pair> exchange(String owner, String sessionId, long generation, String refreshToken,
+                                               Mono<Issued> issue) {
+        List<String> keys = RefreshRotation.claimKeys(owner, sessionId, refreshToken);
+        List<String> args = List.of(
+                RefreshRotation.fingerprint(refreshToken),
+                String.valueOf(RefreshRotation.lockTtl(commandTimeout, properties.getRefreshLockMargin()).toMillis()),
+                properties.isRefreshReuseDetection() ? "1" : "0");
+        long deadline = System.nanoTime() + properties.getRefreshLockWait().toNanos();
+        return claim(keys, args, deadline).flatMap(claim -> {
+            if (RefreshRotation.CLAIMED.equals(claim)) {
+                return issue(owner, refreshToken, keys.get(1), issue);
+            }
+            if (RefreshRotation.REUSED.equals(claim)) {
+                return revoke(owner, sessionId).then(Mono.empty());
+            }
+            return stillValid(owner, sessionId, generation).flatMap(valid -> {
+                authMetrics.recordRefresh(valid ? "grace" : "revoked");
+                return valid ? Mono.just(RefreshRotation.decode(claim)) : Mono.empty();
+            });
+        });
+    }
+
+    // RefreshCoordinator.stillValid와 같은 확인 (세대, 세션 활성)
+    private Mono<Boolean> stillValid(String owner, String sessionId, long generation) {
+        return sessionRegistry.generation(owner).flatMap(current -> {
+            if (generation < current) {
+                return Mono.just(false);
+            }
+            return sessionId != null ? sessionRegistry.isActive(owner, sessionId) : Mono.just(true);
+        });
+    }
+
+    // 다른 요청이 발급 중(pending)이면 refresh-lock-wait까지 다시 확인
+    private Mono<String> claim(List<String> keys, List<String> args, long deadline) {
+        return redisTemplate.execute(RefreshRotation.CLAIM, keys, args).next().flatMap(claim -> {
+            if (!RefreshRotation.PENDING.equals(claim)) {
+                return Mono.just(claim);
+            }
+            if (System.nanoTime() > deadline) {
+                authMetrics.recordRefresh("contended");
+                return Mono.error(new IllegalStateException("refreshToken 발급 대기 시간 초과"));
+            }
+            return Mono.delay(POLL_INTERVAL).then(claim(keys, args, deadline));
+        });
+    }
+
+    private Mono<RefreshRotation.Pair> issue(String owner, String refreshToken, String graceKey, Mono<Issued> issue) {
+        return issue
+                .onErrorResume(e -> redisTemplate.execute(RefreshRotation.RELEASE, List.of(graceKey))
+                        .then(Mono.error(e)))
+                .flatMap(issued -> {
+                    RefreshRotation.Pair pair = issued.pair();
+                    long ttlMillis = Math.max(1, Duration.between(Instant.now(), issued.expiresAt()).toMillis());
+                    return redisTemplate.execute(RefreshRotation.COMMIT,
+                                    RefreshRotation.commitKeys(owner, issued.session().id(), refreshToken),
+                                    List.of(RefreshRotation.fingerprint(pair.refreshToken()),
+                                            RefreshRotation.encode(pair),
+                                            String.valueOf(properties.getRefreshGrace().toMillis()),
+                                            String.valueOf(ttlMillis)))
+                            .then(Mono.fromCallable(() -> {
+                                authMetrics.recordRefresh("rotated");
+                                return pair;
+                            }));
+                });
+    }
+
+    private Mono<Void> revoke(String owner, String sessionId) {
+        log.warn("refreshToken 재사용 감지, 세션 종료 : {} / {}", owner, sessionId);
+        authMetrics.recordRefresh("reused");
+        return Mono.when(
+                sessionRegistry.close(owner, sessionId),
+                redisTemplate.delete(RefreshRotation.currentKey(owner, sessionId)));
+    }
+}
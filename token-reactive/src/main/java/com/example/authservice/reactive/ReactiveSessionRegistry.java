@@ -0,0 +1,102 @@
+package com.example.authservice.reactive;
+
+import com.example.authservice.config.jwt.SessionProperties;
+import com.github.benmanes.caffeine.cache.AsyncLoadingCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+import java.security.SecureRandom;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 앱 SessionRegistry의 reactive 버전 (같은 키: {owner}:sessions, {owner}:gen).
+ * 토큰 엔드포인트에 필요한 세대 조회, 세션 활성 확인, 재발급 시 세션 연장/등록, 재사용 감지 시 닫기만 있다 (로그아웃은 앱에서).
+ */
+@Service
+public class ReactiveSessionRegistry {
+
+    private static final SecureRandom RANDOM = new SecureRandom();
+
+    private final ReactiveStringRedisTemplate redisTemplate;
+    private final SessionProperties properties;
+    private final AsyncLoadingCache<String, Long> generations;
+
+    public ReactiveSessionRegistry(ReactiveStringRedisTemplate redisTemplate, SessionProperties properties) {
+        this.redisTemplate = redisTemplate;
+        this.properties = properties;
+        // 로더가 Redis 응답을 기다리지 않고 future를 돌려주므로 이벤트 루프를 막지 않음
+        this.generations = Caffeine.newBuilder()
+                .expireAfterWrite(properties.getGenerationCacheTtl())
+                .maximumSize(properties.getGenerationCacheMaxSize())
+                .buildAsync((owner, executor) -> redisTemplate.opsForValue().get(generationKey(owner))
+                        .map(Long::parseLong)
+                        .defaultIfEmpty(0L)
+                        .toFuture());
+    }
+
+    public record Session(String id, long generation) {
+    }
+
+    // sid가 없는 기존 refreshToken 재발급 시 새 세션으로 등록
+    public Mono<Session> open(String owner, Instant expiresAt) {
+        byte[] id = new byte[12];
+        RANDOM.nextBytes(id);
+        return touch(owner, Base64.getUrlEncoder().withoutPadding().encodeToString(id), expiresAt);
+    }
+
+    public Mono<Long> generation(String owner) {
+        return Mono.fromFuture(() -> generations.get(owner));
+    }
+
+    // 앱의 모든 기기 로그아웃 (ReactiveUserEventListener), 세대는 올라가기만 하므로 큰 값으로 합침
+    public void advance(String owner, long generation) {
+        generations.synchronous().asMap().merge(owner, generation, Math::max);
+    }
+
+    // 탈퇴 등으로 세대를 다시 읽어야 할 때
+    public void evict(String owner) {
+        generations.synchronous().invalidate(owner);
+    }
+
+    public Mono<Boolean> isActive(String owner, String sessionId) {
+        return redisTemplate.opsForZSet().score(sessionsKey(owner), sessionId)
+                .map(expiresAt -> expiresAt > Instant.now().getEpochSecond())
+                .defaultIfEmpty(false);
+    }
+
+    // refreshToken 재사용 감지 시 (ReactiveRefreshCoordinator)
+    public Mono<Long> close(String owner, String sessionId) {
+        return redisTemplate.opsForZSet().remove(sessionsKey(owner), sessionId);
+    }
+
+    // SessionRegistry.touch와 같은 명령 순서, 한 연결에 이어서 보내므로 응답을 기다리는 왕복은 한 번
+    public Mono<Session> touch(String owner, String sessionId, Instant expiresAt) {
+        String key = sessionsKey(owner);
+        long now = Instant.now().getEpochSecond();
+        int max = properties.getMaxPerUser();
+        return Mono.zip(
+                        redisTemplate.opsForZSet().add(key, sessionId, expiresAt.getEpochSecond()),
+                        redisTemplate.opsForZSet().removeRangeByScore(key, Range.closed(Double.NEGATIVE_INFINITY, (double) now)),
+                        redisTemplate.opsForZSet().removeRange(key, Range.closed(0L, (long) -(max + 1))),
+                        redisTemplate.expireAt(key, expiresAt),
+                        redisTemplate.opsForValue().get(generationKey(owner)).map(Long::parseLong).defaultIfEmpty(0L))
+                .map(results -> {
+                    long generation = results.getT5();
+                    generations.put(owner, CompletableFuture.completedFuture(generation));
+                    return new Session(sessionId, generation);
+                });
+    }
+
+    private static String sessionsKey(String owner) {
+        return "{" + owner + "}:sessions";
+    }
+
+    private static String generationKey(String owner) {
+        return "{" + owner + "}:gen";
+    }
+}
@@ -0,0 +1,30 @@
+package com.example.authservice.reactive;
+
+import com.example.authservice.config.jwt.JwtCodec;
+import com.example.authservice.config.jwt.JwtProperties;
+import com.example.authservice.config.jwt.SessionProperties;
+import com.example.authservice.config.jwt.TokenStorageProperties;
+import com.example.authservice.config.metrics.AuthMetrics;
+import com.example.authservice.config.redis.UserEventProperties;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Import;
+
+/**
+ * 토큰 엔드포인트(validToken/claims/refresh)의 reactive 버전.
+ * <p>
+ * 세 엔드포인트는 DB 없이 JWT 서명 검증과 Redis 조회/쓰기만 하므로 reactor-netty 이벤트 루프에서
+ * reactive Lettuce로 처리한다. 요청/응답 형식, Redis 키와 세션 인코딩(token.redis-session), 세션 세대 규칙은 앱과 같다.
+ * 앱의 모든 기기 로그아웃은 회원 변경 이벤트 스트림(user-events)으로 받아 세대 캐시에 바로 반영한다.
+ * 로그인/가입 등 나머지 엔드포인트는 앱(서블릿 스택)에 남는다.
+ */
+@SpringBootApplication
+@EnableConfigurationProperties({JwtProperties.class, TokenStorageProperties.class, SessionProperties.class, UserEventProperties.class})
+@Import({AuthMetrics.class, JwtCodec.class})
+public class ReactiveTokenApplication {
+
+    public static void main(String[] args) {
+        SpringApplication.run(ReactiveTokenApplication.class, args);
+    }
+}
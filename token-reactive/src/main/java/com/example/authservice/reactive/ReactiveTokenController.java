@@ -0,0 +1,40 @@
+package com.example.authservice.reactive;
+
+import com.example.authservice.dto.ClaimsRequestDTO;
+import com.example.authservice.dto.ClaimsResponseDTO;
+import com.example.authservice.dto.RefreshRequestDTO;
+import com.example.authservice.dto.RefreshTokenResponseDTO;
+import com.example.authservice.dto.ValidTokenRequestDTO;
+import com.example.authservice.dto.ValidTokenResponseDTO;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Mono;
+
+// 앱 TokenController와 같은 경로/요청/응답 (게이트웨이에서 이 세 경로만 이 앱으로 보내면 됨)
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/auths")
+public class ReactiveTokenController {
+    private final ReactiveTokenService tokenService;
+
+    @PostMapping("/refresh")
+    public Mono<RefreshTokenResponseDTO> refreshToken(@RequestBody RefreshRequestDTO refreshRequestDTO) {
+        return tokenService.refreshToken(refreshRequestDTO.getRefreshToken());
+    }
+
+    @PostMapping("/validToken")
+    public Mono<ValidTokenResponseDTO> validToken(@RequestBody ValidTokenRequestDTO validTokenRequestDTO) {
+        return tokenService.validToken("accessToken", validTokenRequestDTO.getToken())
+                .map(status -> ValidTokenResponseDTO.builder()
+                        .statusNum(status)
+                        .build());
+    }
+
+    @PostMapping("/claims")
+    public Mono<ClaimsResponseDTO> claims(@RequestBody ClaimsRequestDTO claimsRequestDTO) {
+        return tokenService.getAuthentication(claimsRequestDTO.getToken());
+    }
+}
@@ -0,0 +1,181 @@
+package com.example.authservice.reactive;
+
+import com.example.authservice.config.jwt.JwtCodec;
+import com.example.authservice.config.jwt.JwtProperties;
+import com.example.authservice.config.jwt.TokenClaims;
+import com.example.authservice.config.metrics.AuthMetrics;
+import com.example.authservice.config.redis.RefreshRotation;
+import com.example.authservice.dto.ClaimsResponseDTO;
+import com.example.authservice.dto.RefreshTokenResponseDTO;
+import io.jsonwebtoken.ExpiredJwtException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.List;
+
+import static com.example.authservice.reactive.ReactiveTokenStore.ACCESS_TOKEN;
+import static com.example.authservice.reactive.ReactiveTokenStore.REFRESH_TOKEN;
+
+/**
+ * 앱 TokenService/TokenProviderService의 validToken, getAuthentication, refreshToken과 같은 결과를 내는 reactive 버전.
+ * JWT 서명/검증은 CPU 작업이라 이벤트 루프에서 바로 하고, Redis만 논블로킹으로 기다린다.
+ */
+@Slf4j
+@Service
+public class ReactiveTokenService {
+
+    private static final SecureRandom RANDOM = new SecureRandom();
+
+    private final JwtProperties jwtProperties;
+    private final ReactiveTokenStore tokenStore;
+    private final ReactiveSessionRegistry sessionRegistry;
+    private final ReactiveRefreshCoordinator refreshCoordinator;
+    private final AuthMetrics authMetrics;
+    private final JwtCodec jwtCodec;
+
+    public ReactiveTokenService(JwtProperties jwtProperties, ReactiveTokenStore tokenStore,
+                                ReactiveSessionRegistry sessionRegistry, ReactiveRefreshCoordinator refreshCoordinator,
+                                AuthMetrics authMetrics, JwtCodec jwtCodec) {
+        this.jwtProperties = jwtProperties;
+        this.tokenStore = tokenStore;
+        this.sessionRegistry = sessionRegistry;
+        this.refreshCoordinator = refreshCoordinator;
+        this.authMetrics = authMetrics;
+        this.jwtCodec = jwtCodec;
+    }
+
+    public Mono<Integer> validToken(String tokenType, String token) {
+        long start = System.nanoTime();
+        return checkToken(tokenType, token)
+                .doOnNext(status -> authMetrics.recordValidation(tokenType, isSocialToken(token), status, System.nanoTime() - start));
+    }
+
+    public Mono<ClaimsResponseDTO> getAuthentication(String token) {
+        return Mono.fromCallable(() -> getClaims(token))
+                .map(claims -> ClaimsResponseDTO.builder()
+                        .userId(claims.subject())
+                        .roles(List.of(claims.role()))
+                        .build());
+    }
+
+    public Mono<RefreshTokenResponseDTO> refreshToken(String refreshToken) {
+        return validToken(REFRESH_TOKEN, refreshToken).flatMap(status -> {
+            if (status != 1) {
+                return Mono.just(refreshResponse(status, null, null));
+            }
+            String[] splitTokens = refreshToken.split(":");
+            if (isSocialToken(refreshToken)) {
+                // 소셜 토큰 재발행은 프론트에서 하므로 저장된 토큰을 그대로 돌려줌
+                String owner = splitTokens[0].toUpperCase() + ":" + splitTokens[1];
+                return Mono.zip(
+                                tokenStore.find(owner, ACCESS_TOKEN).defaultIfEmpty(""),
+                                tokenStore.find(owner, REFRESH_TOKEN).defaultIfEmpty(""))
+                        .map(tokens -> refreshResponse(1, emptyToNull(tokens.getT1()), emptyToNull(tokens.getT2())));
+            }
+
+            TokenClaims claims = getClaims(refreshToken);
+            String owner = "USER:" + claims.subject();
+            String sessionId = claims.sessionId();
+            // 같은 세션(기기)의 만료만 연장, sid 없는 기존 토큰은 새 세션으로 등록
+            Mono<ReactiveRefreshCoordinator.Issued> issue = Mono.defer(() -> {
+                Instant expiresAt = Instant.now().plus(Duration.ofDays(2));
+                Mono<ReactiveSessionRegistry.Session> session = sessionId != null
+                        ? sessionRegistry.touch(owner, sessionId, expiresAt)
+                        : sessionRegistry.open(owner, expiresAt);
+                return session.flatMap(current -> {
+                    String newAccessToken = makeToken(claims, Duration.ofHours(2), current);
+                    String newRefreshToken = makeToken(claims, Duration.ofDays(2), current);
+                    return tokenStore.save(owner, newAccessToken, newRefreshToken)
+                            .thenReturn(new ReactiveRefreshCoordinator.Issued(
+                                    current, new RefreshRotation.Pair(newAccessToken, newRefreshToken), expiresAt));
+                });
+            });
+            // 회전된 refreshToken 재사용(세션 종료)이나 교환 중 로그아웃이면 만료(2)
+            long generation = claims.generation() != null ? claims.generation() : 0;
+            return refreshCoordinator.exchange(owner, sessionId, generation, refreshToken, issue)
+                    .map(pair -> refreshResponse(1, pair.accessToken(), pair.refreshToken()))
+                    .defaultIfEmpty(refreshResponse(2, null, null));
+        });
+    }
+
+    private Mono<Integer> checkToken(String tokenType, String token) {
+        String[] splitTokenArr = token.split(":");
+        if (isSocialToken(token)) {
+            return tokenStore.status(splitTokenArr[0].toUpperCase() + ":" + splitTokenArr[1], tokenType, token);
+        }
+        TokenClaims claims;
+        try {
+            claims = getClaims(token);
+        } catch (ExpiredJwtException e) {
+            log.debug("Token이 만료되었습니다.");
+            return Mono.just(2);
+        } catch (Exception e) {
+            log.debug("Token 복호화 에러 : {}", e.getMessage());
+            return Mono.just(3);
+        }
+        return sessionStatus(tokenType, claims);
+    }
+
+    // 모든 기기 로그아웃 이전 세대의 토큰, 로그아웃/밀려난 세션의 refreshToken은 만료(2)
+    private Mono<Integer> sessionStatus(String tokenType, TokenClaims claims) {
+        String owner = "USER:" + claims.subject();
+        long generation = claims.generation() != null ? claims.generation() : 0;
+        String sessionId = claims.sessionId();
+        return sessionRegistry.generation(owner).flatMap(current -> {
+            if (generation < current) {
+                return Mono.just(2);
+            }
+            if (REFRESH_TOKEN.equals(tokenType) && sessionId != null) {
+                return sessionRegistry.isActive(owner, sessionId).map(active -> active ? 1 : 2);
+            }
+            return Mono.just(1);
+        });
+    }
+
+    private static boolean isSocialToken(String token) {
+        return token.startsWith("naver:") || token.startsWith("kakao:") || token.startsWith("google:");
+    }
+
+    // 앱 makeToken과 같은 헤더/클레임 순서
+    private String makeToken(TokenClaims source, Duration expiration, ReactiveSessionRegistry.Session session) {
+        long now = System.currentTimeMillis();
+        return authMetrics.jwtSign().record(() -> jwtCodec.encode(new TokenClaims(
+                jwtProperties.getIssuer(),
+                now / 1000,
+                (now + expiration.toMillis()) / 1000,
+                source.subject(),
+                source.uid(),
+                source.role(),
+                source.userName(),
+                session.id(),
+                session.generation(),
+                newTokenId())));
+    }
+
+    private static String newTokenId() {
+        byte[] id = new byte[12];
+        RANDOM.nextBytes(id);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(id);
+    }
+
+    private TokenClaims getClaims(String token) {
+        return authMetrics.jwtParse().record(() -> jwtCodec.decode(token));
+    }
+
+    private static RefreshTokenResponseDTO refreshResponse(int status, String accessToken, String refreshToken) {
+        return RefreshTokenResponseDTO.builder()
+                .status(status)
+                .accessToken(accessToken)
+                .refreshToken(refreshToken)
+                .build();
+    }
+
+    private static String emptyToNull(String value) {
+        return value.isEmpty() ? null : value;
+    }
+}
@@ -0,0 +1,93 @@
+package com.example.authservice.reactive;
+
+import com.example.authservice.config.jwt.RedisSessionEncoding;
+import com.example.authservice.config.jwt.TokenStorageProperties;
+import com.example.authservice.config.redis.TokenSession;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+
+/**
+ * Redis 토큰 세션 읽기/쓰기 (앱 TokenProviderService의 saveTokensToRedis / storedTokenStatus / get*TokenFromRedis와 같은 키와 형식).
+ * 복제본 읽기는 하지 않는다 (모든 명령이 primary 연결 하나로 파이프라인됨).
+ */
+@Component
+@RequiredArgsConstructor
+public class ReactiveTokenStore {
+
+    static final String ACCESS_TOKEN = "accessToken";
+    static final String REFRESH_TOKEN = "refreshToken";
+    private static final Duration ACCESS_TOKEN_TTL = Duration.ofHours(2);
+    private static final Duration REFRESH_TOKEN_TTL = Duration.ofDays(7);
+
+    private final ReactiveStringRedisTemplate redisTemplate;
+    private final TokenStorageProperties tokenStorageProperties;
+
+    public Mono<Void> save(String owner, String accessToken, String refreshToken) {
+        if (tokenStorageProperties.getRedisSession() == RedisSessionEncoding.COMPACT) {
+            Instant now = Instant.now();
+            ByteBuffer key = bytes(TokenSession.key(owner));
+            Map<ByteBuffer, ByteBuffer> fields = Map.of(
+                    bytes(TokenSession.ACCESS_FIELD), ByteBuffer.wrap(TokenSession.encode(accessToken, now.plus(ACCESS_TOKEN_TTL))),
+                    bytes(TokenSession.REFRESH_FIELD), ByteBuffer.wrap(TokenSession.encode(refreshToken, now.plus(REFRESH_TOKEN_TTL))));
+            return redisTemplate.execute(connection -> Mono.zip(
+                            connection.hashCommands().hMSet(key, fields),
+                            connection.keyCommands().expire(key, REFRESH_TOKEN_TTL)))
+                    .then();
+        }
+        return Mono.when(
+                redisTemplate.opsForValue().set(tokenKey(owner, ACCESS_TOKEN), accessToken, ACCESS_TOKEN_TTL),
+                redisTemplate.opsForValue().set(tokenKey(owner, REFRESH_TOKEN), refreshToken, REFRESH_TOKEN_TTL));
+    }
+
+    // 1 일치, 2 없음/만료, 3 불일치
+    public Mono<Integer> status(String owner, String tokenType, String token) {
+        boolean refresh = REFRESH_TOKEN.equals(tokenType);
+        if (!refresh && !ACCESS_TOKEN.equals(tokenType)) {
+            return Mono.just(2);
+        }
+        Mono<Integer> strings = find(owner, tokenType)
+                .map(found -> found.equals(token) ? 1 : 3)
+                .defaultIfEmpty(2);
+        if (tokenStorageProperties.getRedisSession() == RedisSessionEncoding.COMPACT) {
+            ByteBuffer key = bytes(TokenSession.key(owner));
+            ByteBuffer field = bytes(refresh ? TokenSession.REFRESH_FIELD : TokenSession.ACCESS_FIELD);
+            return redisTemplate.execute(connection -> connection.hashCommands().hGet(key, field))
+                    .next()
+                    .map(value -> TokenSession.check(toArray(value), token, Instant.now()))
+                    .switchIfEmpty(strings);
+        }
+        return strings;
+    }
+
+    // 원문 문자열 키 (token.redis-session=compact면 전환 전 세션만)
+    public Mono<String> find(String owner, String kind) {
+        return redisTemplate.opsForValue().get(tokenKey(owner, kind))
+                .switchIfEmpty(redisTemplate.opsForValue().get(legacyTokenKey(owner, kind)));
+    }
+
+    private static String tokenKey(String owner, String kind) {
+        return "{" + owner + "}:" + kind;
+    }
+
+    private static String legacyTokenKey(String owner, String kind) {
+        return owner + ":" + kind;
+    }
+
+    private static ByteBuffer bytes(String value) {
+        return ByteBuffer.wrap(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static byte[] toArray(ByteBuffer buffer) {
+        byte[] bytes = new byte[buffer.remaining()];
+        buffer.get(bytes);
+        return bytes;
+    }
+}
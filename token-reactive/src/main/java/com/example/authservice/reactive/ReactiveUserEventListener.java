@@ -0,0 +1,33 @@
+package com.example.authservice.reactive;
+
+import com.example.authservice.config.redis.UserEvent;
+import com.example.authservice.config.redis.UserEventProperties;
+import com.example.authservice.config.redis.UserEventSubscription;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+
+/**
+ * 앱이 보내는 회원 변경 이벤트로 세대 캐시를 갱신 (앱 UserEventListener의 세대 부분).
+ * 컨테이너 스레드에서 읽으므로 이벤트 루프와 무관하다.
+ */
+@Service
+public class ReactiveUserEventListener extends UserEventSubscription {
+
+    private final ReactiveSessionRegistry sessionRegistry;
+
+    public ReactiveUserEventListener(RedisConnectionFactory connectionFactory, StringRedisTemplate redisTemplate,
+                                     UserEventProperties properties, ReactiveSessionRegistry sessionRegistry) {
+        super(connectionFactory, redisTemplate, properties);
+        this.sessionRegistry = sessionRegistry;
+    }
+
+    @Override
+    protected void onEvent(UserEvent event) {
+        if (event.type() == UserEvent.Type.LOGOUT_ALL && event.generation() != null) {
+            sessionRegistry.advance(event.owner(), event.generation());
+        } else if (event.type() == UserEvent.Type.DELETE) {
+            sessionRegistry.evict(event.owner());
+        }
+    }
+}